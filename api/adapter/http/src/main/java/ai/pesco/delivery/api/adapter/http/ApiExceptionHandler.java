@@ -0,0 +1,35 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps request validation failures and duplicate ids to problem details. Illegal argument
+ * and state failures from deeper layers are bugs or persistence conflicts rather than bad
+ * requests: they are logged and answered with a generic server error, so their messages
+ * never reach the client.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ProblemDetail handleInvalidRequest(InvalidRequestException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ProblemDetail handleDuplicateKey(DuplicateKeyException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Resource with this id already exists");
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
+    public ProblemDetail handleUnexpected(RuntimeException exception) {
+        log.error("Request failed", exception);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Request could not be processed");
+    }
+}
@@ -0,0 +1,19 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a bulk response: the created order, or the reason the input line was rejected.
+ * {@code line} is the 1-based line number of the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOrderResult(long line, OrderResponse order, String error) {
+
+    static BulkOrderResult created(long line, OrderResponse order) {
+        return new BulkOrderResult(line, order, null);
+    }
+
+    static BulkOrderResult rejected(long line, String error) {
+        return new BulkOrderResult(line, null, error);
+    }
+}
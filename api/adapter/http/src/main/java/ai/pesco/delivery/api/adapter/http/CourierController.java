@@ -0,0 +1,83 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.application.projection.CourierView;
+import ai.pesco.delivery.core.application.projection.DeliveryProjection;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/api/v1/couriers")
+public class CourierController {
+    private static final int FLUSH_EVERY = 1000;
+
+    private final CourierRepository courierRepository;
+    private final ObjectMapper objectMapper;
+    private final DeliveryProjection projection;
+
+    public CourierController(CourierRepository courierRepository, ObjectMapper objectMapper,
+                             DeliveryProjection projection) {
+        this.courierRepository = courierRepository;
+        this.objectMapper = objectMapper;
+        this.projection = projection;
+    }
+
+    @PostMapping
+    public ResponseEntity<CourierResponse> addCourier(@RequestBody CreateCourierRequest request) {
+        CreateCourierRequest.validated(request);
+        Courier courier = new Courier(request.name(), request.transportName(), request.speed(),
+                Location.of(request.x(), request.y()));
+        courierRepository.save(courier);
+        return ResponseEntity.created(URI.create("/api/v1/couriers/" + courier.getId()))
+                .body(CourierResponse.from(courier));
+    }
+
+    /**
+     * Streams the fleet as NDJSON straight from the repository cursor, or the couriers
+     * with the given status from the read model.
+     */
+    @GetMapping(produces = NdjsonWriter.MEDIA_TYPE)
+    public void listCouriers(@RequestParam(required = false) CourierStatus status,
+                             HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NdjsonWriter.MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        if (status != null) {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+                for (CourierView view : projection.findCouriers(status)) {
+                    writer.write(CourierResponse.from(view));
+                }
+            }
+            return;
+        }
+
+        try (Stream<Courier> couriers = courierRepository.streamAll();
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            int written = 0;
+            for (Iterator<Courier> iterator = couriers.iterator(); iterator.hasNext(); ) {
+                writer.write(CourierResponse.from(iterator.next()));
+                if (++written % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+}
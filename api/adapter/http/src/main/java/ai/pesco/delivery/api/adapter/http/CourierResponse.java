@@ -0,0 +1,24 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.projection.CourierView;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CourierResponse(UUID id, String name, String transportName, int speed, int x, int y,
+                              CourierStatus status, UUID orderId) {
+
+    public static CourierResponse from(Courier courier) {
+        return new CourierResponse(courier.getId(), courier.getName(), courier.getTransport().getName(),
+                courier.getTransport().getSpeed(), courier.getLocation().getX(), courier.getLocation().getY(),
+                courier.getStatus(), courier.getOrderId());
+    }
+
+    public static CourierResponse from(CourierView view) {
+        return new CourierResponse(view.id(), view.name(), view.transportName(), view.speed(),
+                view.location().getX(), view.location().getY(), view.status(), view.orderId());
+    }
+}
@@ -0,0 +1,24 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+
+public record CreateCourierRequest(String name, String transportName, int speed, int x, int y) {
+
+    static CreateCourierRequest validated(CreateCourierRequest request) {
+        if (request == null) {
+            throw new InvalidRequestException("Courier request cannot be null");
+        }
+        if (request.name() == null || request.name().isBlank()) {
+            throw new InvalidRequestException("Name cannot be null or empty");
+        }
+        if (request.transportName() == null || request.transportName().isBlank()) {
+            throw new InvalidRequestException("Transport name cannot be null or empty");
+        }
+        if (request.speed() < Transport.MIN_SPEED || request.speed() > Transport.MAX_SPEED) {
+            throw new InvalidRequestException("Speed must be between " + Transport.MIN_SPEED + " and " + Transport.MAX_SPEED);
+        }
+        CreateOrderRequest.checkCoordinate("x", request.x());
+        CreateOrderRequest.checkCoordinate("y", request.y());
+        return request;
+    }
+}
@@ -0,0 +1,26 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.UUID;
+
+/**
+ * A missing {@code orderId} is generated by the server.
+ */
+public record CreateOrderRequest(UUID orderId, int x, int y) {
+
+    static CreateOrderRequest validated(CreateOrderRequest request) {
+        if (request == null) {
+            throw new InvalidRequestException("Order request cannot be null");
+        }
+        checkCoordinate("x", request.x());
+        checkCoordinate("y", request.y());
+        return request;
+    }
+
+    static void checkCoordinate(String name, int value) {
+        if (value < Location.MIN_VALUE || value > Location.MAX_VALUE) {
+            throw new InvalidRequestException(name + " must be between " + Location.MIN_VALUE + " and " + Location.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ai.pesco.delivery.api.adapter.http;
+
+/**
+ * A request body that failed validation; answered with 400.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes one JSON document per line straight to the response, so a streamed response
+ * never holds more than the current element.
+ */
+final class NdjsonWriter implements AutoCloseable {
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final JsonGenerator generator;
+
+    NdjsonWriter(ObjectMapper mapper, OutputStream out) throws IOException {
+        this.generator = mapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    void write(Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+
+    void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,162 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.dispatch.OrderIntake;
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.application.projection.DeliveryProjection;
+import ai.pesco.delivery.core.application.projection.OrderView;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderController {
+    static final int BULK_CHUNK_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderIntake intake;
+    private final ObjectMapper objectMapper;
+    private final DeliveryProjection projection;
+    private final ObjectReader requestReader;
+
+    public OrderController(OrderRepository orderRepository, OrderIntake intake, ObjectMapper objectMapper,
+                           DeliveryProjection projection) {
+        this.orderRepository = orderRepository;
+        this.intake = intake;
+        this.objectMapper = objectMapper;
+        this.projection = projection;
+        this.requestReader = objectMapper.readerFor(CreateOrderRequest.class)
+                .with(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    }
+
+    @PostMapping
+    public ResponseEntity<OrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
+        Order order = toOrder(CreateOrderRequest.validated(request));
+        intake.create(order);
+        return ResponseEntity.created(URI.create("/api/v1/orders/" + order.getId()))
+                .body(OrderResponse.from(order));
+    }
+
+    /**
+     * Answers from the read model and falls back to the repository for orders it has not seen.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID id) {
+        Optional<OrderResponse> projected = projection.findOrder(id).map(OrderResponse::from);
+        return projected.or(() -> orderRepository.findById(id).map(OrderResponse::from))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams the orders with the given status from the read model as NDJSON.
+     */
+    @GetMapping(produces = NdjsonWriter.MEDIA_TYPE)
+    public void listOrders(@RequestParam OrderStatus status, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NdjsonWriter.MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            for (OrderView view : projection.findOrders(status)) {
+                writer.write(OrderResponse.from(view));
+            }
+        }
+    }
+
+    /**
+     * Accepts one {@link CreateOrderRequest} per line and answers with one {@link BulkOrderResult}
+     * per non-empty line. Orders are saved in chunks as the body is read, and the results of
+     * a chunk are flushed before the next one is read, so neither side is buffered in full.
+     */
+    @PostMapping(path = "/bulk", consumes = NdjsonWriter.MEDIA_TYPE, produces = NdjsonWriter.MEDIA_TYPE)
+    public void createOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NdjsonWriter.MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            List<Order> orders = new ArrayList<>(BULK_CHUNK_SIZE);
+            List<Long> lines = new ArrayList<>(BULK_CHUNK_SIZE);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    orders.add(toOrder(CreateOrderRequest.validated(requestReader.readValue(line))));
+                    lines.add(lineNumber);
+                } catch (JsonProcessingException e) {
+                    writer.write(BulkOrderResult.rejected(lineNumber, "Malformed order"));
+                } catch (InvalidRequestException e) {
+                    writer.write(BulkOrderResult.rejected(lineNumber, e.getMessage()));
+                }
+                if (orders.size() == BULK_CHUNK_SIZE) {
+                    saveChunk(orders, lines, writer);
+                }
+            }
+            saveChunk(orders, lines, writer);
+        }
+    }
+
+    private void saveChunk(List<Order> orders, List<Long> lines, NdjsonWriter writer) throws IOException {
+        if (!orders.isEmpty()) {
+            try {
+                intake.createAll(orders);
+                for (int i = 0; i < orders.size(); i++) {
+                    writer.write(BulkOrderResult.created(lines.get(i), OrderResponse.from(orders.get(i))));
+                }
+            } catch (RuntimeException e) {
+                String error;
+                if (e instanceof DuplicateKeyException) {
+                    error = "Chunk contains an order id that already exists";
+                } else {
+                    log.error("Could not save a chunk of {} orders", orders.size(), e);
+                    error = "Chunk could not be saved";
+                }
+                for (Long line : lines) {
+                    writer.write(BulkOrderResult.rejected(line, error));
+                }
+            }
+            orders.clear();
+            lines.clear();
+        }
+        writer.flush();
+    }
+
+    private static Order toOrder(CreateOrderRequest request) {
+        UUID id = request.orderId() == null ? UUID.randomUUID() : request.orderId();
+        return new Order(id, Location.of(request.x(), request.y()));
+    }
+}
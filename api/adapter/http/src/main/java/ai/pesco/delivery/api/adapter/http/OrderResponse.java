@@ -0,0 +1,22 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.projection.OrderView;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderResponse(UUID id, int x, int y, OrderStatus status, UUID courierId) {
+
+    public static OrderResponse from(Order order) {
+        return new OrderResponse(order.getId(), order.getLocation().getX(), order.getLocation().getY(),
+                order.getStatus(), order.getCourierId());
+    }
+
+    public static OrderResponse from(OrderView view) {
+        return new OrderResponse(view.id(), view.location().getX(), view.location().getY(),
+                view.status(), view.courierId());
+    }
+}
@@ -0,0 +1,100 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.projection.DeliveryProjection;
+import ai.pesco.delivery.core.application.projection.ProjectingCourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CourierControllerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InMemoryCourierRepository repository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryCourierRepository();
+        mockMvc = MockMvcBuilders.standaloneSetup(new CourierController(repository, objectMapper, new DeliveryProjection()))
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void addCourier_ValidRequest_ReturnsFreeCourier() throws Exception {
+        mockMvc.perform(post("/api/v1/couriers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"John\",\"transportName\":\"Car\",\"speed\":2,\"x\":3,\"y\":4}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("John"))
+                .andExpect(jsonPath("$.speed").value(2))
+                .andExpect(jsonPath("$.status").value("FREE"));
+
+        assertEquals(1, repository.couriers.size());
+    }
+
+    @Test
+    void addCourier_InvalidSpeed_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/couriers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"John\",\"transportName\":\"Car\",\"speed\":9,\"x\":3,\"y\":4}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Speed must be between 1 and 3"));
+    }
+
+    @Test
+    void addCourier_MissingName_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/couriers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transportName\":\"Car\",\"speed\":2,\"x\":3,\"y\":4}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Name cannot be null or empty"));
+
+        assertTrue(repository.couriers.isEmpty());
+    }
+
+    @Test
+    void listCouriers_Fleet_StreamsOneLinePerCourier() throws Exception {
+        for (int i = 0; i < 2500; i++) {
+            repository.save(new Courier("Courier " + i, "Bike", 1, Location.of(i % 10 + 1, 1)));
+        }
+
+        String response = mockMvc.perform(get("/api/v1/couriers"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(2500, response.split("\n").length);
+        assertTrue(repository.streamClosed);
+    }
+
+    @Test
+    void listCouriers_StatusFilter_StreamsMatchingCouriersFromProjection() throws Exception {
+        DeliveryProjection projection = new DeliveryProjection();
+        MockMvc projected = MockMvcBuilders.standaloneSetup(new CourierController(
+                        new ProjectingCourierRepository(repository, projection), objectMapper, projection))
+                .build();
+        Courier free = new Courier("Free", "Bike", 1, Location.of(1, 1));
+        Courier busy = new Courier("Busy", "Bike", 1, Location.of(2, 2));
+        busy.assignOrder(new Order(UUID.randomUUID(), Location.of(3, 3)));
+        projection.apply(free);
+        projection.apply(busy);
+
+        projected.perform(get("/api/v1/couriers").param("status", "BUSY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Busy"));
+        assertFalse(repository.streamClosed);
+    }
+}
@@ -0,0 +1,48 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+final class InMemoryCourierRepository implements CourierRepository {
+    final Map<UUID, Courier> couriers = new ConcurrentHashMap<>();
+    boolean streamClosed;
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        return Optional.ofNullable(couriers.get(id));
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        return ids.stream().map(couriers::get).filter(courier -> courier != null).toList();
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return couriers.values().stream().filter(courier -> courier.getStatus() == CourierStatus.FREE).toList();
+    }
+
+    @Override
+    public long countByStatus(CourierStatus status) {
+        return couriers.values().stream().filter(courier -> courier.getStatus() == status).count();
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return couriers.values().stream().onClose(() -> streamClosed = true);
+    }
+
+    @Override
+    public void saveAll(Collection<Courier> batch) {
+        batch.forEach(courier -> couriers.put(courier.getId(), courier));
+    }
+}
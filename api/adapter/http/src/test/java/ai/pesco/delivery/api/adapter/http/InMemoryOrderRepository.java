@@ -0,0 +1,58 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+final class InMemoryOrderRepository implements OrderRepository {
+    final Map<UUID, Order> orders = new ConcurrentHashMap<>();
+    final AtomicInteger saves = new AtomicInteger();
+    volatile RuntimeException saveFailure;
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        return ids.stream().map(orders::get).filter(order -> order != null).toList();
+    }
+
+    @Override
+    public List<Order> findAllCreated() {
+        return orders.values().stream().filter(order -> order.getStatus() == OrderStatus.CREATED).toList();
+    }
+
+    @Override
+    public Stream<Order> streamActive() {
+        return orders.values().stream().filter(order -> order.getStatus() != OrderStatus.COMPLETED);
+    }
+
+    @Override
+    public void saveAll(Collection<Order> batch) {
+        saves.incrementAndGet();
+        if (saveFailure != null) {
+            throw saveFailure;
+        }
+        for (Order order : batch) {
+            if (order.isNew() && orders.containsKey(order.getId())) {
+                throw new DuplicateKeyException("Duplicate order id " + order.getId());
+            }
+        }
+        batch.forEach(order -> {
+            order.setVersion(order.isNew() ? 0 : order.getVersion() + 1);
+            orders.put(order.getId(), order);
+        });
+    }
+}
@@ -0,0 +1,230 @@
+package ai.pesco.delivery.api.adapter.http;
+
+import ai.pesco.delivery.core.application.dispatch.OrderIntake;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.projection.DeliveryProjection;
+import ai.pesco.delivery.core.application.projection.ProjectingOrderRepository;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderControllerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InMemoryOrderRepository repository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository();
+        mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(repository,
+                        new OrderIntake(repository, DispatchMetrics.NOOP), objectMapper, new DeliveryProjection()))
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void createOrder_ValidRequest_ReturnsCreatedOrder() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderId\":\"" + id + "\",\"x\":3,\"y\":4}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/v1/orders/" + id))
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.courierId").doesNotExist());
+
+        assertEquals(Location.of(3, 4), repository.orders.get(id).getLocation());
+    }
+
+    @Test
+    void createOrder_LocationOutsideGrid_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":0,\"y\":4}"))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(repository.orders.isEmpty());
+    }
+
+    @Test
+    void createOrder_ExistingOrderId_ReturnsConflict() throws Exception {
+        Order existing = new Order(UUID.randomUUID(), Location.of(5, 6));
+        repository.save(existing);
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderId\":\"" + existing.getId() + "\",\"x\":3,\"y\":4}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("Resource with this id already exists"));
+
+        assertEquals(Location.of(5, 6), repository.orders.get(existing.getId()).getLocation());
+    }
+
+    @Test
+    void createOrder_SaveFails_ReturnsServerErrorWithoutLeakingCause() throws Exception {
+        repository.saveFailure = new IllegalStateException("connection to 10.0.0.7:5432 refused");
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":1,\"y\":1}"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.detail").value("Request could not be processed"));
+    }
+
+    @Test
+    void createOrder_LocationOutsideGrid_ReportsValidationFailure() throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":3,\"y\":" + (Location.MAX_VALUE + 1) + "}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("y must be between 1 and " + Location.MAX_VALUE));
+    }
+
+    @Test
+    void getOrder_KnownId_ReturnsOrder() throws Exception {
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 6));
+        repository.save(order);
+
+        mockMvc.perform(get("/api/v1/orders/" + order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.x").value(5))
+                .andExpect(jsonPath("$.y").value(6));
+    }
+
+    @Test
+    void listOrders_StatusFilter_StreamsOrdersSavedThroughProjection() throws Exception {
+        DeliveryProjection projection = new DeliveryProjection();
+        ProjectingOrderRepository projecting = new ProjectingOrderRepository(repository, projection);
+        MockMvc projected = MockMvcBuilders.standaloneSetup(new OrderController(
+                        projecting, new OrderIntake(projecting, DispatchMetrics.NOOP), objectMapper, projection))
+                .build();
+        projected.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":3,\"y\":4}"))
+                .andExpect(status().isCreated());
+
+        String response = projected.perform(get("/api/v1/orders").param("status", "CREATED"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode order = objectMapper.readTree(response);
+        assertEquals(3, order.get("x").asInt());
+        assertEquals("CREATED", order.get("status").asText());
+        assertEquals("", projected.perform(get("/api/v1/orders").param("status", "ASSIGNED"))
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    void getOrder_UnknownId_ReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createOrders_NdjsonBody_SavesInChunksAndStreamsResults() throws Exception {
+        int count = OrderController.BULK_CHUNK_SIZE * 2 + 7;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append("{\"orderId\":\"").append(UUID.randomUUID()).append("\",\"x\":")
+                    .append(i % 10 + 1).append(",\"y\":1}\n");
+        }
+
+        String response = mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(NdjsonWriter.MEDIA_TYPE)
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", NdjsonWriter.MEDIA_TYPE + ";charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(count, lines.length);
+        assertEquals(count, repository.orders.size());
+        assertEquals(3, repository.saves.get());
+        JsonNode last = objectMapper.readTree(lines[count - 1]);
+        assertEquals(count, last.get("line").asLong());
+        assertEquals("CREATED", last.get("order").get("status").asText());
+    }
+
+    @Test
+    void createOrders_InvalidLines_ReportedPerLine() throws Exception {
+        String body = "{\"x\":1,\"y\":1}\n"
+                + "not json\n"
+                + "\n"
+                + "{\"x\":11,\"y\":1}\n"
+                + "{\"x\":2,\"y\":2}\n";
+
+        String response = mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(NdjsonWriter.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(2, repository.orders.size());
+        JsonNode malformed = objectMapper.readTree(lines[0]);
+        assertEquals(2, malformed.get("line").asLong());
+        assertEquals("Malformed order", malformed.get("error").asText());
+        JsonNode outside = objectMapper.readTree(lines[1]);
+        assertEquals(4, outside.get("line").asLong());
+        assertFalse(outside.has("order"));
+    }
+
+    @Test
+    void createOrders_NullLine_RejectedAsInvalid() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(NdjsonWriter.MEDIA_TYPE)
+                        .content("null\n{\"x\":2,\"y\":2}\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals("Order request cannot be null", objectMapper.readTree(lines[0]).get("error").asText());
+        assertEquals(1, repository.orders.size());
+    }
+
+    @Test
+    void createOrders_ChunkFails_RejectsChunkWithoutLeakingCause() throws Exception {
+        repository.saveFailure = new IllegalStateException("connection to 10.0.0.7:5432 refused");
+
+        String response = mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(NdjsonWriter.MEDIA_TYPE)
+                        .content("{\"x\":1,\"y\":1}\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("Chunk could not be saved", objectMapper.readTree(response).get("error").asText());
+    }
+
+    @Test
+    void createOrders_ExistingOrderId_RejectsChunkAsDuplicate() throws Exception {
+        Order existing = new Order(UUID.randomUUID(), Location.of(5, 6));
+        repository.save(existing);
+
+        String response = mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(NdjsonWriter.MEDIA_TYPE)
+                        .content("{\"orderId\":\"" + existing.getId() + "\",\"x\":1,\"y\":1}\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("Chunk contains an order id that already exists",
+                objectMapper.readTree(response).get("error").asText());
+    }
+}
@@ -0,0 +1,20 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+import java.util.List;
+
+/**
+ * Receives the orders read from Kafka. Pass
+ * {@link ai.pesco.delivery.core.application.dispatch.OrderIntake#createAll} so orders
+ * arriving through Kafka are stored and counted the same way as those posted over HTTP.
+ */
+@FunctionalInterface
+public interface OrderBatchHandler {
+
+    /**
+     * Accepts a batch of distinct orders from one partition. Blocking here holds the
+     * partition back; throwing makes the consumer retry the same batch.
+     */
+    void handle(List<Order> orders);
+}
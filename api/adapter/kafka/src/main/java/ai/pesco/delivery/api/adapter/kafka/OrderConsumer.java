@@ -0,0 +1,274 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumes order messages in polled batches. The poll loop only fetches, dispatches and
+ * commits; parsing, deduplication and the handler run on one virtual thread per
+ * partition, so partitions proceed in parallel while each keeps its offset order.
+ * Offsets are committed only after the handler accepted everything before them.
+ * A partition whose worker has {@code maxPendingBatches} batches queued is paused until
+ * the worker catches up. A batch the handler still rejects after {@code maxAttempts} tries
+ * is logged and skipped, counted in {@link #skipped()}. The consumer is owned by the poll
+ * thread and closed by it.
+ */
+public class OrderConsumer implements Runnable, AutoCloseable {
+    public static final int DEFAULT_MAX_ATTEMPTS = 20;
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+
+    private final Consumer<String, byte[]> consumer;
+    private final String topic;
+    private final OrderBatchHandler handler;
+    private final int maxPendingBatches;
+    private final Duration commitInterval;
+    private final int maxAttempts;
+    private final OrderMessageReader reader = new OrderMessageReader();
+    private final RecentOrderIds recentIds;
+    private final Map<TopicPartition, PartitionWorker> workers = new HashMap<>();
+    private final Map<TopicPartition, List<ConsumerRecord<String, byte[]>>> pending = new HashMap<>();
+    private final ConcurrentMap<TopicPartition, OffsetAndMetadata> completed = new ConcurrentHashMap<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder handlerFailures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private volatile boolean running;
+    private Thread thread;
+
+    public OrderConsumer(Consumer<String, byte[]> consumer, String topic, OrderBatchHandler handler) {
+        this(consumer, topic, handler, 2, 100_000, Duration.ofSeconds(1));
+    }
+
+    public OrderConsumer(Consumer<String, byte[]> consumer, String topic, OrderBatchHandler handler,
+                         int maxPendingBatches, int dedupeCapacity, Duration commitInterval) {
+        this(consumer, topic, handler, maxPendingBatches, dedupeCapacity, commitInterval, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public OrderConsumer(Consumer<String, byte[]> consumer, String topic, OrderBatchHandler handler,
+                         int maxPendingBatches, int dedupeCapacity, Duration commitInterval, int maxAttempts) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Topic cannot be null or empty");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        if (maxPendingBatches < 1) {
+            throw new IllegalArgumentException("Max pending batches must be positive");
+        }
+        if (commitInterval == null || commitInterval.isNegative()) {
+            throw new IllegalArgumentException("Commit interval cannot be null or negative");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+
+        this.consumer = consumer;
+        this.topic = topic;
+        this.handler = handler;
+        this.maxPendingBatches = maxPendingBatches;
+        this.commitInterval = commitInterval;
+        this.maxAttempts = maxAttempts;
+        this.recentIds = new RecentOrderIds(dedupeCapacity);
+    }
+
+    /**
+     * Consumer settings for batch intake: manual commits, large polls and fetches that wait
+     * for enough bytes instead of returning a handful of records.
+     */
+    public static Map<String, Object> consumerConfig(String bootstrapServers, String groupId) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5000);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 64 * 1024);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 50);
+        config.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, 4 * 1024 * 1024);
+        return config;
+    }
+
+    public static Consumer<String, byte[]> createConsumer(String bootstrapServers, String groupId) {
+        return new KafkaConsumer<>(consumerConfig(bootstrapServers, groupId));
+    }
+
+    public long accepted() {
+        return accepted.sum();
+    }
+
+    public long duplicates() {
+        return duplicates.sum();
+    }
+
+    public long malformed() {
+        return malformed.sum();
+    }
+
+    /**
+     * Number of handler calls that failed, retried ones included.
+     */
+    public long handlerFailures() {
+        return handlerFailures.sum();
+    }
+
+    /**
+     * Number of orders skipped because the handler kept rejecting their batch.
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    @Override
+    public void run() {
+        consumer.subscribe(List.of(topic), new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                release(partitions, true);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            }
+
+            @Override
+            public void onPartitionsLost(Collection<TopicPartition> partitions) {
+                release(partitions, false);
+            }
+        });
+
+        long nextCommit = System.nanoTime() + commitInterval.toNanos();
+        try {
+            while (running) {
+                retryPending();
+                dispatch(consumer.poll(POLL_TIMEOUT));
+                if (System.nanoTime() >= nextCommit) {
+                    commitCompleted(false);
+                    nextCommit = System.nanoTime() + commitInterval.toNanos();
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
+            }
+        } finally {
+            try {
+                release(List.copyOf(workers.keySet()), true);
+            } finally {
+                consumer.close();
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("Consumer is already started");
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("order-consumer").start(this);
+    }
+
+    @Override
+    public synchronized void close() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            consumer.wakeup();
+            thread.join();
+            thread = null;
+        }
+    }
+
+    private void dispatch(ConsumerRecords<String, byte[]> records) {
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, byte[]>> batch = records.records(partition);
+            if (!worker(partition).offer(batch)) {
+                pending.put(partition, batch);
+                consumer.pause(List.of(partition));
+            }
+        }
+    }
+
+    private void retryPending() {
+        Iterator<Map.Entry<TopicPartition, List<ConsumerRecord<String, byte[]>>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<TopicPartition, List<ConsumerRecord<String, byte[]>>> entry = iterator.next();
+            if (worker(entry.getKey()).offer(entry.getValue())) {
+                iterator.remove();
+                consumer.resume(List.of(entry.getKey()));
+            }
+        }
+    }
+
+    private PartitionWorker worker(TopicPartition partition) {
+        return workers.computeIfAbsent(partition, key -> {
+            PartitionWorker worker = new PartitionWorker(key, maxPendingBatches, reader, handler, recentIds,
+                    completed, accepted, duplicates, malformed, handlerFailures, skipped, maxAttempts);
+            worker.start();
+            return worker;
+        });
+    }
+
+    /**
+     * Stops the workers of the partitions, then commits what they finished if the partitions
+     * are still ours. Unfinished batches are redelivered to the next owner.
+     */
+    private void release(Collection<TopicPartition> partitions, boolean commit) {
+        for (TopicPartition partition : partitions) {
+            PartitionWorker worker = workers.remove(partition);
+            pending.remove(partition);
+            if (worker != null) {
+                try {
+                    worker.stop();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        if (commit) {
+            commitCompleted(true);
+        }
+        partitions.forEach(completed::remove);
+    }
+
+    private void commitCompleted(boolean sync) {
+        if (completed.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : completed.keySet()) {
+            OffsetAndMetadata offset = completed.remove(partition);
+            if (offset != null) {
+                offsets.put(partition, offset);
+            }
+        }
+        if (sync) {
+            consumer.commitSync(offsets);
+        } else {
+            consumer.commitAsync(offsets, null);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.UUID;
+
+/**
+ * Order as published by the basket service: {@code {"orderId": "...", "x": 3, "y": 7}}.
+ */
+public record OrderMessage(UUID orderId, int x, int y) {
+
+    public Order toOrder() {
+        return new Order(orderId, Location.of(x, y));
+    }
+}
@@ -0,0 +1,40 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/**
+ * Turns raw record values into orders. Thread-safe, so partitions can parse in parallel.
+ */
+public final class OrderMessageReader {
+    private static final ObjectReader READER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+            .enable(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)
+            .build()
+            .readerFor(OrderMessage.class);
+
+    /**
+     * Returns the order, or throws {@link IllegalArgumentException} if the message is malformed.
+     */
+    public Order read(byte[] value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Message cannot be null");
+        }
+        OrderMessage message;
+        try {
+            message = READER.readValue(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed order message", e);
+        }
+        try {
+            return message.toOrder();
+        } catch (NullPointerException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid order message: " + e.getMessage(), e);
+        }
+    }
+}
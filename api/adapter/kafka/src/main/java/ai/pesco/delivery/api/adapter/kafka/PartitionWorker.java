@@ -0,0 +1,156 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Processes the batches of one partition, strictly in offset order, on its own virtual
+ * thread. The queue is bounded: when it is full the poll loop pauses the partition, so
+ * a slow handler stalls fetching instead of filling memory. A batch the handler rejects is
+ * retried with backoff up to {@code maxAttempts} times; after that its orders are logged,
+ * counted as skipped and committed past, so one poisoned batch cannot stall the partition.
+ */
+@Slf4j
+final class PartitionWorker implements Runnable {
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private final TopicPartition partition;
+    private final BlockingQueue<List<ConsumerRecord<String, byte[]>>> queue;
+    private final OrderMessageReader reader;
+    private final OrderBatchHandler handler;
+    private final RecentOrderIds recentIds;
+    private final ConcurrentMap<TopicPartition, OffsetAndMetadata> completed;
+    private final LongAdder accepted;
+    private final LongAdder duplicates;
+    private final LongAdder malformed;
+    private final LongAdder handlerFailures;
+    private final LongAdder skipped;
+    private final int maxAttempts;
+    private volatile boolean running = true;
+    private Thread thread;
+
+    PartitionWorker(TopicPartition partition, int maxPendingBatches, OrderMessageReader reader,
+                    OrderBatchHandler handler, RecentOrderIds recentIds,
+                    ConcurrentMap<TopicPartition, OffsetAndMetadata> completed,
+                    LongAdder accepted, LongAdder duplicates, LongAdder malformed,
+                    LongAdder handlerFailures, LongAdder skipped, int maxAttempts) {
+        this.partition = partition;
+        this.queue = new ArrayBlockingQueue<>(maxPendingBatches);
+        this.reader = reader;
+        this.handler = handler;
+        this.recentIds = recentIds;
+        this.completed = completed;
+        this.accepted = accepted;
+        this.duplicates = duplicates;
+        this.malformed = malformed;
+        this.handlerFailures = handlerFailures;
+        this.skipped = skipped;
+        this.maxAttempts = maxAttempts;
+    }
+
+    void start() {
+        thread = Thread.ofVirtual().name("order-consumer-" + partition).start(this);
+    }
+
+    boolean offer(List<ConsumerRecord<String, byte[]>> records) {
+        return queue.offer(records);
+    }
+
+    /**
+     * Drops queued batches and waits for the current one to finish or give up retrying.
+     */
+    void stop() throws InterruptedException {
+        running = false;
+        queue.clear();
+        if (thread != null) {
+            thread.join();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                List<ConsumerRecord<String, byte[]>> records = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (records != null && !records.isEmpty()) {
+                    process(records);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process(List<ConsumerRecord<String, byte[]>> records) throws InterruptedException {
+        Map<UUID, Order> orders = new LinkedHashMap<>();
+        int parsed = 0;
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                Order order = reader.read(record.value());
+                orders.putIfAbsent(order.getId(), order);
+                parsed++;
+            } catch (IllegalArgumentException e) {
+                malformed.increment();
+            }
+        }
+
+        List<Order> unseen = recentIds.unseen(orders.values());
+        Outcome outcome = unseen.isEmpty() ? Outcome.HANDLED : handle(unseen, records);
+        if (outcome == Outcome.STOPPED) {
+            return;
+        }
+        if (outcome == Outcome.HANDLED) {
+            recentIds.remember(unseen);
+            accepted.add(unseen.size());
+        } else {
+            skipped.add(unseen.size());
+        }
+        duplicates.add(parsed - unseen.size());
+
+        long next = records.getLast().offset() + 1;
+        completed.merge(partition, new OffsetAndMetadata(next),
+                (current, candidate) -> candidate.offset() > current.offset() ? candidate : current);
+    }
+
+    private Outcome handle(List<Order> orders, List<ConsumerRecord<String, byte[]>> records) throws InterruptedException {
+        long backoff = 10;
+        for (int attempt = 1; running; attempt++) {
+            try {
+                handler.handle(new ArrayList<>(orders));
+                return Outcome.HANDLED;
+            } catch (RuntimeException e) {
+                handlerFailures.increment();
+                if (attempt >= maxAttempts) {
+                    log.error("Skipping orders {} at offsets {}-{} of {} after {} failed attempts",
+                            orders.stream().map(Order::getId).toList(), records.getFirst().offset(),
+                            records.getLast().offset(), partition, attempt, e);
+                    return Outcome.SKIPPED;
+                }
+                log.warn("Order batch at offsets {}-{} of {} failed, attempt {} of {}", records.getFirst().offset(),
+                        records.getLast().offset(), partition, attempt, maxAttempts, e);
+                TimeUnit.MILLISECONDS.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+        return Outcome.STOPPED;
+    }
+
+    private enum Outcome {
+        HANDLED, SKIPPED, STOPPED
+    }
+}
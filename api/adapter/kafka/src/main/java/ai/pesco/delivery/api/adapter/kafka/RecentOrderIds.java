@@ -0,0 +1,46 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded memory of recently accepted order ids, used to drop redelivered messages.
+ * The oldest ids are forgotten first.
+ */
+final class RecentOrderIds {
+    private final Map<UUID, Boolean> ids;
+
+    RecentOrderIds(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.ids = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized List<Order> unseen(Collection<Order> orders) {
+        List<Order> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            if (!ids.containsKey(order.getId())) {
+                result.add(order);
+            }
+        }
+        return result;
+    }
+
+    synchronized void remember(Collection<Order> orders) {
+        for (Order order : orders) {
+            ids.put(order.getId(), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderConsumerTest {
+    private static final String TOPIC = "orders";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+    @Test
+    void run_DuplicateAndMalformedMessages_HandsDistinctOrdersAndCommits() throws Exception {
+        UUID duplicate = UUID.randomUUID();
+        assign(PARTITION_0);
+        consumer.schedulePollTask(() -> {
+            add(PARTITION_0, 0, message(duplicate, 1, 1));
+            add(PARTITION_0, 1, message(duplicate, 1, 1));
+            add(PARTITION_0, 2, "not json");
+            add(PARTITION_0, 3, message(UUID.randomUUID(), 2, 2));
+        });
+        List<List<Order>> batches = new CopyOnWriteArrayList<>();
+
+        try (OrderConsumer orderConsumer = new OrderConsumer(consumer, TOPIC, batches::add, 2, 1000, Duration.ofMillis(10))) {
+            orderConsumer.start();
+            awaitTrue(() -> committed(PARTITION_0) == 4);
+
+            assertEquals(2, orderConsumer.accepted());
+            assertEquals(1, batches.size());
+            assertEquals(duplicate, batches.getFirst().getFirst().getId());
+            assertEquals(1, orderConsumer.duplicates());
+            assertEquals(1, orderConsumer.malformed());
+        }
+    }
+
+    @Test
+    void run_RedeliveredOrder_IsNotHandledTwice() throws Exception {
+        UUID id = UUID.randomUUID();
+        assign(PARTITION_0);
+        consumer.schedulePollTask(() -> add(PARTITION_0, 0, message(id, 1, 1)));
+        consumer.schedulePollTask(() -> add(PARTITION_0, 1, message(id, 1, 1)));
+        AtomicInteger handled = new AtomicInteger();
+
+        try (OrderConsumer orderConsumer = new OrderConsumer(consumer, TOPIC, orders -> handled.addAndGet(orders.size()),
+                2, 1000, Duration.ofMillis(10))) {
+            orderConsumer.start();
+            awaitTrue(() -> committed(PARTITION_0) == 2);
+
+            assertEquals(1, orderConsumer.duplicates());
+        }
+
+        assertEquals(1, handled.get());
+    }
+
+    @Test
+    void run_SlowHandler_PausesPartitionInsteadOfQueueing() throws Exception {
+        assign(PARTITION_0, PARTITION_1);
+        for (int i = 0; i < 4; i++) {
+            int offset = i;
+            consumer.schedulePollTask(() -> add(PARTITION_0, offset, message(UUID.randomUUID(), 1, 1)));
+        }
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (OrderConsumer orderConsumer = new OrderConsumer(consumer, TOPIC, orders -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, 1000, Duration.ofMillis(10))) {
+            orderConsumer.start();
+            awaitTrue(() -> consumer.paused().contains(PARTITION_0));
+
+            assertFalse(consumer.paused().contains(PARTITION_1));
+            assertEquals(0, orderConsumer.accepted());
+
+            release.countDown();
+            awaitTrue(() -> orderConsumer.accepted() == 4);
+            awaitTrue(() -> consumer.paused().isEmpty());
+            awaitTrue(() -> committed(PARTITION_0) == 4);
+        }
+    }
+
+    @Test
+    void run_FailingHandler_RetriesBatchBeforeCommitting() throws Exception {
+        assign(PARTITION_0);
+        consumer.schedulePollTask(() -> add(PARTITION_0, 0, message(UUID.randomUUID(), 1, 1)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        try (OrderConsumer orderConsumer = new OrderConsumer(consumer, TOPIC, orders -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Database is down");
+            }
+        }, 2, 1000, Duration.ofMillis(10))) {
+            orderConsumer.start();
+            awaitTrue(() -> orderConsumer.accepted() == 1);
+            awaitTrue(() -> committed(PARTITION_0) == 1);
+        }
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void run_HandlerAlwaysFails_SkipsBatchAfterMaxAttemptsAndCommitsPastIt() throws Exception {
+        UUID rejected = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        assign(PARTITION_0);
+        consumer.schedulePollTask(() -> add(PARTITION_0, 0, message(rejected, 1, 1)));
+        consumer.schedulePollTask(() -> add(PARTITION_0, 1, message(next, 2, 2)));
+        List<UUID> handled = new CopyOnWriteArrayList<>();
+
+        try (OrderConsumer orderConsumer = new OrderConsumer(consumer, TOPIC, orders -> {
+            if (orders.getFirst().getId().equals(rejected)) {
+                throw new IllegalStateException("Order is rejected");
+            }
+            handled.addAll(orders.stream().map(Order::getId).toList());
+        }, 2, 1000, Duration.ofMillis(10), 3)) {
+            orderConsumer.start();
+            awaitTrue(() -> committed(PARTITION_0) == 2);
+
+            assertEquals(3, orderConsumer.handlerFailures());
+            assertEquals(1, orderConsumer.skipped());
+            assertEquals(1, orderConsumer.accepted());
+        }
+
+        assertEquals(List.of(next), handled);
+    }
+
+    @Test
+    void run_EmbeddedBroker_ConsumesAllPartitionsInOrder() throws Exception {
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+        try {
+            List<UUID> ids = new ArrayList<>();
+            try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(
+                    Map.of("bootstrap.servers", broker.getBrokersAsString()), new StringSerializer(), new ByteArraySerializer())) {
+                for (int i = 0; i < 3000; i++) {
+                    UUID id = UUID.randomUUID();
+                    ids.add(id);
+                    producer.send(new ProducerRecord<>(TOPIC, i % 3, id.toString(),
+                            message(id, i % 10 + 1, 1).getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+
+            Map<String, List<UUID>> byThread = new ConcurrentHashMap<>();
+            List<UUID> received = new CopyOnWriteArrayList<>();
+            try (OrderConsumer orderConsumer = new OrderConsumer(
+                    OrderConsumer.createConsumer(broker.getBrokersAsString(), "delivery"), TOPIC, orders -> {
+                byThread.computeIfAbsent(Thread.currentThread().getName(), name -> new CopyOnWriteArrayList<>())
+                        .addAll(orders.stream().map(Order::getId).toList());
+                received.addAll(orders.stream().map(Order::getId).toList());
+            })) {
+                orderConsumer.start();
+                awaitTrue(() -> received.size() == ids.size());
+            }
+
+            assertEquals(Set.copyOf(ids), Set.copyOf(received));
+            assertEquals(3, byThread.size());
+            for (List<UUID> partitionIds : byThread.values()) {
+                assertEquals(ids.stream().filter(partitionIds::contains).toList(), partitionIds);
+            }
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    private void assign(TopicPartition... partitions) {
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(partitions));
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                offsets.put(partition, 0L);
+            }
+            consumer.updateBeginningOffsets(offsets);
+        });
+    }
+
+    private void add(TopicPartition partition, long offset, String value) {
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, null,
+                value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long committed(TopicPartition partition) {
+        OffsetAndMetadata offset = consumer.committed(Set.of(partition)).get(partition);
+        return offset == null ? -1 : offset.offset();
+    }
+
+    private static String message(UUID id, int x, int y) {
+        return "{\"orderId\":\"" + id + "\",\"x\":" + x + ",\"y\":" + y + "}";
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition was not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ai.pesco.delivery.api.adapter.kafka;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderMessageReaderTest {
+    private final OrderMessageReader reader = new OrderMessageReader();
+
+    @Test
+    void read_ValidMessage_ReturnsCreatedOrder() {
+        UUID id = UUID.randomUUID();
+
+        Order order = reader.read(json("{\"orderId\":\"" + id + "\",\"x\":3,\"y\":7,\"basketId\":42}"));
+
+        assertEquals(id, order.getId());
+        assertEquals(Location.of(3, 7), order.getLocation());
+        assertEquals(OrderStatus.CREATED, order.getStatus());
+    }
+
+    @Test
+    void read_MalformedJson_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> reader.read(json("{\"orderId\":")));
+        assertEquals("Malformed order message", exception.getMessage());
+    }
+
+    @Test
+    void read_MissingCoordinate_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> reader.read(json("{\"orderId\":\"" + UUID.randomUUID() + "\",\"x\":3}")));
+        assertEquals("Malformed order message", exception.getMessage());
+    }
+
+    @Test
+    void read_LocationOutOfGrid_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> reader.read(json("{\"orderId\":\"" + UUID.randomUUID() + "\",\"x\":0,\"y\":7}")));
+        assertTrue(exception.getMessage().startsWith("Invalid order message"));
+    }
+
+    @Test
+    void read_MissingOrderId_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> reader.read(json("{\"orderId\":null,\"x\":1,\"y\":7}")));
+        assertEquals("Invalid order message: id is null", exception.getMessage());
+    }
+
+    @Test
+    void read_NullValue_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> reader.read(null));
+        assertEquals("Message cannot be null", exception.getMessage());
+    }
+
+    private static byte[] json(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package ai.pesco.delivery;
+
+import ai.pesco.delivery.core.application.dispatch.DispatchLoop;
+import ai.pesco.delivery.core.application.dispatch.DispatchQueue;
+import ai.pesco.delivery.core.application.dispatch.OrderIntake;
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Application services shared by every adapter, whichever persistence mode is active. Orders
+ * taken in are queued by deadline and a dispatch loop assigns them to FREE couriers.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DispatchConfiguration {
+
+    @Bean
+    public DispatchQueue dispatchQueue() {
+        return new DispatchQueue();
+    }
+
+    @Bean
+    public OrderIntake orderIntake(OrderRepository orderRepository, DispatchMetrics metrics, DispatchQueue queue) {
+        return new OrderIntake(orderRepository, metrics, queue);
+    }
+
+    @Bean(destroyMethod = "close")
+    public DispatchLoop dispatchLoop(CourierRepository courierRepository, OrderRepository orderRepository,
+                                     DispatchQueue queue, DispatchMetrics metrics,
+                                     @Value("${delivery.dispatch.interval:1s}") Duration interval) {
+        DispatchLoop loop = new DispatchLoop(courierRepository, orderRepository, queue, metrics, interval);
+        loop.start();
+        return loop;
+    }
+}
@@ -0,0 +1,63 @@
+package ai.pesco.delivery;
+
+import ai.pesco.delivery.core.application.projection.DeliveryProjection;
+import ai.pesco.delivery.core.application.projection.ProjectingCourierRepository;
+import ai.pesco.delivery.core.application.projection.ProjectingOrderRepository;
+import ai.pesco.delivery.infrastructure.adapter.eventstore.EventSourcedCourierRepository;
+import ai.pesco.delivery.infrastructure.adapter.eventstore.EventSourcedOrderRepository;
+import ai.pesco.delivery.infrastructure.adapter.eventstore.EventStore;
+import ai.pesco.delivery.infrastructure.adapter.eventstore.SegmentedEventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Event-sourcing persistence mode: couriers and orders are kept in the event store and
+ * recovered from its snapshots and log on startup, instead of being loaded from the database.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "delivery.persistence.mode", havingValue = "event-sourcing")
+public class EventSourcingConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public EventStore eventStore(
+            @Value("${delivery.persistence.directory:data/events}") Path directory,
+            @Value("${delivery.persistence.shards:8}") int shards,
+            @Value("${delivery.persistence.snapshot-interval:1000000}") long snapshotInterval) {
+        EventStore store = EventStore.open(directory, shards, SegmentedEventLog.DEFAULT_SEGMENT_SIZE, snapshotInterval);
+        store.start(EventStore.DEFAULT_MAINTENANCE_DELAY);
+        return store;
+    }
+
+    @Bean
+    public DeliveryProjection deliveryProjection() {
+        return new DeliveryProjection();
+    }
+
+    @Bean
+    @Primary
+    public ProjectingCourierRepository projectingCourierRepository(EventStore store, DeliveryProjection projection) {
+        return new ProjectingCourierRepository(new EventSourcedCourierRepository(store), projection);
+    }
+
+    @Bean
+    @Primary
+    public ProjectingOrderRepository projectingOrderRepository(EventStore store, DeliveryProjection projection) {
+        return new ProjectingOrderRepository(new EventSourcedOrderRepository(store), projection);
+    }
+
+    @Bean
+    public ApplicationRunner readModelWarmUp(ProjectingCourierRepository courierRepository,
+                                             ProjectingOrderRepository orderRepository) {
+        return arguments -> {
+            courierRepository.warmUp();
+            orderRepository.warmUp();
+        };
+    }
+}
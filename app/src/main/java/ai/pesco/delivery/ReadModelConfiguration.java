@@ -0,0 +1,65 @@
+package ai.pesco.delivery;
+
+import ai.pesco.delivery.core.application.projection.DeliveryProjection;
+import ai.pesco.delivery.core.application.projection.ProjectingCourierRepository;
+import ai.pesco.delivery.core.application.projection.ProjectingOrderRepository;
+import ai.pesco.delivery.infrastructure.adapter.cache.CachingCourierRepository;
+import ai.pesco.delivery.infrastructure.adapter.postgres.JdbcCourierRepository;
+import ai.pesco.delivery.infrastructure.adapter.postgres.JdbcOrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Routes every repository write through the in-memory read model and loads it on startup.
+ * Courier writes then pass the aggregate cache, which writes location churn behind.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "delivery.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class ReadModelConfiguration {
+
+    @Bean
+    public DeliveryProjection deliveryProjection() {
+        return new DeliveryProjection();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CachingCourierRepository cachingCourierRepository(
+            JdbcCourierRepository courierRepository,
+            @Value("${delivery.courier-cache.maximum-size:100000}") long maximumSize,
+            @Value("${delivery.courier-cache.expire-after-access:10m}") Duration expireAfterAccess,
+            @Value("${delivery.courier-cache.write-behind-delay:1s}") Duration writeBehindDelay) {
+        CachingCourierRepository repository =
+                new CachingCourierRepository(courierRepository, maximumSize, expireAfterAccess, writeBehindDelay);
+        repository.start();
+        return repository;
+    }
+
+    @Bean
+    @Primary
+    public ProjectingCourierRepository projectingCourierRepository(CachingCourierRepository courierRepository,
+                                                                   DeliveryProjection projection) {
+        return new ProjectingCourierRepository(courierRepository, projection);
+    }
+
+    @Bean
+    @Primary
+    public ProjectingOrderRepository projectingOrderRepository(JdbcOrderRepository orderRepository,
+                                                               DeliveryProjection projection) {
+        return new ProjectingOrderRepository(orderRepository, projection);
+    }
+
+    @Bean
+    public ApplicationRunner readModelWarmUp(ProjectingCourierRepository courierRepository,
+                                             ProjectingOrderRepository orderRepository) {
+        return arguments -> {
+            courierRepository.warmUp();
+            orderRepository.warmUp();
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package ai.pesco.delivery;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:delivery;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class DeliveryApplicationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void createOrder_ThroughHttp_CanBeReadBack() {
+        ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/orders", Map.of("x", 3, "y", 4), Map.class);
+
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        ResponseEntity<Map> found = restTemplate.getForEntity(created.getHeaders().getLocation(), Map.class);
+        assertEquals(HttpStatus.OK, found.getStatusCode());
+        assertEquals(3, found.getBody().get("x"));
+    }
+
+    @Test
+    void listOrders_CreatedStatus_ServedFromReadModel() {
+        ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/orders", Map.of("x", 7, "y", 7), Map.class);
+        String id = (String) created.getBody().get("id");
+
+        ResponseEntity<String> listed = restTemplate.getForEntity("/api/v1/orders?status=CREATED", String.class);
+
+        assertEquals(HttpStatus.OK, listed.getStatusCode());
+        assertTrue(listed.getBody().contains(id));
+    }
+
+    @Test
+    void prometheus_AfterOrderCreated_ExportsDispatchMeters() {
+        restTemplate.postForEntity("/api/v1/orders", Map.of("x", 5, "y", 5), Map.class);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        assertTrue(scrape.getBody().contains("delivery_orders_transitions_total{application=\"delivery\",status=\"created\"}"));
+        assertTrue(scrape.getBody().contains("delivery_couriers{application=\"delivery\",status=\"free\"}"));
+        assertTrue(scrape.getBody().contains("delivery_dispatch_tick_seconds_bucket"));
+    }
+
+    @Test
+    void createOrders_NdjsonThroughHttp_StreamsResults() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        String body = "{\"x\":1,\"y\":1}\n{\"x\":2,\"y\":2}\n";
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/v1/orders/bulk",
+                new HttpEntity<>(body, headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().lines().count());
+    }
+}
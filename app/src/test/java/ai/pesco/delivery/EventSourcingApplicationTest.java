@@ -0,0 +1,42 @@
+package ai.pesco.delivery;
+
+import ai.pesco.delivery.infrastructure.adapter.eventstore.EventStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:delivery-events;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "delivery.persistence.mode=event-sourcing",
+        "delivery.persistence.directory=${java.io.tmpdir}/delivery-events-${random.uuid}",
+        "delivery.persistence.shards=2"
+})
+class EventSourcingApplicationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Test
+    void createOrder_EventSourcingMode_IsStoredInEventStore() {
+        ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/orders", Map.of("x", 3, "y", 4), Map.class);
+
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        String path = created.getHeaders().getLocation().getPath();
+        UUID id = UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+        assertTrue(eventStore.findOrder(id).isPresent());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(created.getHeaders().getLocation(), Map.class).getStatusCode());
+    }
+}
@@ -0,0 +1,54 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourierBenchmark {
+    private static final int SIZE = 1024;
+
+    private Courier[] couriers;
+    private Location[] destinations;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(42);
+        couriers = new Courier[SIZE];
+        destinations = new Location[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            couriers[i] = new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next());
+            destinations[i] = generator.next();
+        }
+    }
+
+    @Benchmark
+    public int estimateStepsTo() {
+        int i = cursor++ & (SIZE - 1);
+        return couriers[i].estimateStepsTo(destinations[i]);
+    }
+
+    @Benchmark
+    public int estimateTicksTo() {
+        int i = cursor++ & (SIZE - 1);
+        return couriers[i].estimateTicksTo(destinations[i]);
+    }
+}
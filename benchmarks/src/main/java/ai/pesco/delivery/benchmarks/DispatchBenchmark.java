@@ -0,0 +1,119 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.application.dispatch.BatchAssignment;
+import ai.pesco.delivery.core.application.dispatch.BatchDispatcher;
+import ai.pesco.delivery.core.application.dispatch.DispatchService;
+import ai.pesco.delivery.core.application.dispatch.FreeCourierIndex;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches a tick of {@code orders} CREATED orders to a fleet of {@code fleetSize} couriers.
+ * Couriers are released and fresh orders are created before every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int fleetSize;
+
+    @Param({"100", "300"})
+    private int orders;
+
+    private List<Courier> fleet;
+    private FreeCourierIndex index;
+    private DispatchService dispatchService;
+    private BatchDispatcher batchDispatcher;
+    private RandomLocationGenerator generator;
+    private List<Order> pending;
+
+    @Setup(Level.Trial)
+    public void setUpFleet() {
+        generator = RandomLocationGenerator.seeded(42);
+        fleet = new ArrayList<>(fleetSize);
+        index = new FreeCourierIndex();
+        for (int i = 0; i < fleetSize; i++) {
+            Courier courier = new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next());
+            fleet.add(courier);
+            index.refresh(courier);
+        }
+        dispatchService = new DispatchService(index);
+        batchDispatcher = new BatchDispatcher(index);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpTick() {
+        for (Courier courier : fleet) {
+            if (courier.getStatus() == CourierStatus.BUSY) {
+                courier.completeOrder();
+                index.refresh(courier);
+            }
+        }
+
+        pending = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            pending.add(new Order(UUID.randomUUID(), generator.next()));
+        }
+    }
+
+    @Benchmark
+    public void fullScan(Blackhole blackhole) {
+        for (Order order : pending) {
+            Courier best = null;
+            int bestTicks = Integer.MAX_VALUE;
+            for (Courier courier : fleet) {
+                if (courier.getStatus() != CourierStatus.FREE) {
+                    continue;
+                }
+                int ticks = courier.estimateTicksTo(order.getLocation());
+                if (ticks < bestTicks) {
+                    best = courier;
+                    bestTicks = ticks;
+                }
+            }
+            if (best != null) {
+                best.assignOrder(order);
+                order.assignToCourier(best);
+                index.refresh(best);
+            }
+            blackhole.consume(best);
+        }
+    }
+
+    @Benchmark
+    public void indexedGreedy(Blackhole blackhole) {
+        for (Order order : pending) {
+            blackhole.consume(dispatchService.dispatch(order));
+        }
+    }
+
+    @Benchmark
+    public BatchAssignment batch() {
+        return batchDispatcher.dispatch(pending);
+    }
+}
@@ -0,0 +1,80 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.application.fleet.FleetStore;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Columnar counterpart of {@link TickEngineBenchmark}: one tick over a fully busy fleet,
+ * plus a nearest-free-courier scan over the primitive columns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FleetStoreBenchmark {
+
+    @Param({"10000", "100000"})
+    private int fleetSize;
+
+    private FleetStore store;
+    private RandomLocationGenerator generator;
+    private int arrived;
+
+    @Setup(Level.Trial)
+    public void setUpFleet() {
+        generator = RandomLocationGenerator.seeded(42);
+        store = new FleetStore(fleetSize);
+        for (int i = 0; i < fleetSize; i++) {
+            store.add(new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next()));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void assignOrders() {
+        for (int slot = 0; slot < store.size(); slot++) {
+            if (store.getStatus(slot) == CourierStatus.BUSY) {
+                store.completeOrder(slot);
+            }
+            Location target = generator.next();
+            int speed = store.getSpeed(slot);
+            while (Math.abs(target.getX() - store.getX(slot)) + Math.abs(target.getY() - store.getY(slot)) <= speed) {
+                target = generator.next();
+            }
+            store.assignOrder(slot, new Order(UUID.randomUUID(), target));
+        }
+    }
+
+    @Benchmark
+    public int advance() {
+        arrived = 0;
+        store.advance(slot -> arrived++);
+        return arrived;
+    }
+
+    @Benchmark
+    public int findNearestFree() {
+        store.completeOrder(store.size() - 1);
+        return store.findNearestFree(Location.of(5, 5));
+    }
+}
@@ -0,0 +1,62 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationBenchmark {
+    private static final int SIZE = 1024;
+
+    private Location[] from;
+    private Location[] to;
+    private int[] buffer;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(42);
+        from = new Location[SIZE];
+        to = new Location[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            from[i] = generator.next();
+            to[i] = generator.next();
+        }
+        buffer = new int[SIZE];
+    }
+
+    @Benchmark
+    public int calculateDistance() {
+        int i = cursor++ & (SIZE - 1);
+        return from[i].calculateDistance(to[i]);
+    }
+
+    @Benchmark
+    public Location random() {
+        return Location.random();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] randomBulk() {
+        RandomLocationGenerator.threadLocal().fill(buffer);
+        return buffer;
+    }
+}
@@ -0,0 +1,92 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import ai.pesco.delivery.infrastructure.adapter.postgres.JdbcCourierRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows persisted per second by a dispatch tick that moves {@value #ROWS} couriers.
+ * Runs against in-memory H2 by default; pass a Postgres url, e.g.
+ * {@code -p jdbcUrl=jdbc:postgresql://localhost:5432/delivery?reWriteBatchedInserts=true -p user=... -p password=...}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+    private static final int ROWS = 1000;
+
+    @Param("jdbc:h2:mem:delivery;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+    private String jdbcUrl;
+
+    @Param("sa")
+    private String user;
+
+    @Param("")
+    private String password;
+
+    private JdbcCourierRepository repository;
+    private List<Courier> couriers;
+    private RandomLocationGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl, user, password);
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(dataSource);
+        repository = new JdbcCourierRepository(new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+
+        generator = RandomLocationGenerator.seeded(42);
+        couriers = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            couriers.add(new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next()));
+        }
+        repository.saveAll(couriers);
+    }
+
+    @Setup(Level.Invocation)
+    public void move() {
+        for (Courier courier : couriers) {
+            courier.moveTo(generator.next());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveTick() {
+        repository.saveAll(couriers);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveOneByOne() {
+        for (Courier courier : couriers) {
+            repository.save(courier);
+        }
+    }
+}
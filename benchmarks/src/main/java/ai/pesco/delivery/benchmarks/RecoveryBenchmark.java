@@ -0,0 +1,108 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import ai.pesco.delivery.infrastructure.adapter.eventstore.EventStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to open an event store holding {@code couriers} couriers, each saved
+ * {@value #SAVES_PER_COURIER} times: from the latest snapshot plus a short tail of
+ * events, and from the full history without a snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class RecoveryBenchmark {
+    private static final int SAVES_PER_COURIER = 5;
+    private static final int SHARDS = 8;
+    private static final int TAIL = 10_000;
+
+    @Param("1000000")
+    private int couriers;
+
+    private Path snapshotted;
+    private Path historyOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        snapshotted = Files.createTempDirectory("recovery-snapshot");
+        historyOnly = Files.createTempDirectory("recovery-history");
+        write(snapshotted, true);
+        write(historyOnly, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        delete(snapshotted);
+        delete(historyOnly);
+    }
+
+    @Benchmark
+    public long snapshotAndTail() throws Exception {
+        try (EventStore store = EventStore.open(snapshotted, SHARDS, 64 << 20, Long.MAX_VALUE)) {
+            return store.getRecovery().replayedEvents();
+        }
+    }
+
+    @Benchmark
+    public long fullHistory() throws Exception {
+        try (EventStore store = EventStore.open(historyOnly, SHARDS, 64 << 20, Long.MAX_VALUE)) {
+            return store.getRecovery().replayedEvents();
+        }
+    }
+
+    private void write(Path directory, boolean snapshot) throws Exception {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(1);
+        List<Courier> fleet = new ArrayList<>(couriers);
+        for (int i = 0; i < couriers; i++) {
+            fleet.add(new Courier("Courier " + i, "Car", 3, generator.next()));
+        }
+
+        try (EventStore store = EventStore.open(directory, SHARDS, 64 << 20, Long.MAX_VALUE)) {
+            for (int save = 0; save < SAVES_PER_COURIER; save++) {
+                for (int from = 0; from < couriers; from += 10_000) {
+                    List<Courier> batch = fleet.subList(from, Math.min(from + 10_000, couriers));
+                    batch.forEach(courier -> courier.moveTo(generator.next()));
+                    store.saveCouriers(batch);
+                }
+            }
+            if (snapshot) {
+                store.snapshot();
+            }
+            store.saveCouriers(fleet.subList(0, Math.min(TAIL, couriers)));
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
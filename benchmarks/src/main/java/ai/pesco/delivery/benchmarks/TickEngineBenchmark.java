@@ -0,0 +1,99 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.simulation.TickEngine;
+import ai.pesco.delivery.core.application.simulation.TickResult;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulation tick over a fully busy fleet. Couriers far enough from their orders
+ * are re-assigned before every invocation, so each tick moves the whole fleet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickEngineBenchmark {
+
+    @Param({"10000", "100000"})
+    private int fleetSize;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private List<Courier> fleet;
+    private Map<UUID, Order> orders;
+    private ForkJoinPool pool;
+    private TickEngine engine;
+    private RandomLocationGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUpFleet() {
+        generator = RandomLocationGenerator.seeded(42);
+        fleet = new ArrayList<>(fleetSize);
+        orders = new ConcurrentHashMap<>(fleetSize * 2);
+        for (int i = 0; i < fleetSize; i++) {
+            fleet.add(new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next()));
+        }
+        pool = parallelism == 0 ? new ForkJoinPool() : new ForkJoinPool(parallelism);
+        engine = new TickEngine(pool, TickEngine.DEFAULT_BATCH_SIZE, DispatchMetrics.NOOP, TickEngine.DISCARD_EVENTS);
+    }
+
+    @Setup(Level.Invocation)
+    public void assignOrders() {
+        for (Courier courier : fleet) {
+            if (courier.getStatus() == CourierStatus.BUSY && courier.estimateTicksTo(orders.get(courier.getOrderId()).getLocation()) > 1) {
+                continue;
+            }
+            if (courier.getStatus() == CourierStatus.BUSY) {
+                orders.remove(courier.getOrderId());
+                courier.completeOrder();
+            }
+            Location target = generator.next();
+            while (courier.estimateTicksTo(target) < 2) {
+                target = generator.next();
+            }
+            Order order = new Order(UUID.randomUUID(), target);
+            order.assignToCourier(courier);
+            courier.assignOrder(order);
+            orders.put(order.getId(), order);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public TickResult tick() {
+        return engine.tick(fleet, orders);
+    }
+}
@@ -0,0 +1,60 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransportBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"1", "3"})
+    private int speed;
+
+    private Transport transport;
+    private Location[] from;
+    private Location[] to;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        transport = new Transport("Transport", speed);
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(42);
+        from = new Location[SIZE];
+        to = new Location[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            from[i] = generator.next();
+            to[i] = generator.next();
+        }
+    }
+
+    @Benchmark
+    public Location move() {
+        int i = cursor++ & (SIZE - 1);
+        return transport.move(from[i], to[i]);
+    }
+
+    @Benchmark
+    public int estimateTicks() {
+        int i = cursor++ & (SIZE - 1);
+        return transport.estimateTicks(from[i], to[i]);
+    }
+}
@@ -0,0 +1,125 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.application.dispatch.DirectTravelTimeEstimator;
+import ai.pesco.delivery.core.application.dispatch.TravelTimeTable;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums distances or travel ticks over {@code SIZE} random location pairs, comparing
+ * {@link Location#calculateDistance(Location)} and {@link Transport#estimateTicks(Location, Location)}
+ * with the arithmetic and table-driven estimators on packed locations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TravelTimeBenchmark {
+    private static final int SIZE = 1024;
+
+    private Location[] from;
+    private Location[] to;
+    private int[] fromPacked;
+    private int[] toPacked;
+    private int[] speeds;
+    private Transport[] transports;
+    private TravelTimeTable table;
+    private DirectTravelTimeEstimator direct;
+
+    @Setup
+    public void setUp() {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(42);
+        from = new Location[SIZE];
+        to = new Location[SIZE];
+        fromPacked = new int[SIZE];
+        toPacked = new int[SIZE];
+        speeds = new int[SIZE];
+        transports = new Transport[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            from[i] = generator.next();
+            to[i] = generator.next();
+            fromPacked[i] = from[i].pack();
+            toPacked[i] = to[i].pack();
+            speeds[i] = i % Transport.MAX_SPEED + 1;
+            transports[i] = new Transport("Transport", speeds[i]);
+        }
+        table = TravelTimeTable.shared();
+        direct = DirectTravelTimeEstimator.INSTANCE;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int calculateDistance() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += from[i].calculateDistance(to[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int directDistance() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += direct.distance(fromPacked[i], toPacked[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int tableDistance() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += table.distance(fromPacked[i], toPacked[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int transportTicks() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += transports[i].estimateTicks(from[i], to[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int directTicks() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += direct.ticks(speeds[i], fromPacked[i], toPacked[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int tableTicks() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += table.ticks(speeds[i], fromPacked[i], toPacked[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+package ai.pesco.delivery.benchmarks;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierMovedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderAssignedDomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import ai.pesco.delivery.infrastructure.adapter.codec.WireCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of outbox events as JSON, the format the outbox used before, and as
+ * {@link WireCodec} messages in a reused direct buffer. Three quarters of the events are courier
+ * moves and the rest order assignments, roughly the mix of a busy dispatch tick.
+ * Encoded, the mix averages about 130 bytes as JSON and 30 bytes as wire messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireCodecBenchmark {
+    private static final int EVENTS = 1024;
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new ParameterNamesModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private DomainEvent[] events;
+    private byte[][] json;
+    private ByteBuffer wire;
+    private ByteBuffer output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(42);
+        Instant now = Instant.now();
+        events = new DomainEvent[EVENTS];
+        json = new byte[EVENTS][];
+        wire = ByteBuffer.allocateDirect(EVENTS * WireCodec.MAX_MESSAGE_SIZE);
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = i % 4 == 0
+                    ? new OrderAssignedDomainEvent(UUID.randomUUID(), UUID.randomUUID(), now)
+                    : new CourierMovedDomainEvent(UUID.randomUUID(), generator.next(), now);
+            json[i] = mapper.writeValueAsBytes(events[i]);
+            WireCodec.write(events[i], wire);
+        }
+        wire.flip();
+        output = ByteBuffer.allocateDirect(EVENTS * WireCodec.MAX_MESSAGE_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void encodeJson(Blackhole blackhole) throws IOException {
+        for (DomainEvent event : events) {
+            blackhole.consume(mapper.writeValueAsBytes(event));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int encodeWire() {
+        output.clear();
+        for (DomainEvent event : events) {
+            WireCodec.write(event, output);
+        }
+        return output.position();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decodeJson(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < EVENTS; i++) {
+            blackhole.consume(mapper.readValue(json[i], events[i].getClass()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decodeWire(Blackhole blackhole) {
+        ByteBuffer buffer = wire.duplicate();
+        for (int i = 0; i < EVENTS; i++) {
+            blackhole.consume(WireCodec.readEvent(buffer));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import java.util.UUID;
+
+/**
+ * One input of a load run, applied at the start of {@code tick()}.
+ */
+public sealed interface LoadEvent {
+
+    long tick();
+
+    record CourierJoined(long tick, UUID courierId, UUID transportId, int speed, int x, int y) implements LoadEvent {
+    }
+
+    record OrderCreated(long tick, UUID orderId, int x, int y) implements LoadEvent {
+    }
+}
@@ -0,0 +1,78 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Text recording of load events, one per line:
+ * {@code C,tick,courierId,transportId,speed,x,y} or {@code O,tick,orderId,x,y}.
+ * Events are kept in file order, which must be non-decreasing by tick.
+ */
+public final class LoadFile {
+    private static final String HEADER = "# delivery load v1";
+
+    private LoadFile() {
+    }
+
+    public static void write(Path path, List<LoadEvent> events) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (LoadEvent event : events) {
+                writer.write(switch (event) {
+                    case LoadEvent.CourierJoined courier -> "C," + courier.tick() + "," + courier.courierId() + ","
+                            + courier.transportId() + "," + courier.speed() + "," + courier.x() + "," + courier.y();
+                    case LoadEvent.OrderCreated order -> "O," + order.tick() + "," + order.orderId() + ","
+                            + order.x() + "," + order.y();
+                });
+                writer.newLine();
+            }
+        }
+    }
+
+    public static List<LoadEvent> read(Path path) throws IOException {
+        List<LoadEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IllegalArgumentException("Not a load file: " + path);
+            }
+            long previousTick = 0;
+            int lineNumber = 1;
+            for (String line; (line = reader.readLine()) != null; ) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                LoadEvent event = parse(line, lineNumber);
+                if (event.tick() < previousTick) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " goes back in time");
+                }
+                previousTick = event.tick();
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static LoadEvent parse(String line, int lineNumber) {
+        String[] fields = line.split(",");
+        try {
+            return switch (fields[0]) {
+                case "C" -> new LoadEvent.CourierJoined(Long.parseLong(fields[1]), UUID.fromString(fields[2]),
+                        UUID.fromString(fields[3]), Integer.parseInt(fields[4]),
+                        Integer.parseInt(fields[5]), Integer.parseInt(fields[6]));
+                case "O" -> new LoadEvent.OrderCreated(Long.parseLong(fields[1]), UUID.fromString(fields[2]),
+                        Integer.parseInt(fields[3]), Integer.parseInt(fields[4]));
+                default -> throw new IllegalArgumentException("Line " + lineNumber + " has an unknown event type");
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + " is malformed", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeded stream of a fleet joining at tick 0 followed by {@code ordersPerTick} order
+ * creations per tick. Locations are uniform over the grid like {@link Location#random()},
+ * transport speeds are uniform over the allowed range, and ids come from the seed, so the
+ * same arguments always produce the same events.
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static List<LoadEvent> generate(long seed, int couriers, int ordersPerTick, int ticks) {
+        if (couriers < 1) {
+            throw new IllegalArgumentException("Couriers must be positive");
+        }
+        if (ordersPerTick < 0) {
+            throw new IllegalArgumentException("Orders per tick cannot be negative");
+        }
+        if (ticks < 1) {
+            throw new IllegalArgumentException("Ticks must be positive");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        RandomLocationGenerator locations = RandomLocationGenerator.seeded(random.nextLong());
+        List<LoadEvent> events = new ArrayList<>(couriers + ordersPerTick * ticks);
+        for (int i = 0; i < couriers; i++) {
+            Location location = locations.next();
+            int speed = random.nextInt(Transport.MIN_SPEED, Transport.MAX_SPEED + 1);
+            events.add(new LoadEvent.CourierJoined(0, id(random), id(random), speed, location.getX(), location.getY()));
+        }
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < ordersPerTick; i++) {
+                Location location = locations.next();
+                events.add(new LoadEvent.OrderCreated(tick, id(random), location.getX(), location.getY()));
+            }
+        }
+        return events;
+    }
+
+    private static UUID id(SplittableRandom random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
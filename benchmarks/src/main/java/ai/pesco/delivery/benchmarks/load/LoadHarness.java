@@ -0,0 +1,57 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line entry of the load harness. Generates a seeded run, or replays a recorded one:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar ai.pesco.delivery.benchmarks.load.LoadHarness \
+ *     --seed 42 --couriers 5000 --orders-per-tick 1000 --ticks 600 [--tick-interval-ms 100] [--record run.load]
+ * java -cp benchmarks/target/benchmarks.jar ai.pesco.delivery.benchmarks.load.LoadHarness --replay run.load
+ * </pre>
+ * A replay of a recording reports the same checksum as the run that recorded it.
+ */
+public final class LoadHarness {
+    private static final int MAX_DRAIN_TICKS = 10_000;
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+
+        List<LoadEvent> events;
+        if (options.containsKey("replay")) {
+            events = LoadFile.read(Path.of(options.get("replay")));
+        } else {
+            events = LoadGenerator.generate(
+                    Long.parseLong(options.getOrDefault("seed", "1")),
+                    Integer.parseInt(options.getOrDefault("couriers", "1000")),
+                    Integer.parseInt(options.getOrDefault("orders-per-tick", "200")),
+                    Integer.parseInt(options.getOrDefault("ticks", "300")));
+        }
+        if (options.containsKey("record")) {
+            LoadFile.write(Path.of(options.get("record")), events);
+        }
+
+        Duration tickInterval = Duration.ofMillis(Long.parseLong(options.getOrDefault("tick-interval-ms", "0")));
+        LoadReport report = new LoadRunner(tickInterval, MAX_DRAIN_TICKS).run(events);
+        System.out.println(report.format());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
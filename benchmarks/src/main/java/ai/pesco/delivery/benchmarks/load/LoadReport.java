@@ -0,0 +1,29 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a load run. Latencies are from the start of the tick an order was created in
+ * until it was assigned, in microseconds. {@code checksum} covers every assignment and
+ * delivery with its tick, so two runs of the same events made the same decisions exactly
+ * when their checksums match.
+ */
+public record LoadReport(long orders, long assigned, long delivered, long ticks, Duration elapsed,
+                         long p50Micros, long p95Micros, long p99Micros, long maxMicros,
+                         long gcPauses, Duration gcPauseTime, long checksum) {
+
+    public double ordersPerSecond() {
+        return elapsed.isZero() ? 0 : assigned * 1e9 / elapsed.toNanos();
+    }
+
+    public String format() {
+        return String.format("""
+                        orders        %d created, %d assigned, %d delivered in %d ticks
+                        throughput    %.0f orders/s over %d ms
+                        assignment    p50 %d us, p95 %d us, p99 %d us, max %d us
+                        gc            %d pauses, %d ms
+                        checksum      %016x""",
+                orders, assigned, delivered, ticks, ordersPerSecond(), elapsed.toMillis(),
+                p50Micros, p95Micros, p99Micros, maxMicros, gcPauses, gcPauseTime.toMillis(), checksum);
+    }
+}
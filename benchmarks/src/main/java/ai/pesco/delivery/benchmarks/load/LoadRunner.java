@@ -0,0 +1,172 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import ai.pesco.delivery.core.application.dispatch.DispatchService;
+import ai.pesco.delivery.core.application.dispatch.FreeCourierIndex;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.simulation.Delivery;
+import ai.pesco.delivery.core.application.simulation.TickEngine;
+import ai.pesco.delivery.core.application.simulation.TickResult;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives load events through dispatch and movement one tick at a time: the tick's events
+ * are applied, waiting orders are assigned first-come first-served to the nearest free
+ * courier, and the fleet moves. With a positive tick interval the ticks are paced to that
+ * rate; otherwise they run back to back. After the last event the run continues until
+ * every order is delivered or {@code maxDrainTicks} more ticks have passed.
+ */
+public class LoadRunner {
+    private final Duration tickInterval;
+    private final int maxDrainTicks;
+
+    public LoadRunner(Duration tickInterval, int maxDrainTicks) {
+        if (tickInterval == null || tickInterval.isNegative()) {
+            throw new IllegalArgumentException("Tick interval cannot be null or negative");
+        }
+        if (maxDrainTicks < 0) {
+            throw new IllegalArgumentException("Max drain ticks cannot be negative");
+        }
+        this.tickInterval = tickInterval;
+        this.maxDrainTicks = maxDrainTicks;
+    }
+
+    public LoadReport run(List<LoadEvent> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+
+        FreeCourierIndex index = new FreeCourierIndex();
+        DispatchService dispatch = new DispatchService(index);
+        TickEngine engine = new TickEngine(ForkJoinPool.commonPool(), TickEngine.DEFAULT_BATCH_SIZE,
+                DispatchMetrics.NOOP, TickEngine.DISCARD_EVENTS);
+        List<Courier> couriers = new ArrayList<>();
+        Map<UUID, Order> orders = new HashMap<>();
+        ArrayDeque<Order> waiting = new ArrayDeque<>();
+        ArrayDeque<Long> waitingSince = new ArrayDeque<>();
+        long[] latencies = new long[1024];
+        long created = 0;
+        long assigned = 0;
+        long delivered = 0;
+        long checksum = 1;
+
+        long lastEventTick = events.isEmpty() ? 0 : events.getLast().tick();
+        long intervalNanos = tickInterval.toNanos();
+        long[] gcBefore = gcTotals();
+        long start = System.nanoTime();
+        long tickStart = start;
+        int next = 0;
+        long tick = 0;
+        while (next < events.size() || (delivered < created && tick <= lastEventTick + maxDrainTicks)) {
+            if (intervalNanos > 0) {
+                long wait = tickStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            long now = System.nanoTime();
+
+            for (; next < events.size() && events.get(next).tick() <= tick; next++) {
+                switch (events.get(next)) {
+                    case LoadEvent.CourierJoined joined -> {
+                        Courier courier = Courier.restore(joined.courierId(), "Courier " + couriers.size(),
+                                Transport.restore(joined.transportId(), "Transport", joined.speed()),
+                                Location.of(joined.x(), joined.y()), List.of());
+                        couriers.add(courier);
+                        dispatch.register(courier);
+                    }
+                    case LoadEvent.OrderCreated creation -> {
+                        Order order = new Order(creation.orderId(), Location.of(creation.x(), creation.y()));
+                        orders.put(order.getId(), order);
+                        waiting.add(order);
+                        waitingSince.add(now);
+                        created++;
+                    }
+                }
+            }
+
+            while (!waiting.isEmpty()) {
+                Optional<Courier> courier = dispatch.dispatch(waiting.peek());
+                if (courier.isEmpty()) {
+                    break;
+                }
+                Order order = waiting.poll();
+                if (assigned == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, latencies.length * 2);
+                }
+                latencies[(int) assigned++] = System.nanoTime() - waitingSince.poll();
+                checksum = mix(checksum, order.getId(), courier.get().getId(), tick);
+            }
+
+            TickResult result = engine.tick(couriers, orders);
+            for (Delivery delivery : result.deliveries()) {
+                index.refresh(delivery.courier());
+                orders.remove(delivery.order().getId());
+                checksum = mix(checksum, delivery.order().getId(), delivery.courier().getId(), -tick);
+            }
+            delivered += result.deliveries().size();
+            tick++;
+            tickStart += intervalNanos;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long[] gcAfter = gcTotals();
+        long[] sorted = Arrays.copyOf(latencies, (int) assigned);
+        Arrays.sort(sorted);
+        return new LoadReport(created, assigned, delivered, tick, elapsed,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0),
+                gcAfter[0] - gcBefore[0], Duration.ofMillis(gcAfter[1] - gcBefore[1]), checksum);
+    }
+
+    private static long mix(long checksum, UUID orderId, UUID courierId, long tick) {
+        long value = orderId.getMostSignificantBits() ^ orderId.getLeastSignificantBits() * 31
+                ^ courierId.getMostSignificantBits() * 17 ^ courierId.getLeastSignificantBits() ^ tick;
+        return (checksum ^ value) * 0x9E3779B97F4A7C15L;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, rank)] / 1000;
+    }
+
+    /**
+     * Pause counts and times summed over the stop-the-world collectors only. Concurrent
+     * collectors, such as "G1 Concurrent GC" or the "Cycles" beans of ZGC and Shenandoah,
+     * report time spent next to the application and would inflate the pause time.
+     */
+    private static long[] gcTotals() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (isConcurrent(collector.getName())) {
+                continue;
+            }
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+    private static boolean isConcurrent(String collectorName) {
+        return collectorName.contains("Concurrent") || collectorName.endsWith("Cycles");
+    }
+}
@@ -0,0 +1,111 @@
+package ai.pesco.delivery.benchmarks.startup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching the delivery service to its first accepted order, that is
+ * the first {@code POST /api/v1/orders} answered with 201. Every run starts a fresh JVM with the
+ * given command line, to which {@code --server.port} is appended:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar ai.pesco.delivery.benchmarks.startup.StartupBenchmark \
+ *     [--runs 5] [--port 18080] -- java -jar app/target/delivery-app-0.0.1-SNAPSHOT.jar
+ * java -cp benchmarks/target/benchmarks.jar ai.pesco.delivery.benchmarks.startup.StartupBenchmark \
+ *     -- java -XX:SharedArchiveFile=app/target/cds/application.jsa -Dspring.aot.enabled=true \
+ *        -jar app/target/cds/delivery-app-0.0.1-SNAPSHOT.jar
+ * </pre>
+ * The service needs its database, so pass {@code --spring.datasource.url} and friends in the
+ * command when the defaults do not apply.
+ */
+public final class StartupBenchmark {
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(2);
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final String ORDER = "{\"x\":3,\"y\":4}";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Expected the service command line after --");
+        }
+        Map<String, String> options = parse(Arrays.copyOfRange(args, 0, separator));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        List<String> command = new ArrayList<>(Arrays.asList(args).subList(separator + 1, args.length));
+        command.add("--server.port=" + port);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER))
+                .build();
+
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = measure(command, client, request);
+            System.out.printf("run %d: %d ms%n", run + 1, millis[run]);
+        }
+
+        Arrays.sort(millis);
+        System.out.printf("first accepted order: min %d ms, median %d ms, max %d ms over %d runs%n",
+                millis[0], millis[runs / 2], millis[runs - 1], runs);
+    }
+
+    private static long measure(List<String> command, HttpClient client, HttpRequest request) throws Exception {
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with code " + process.exitValue());
+                }
+                if (System.nanoTime() - started > TIMEOUT.toNanos()) {
+                    throw new IllegalStateException("Service did not accept an order within " + TIMEOUT);
+                }
+                if (accepted(client, request)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static boolean accepted(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 201;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
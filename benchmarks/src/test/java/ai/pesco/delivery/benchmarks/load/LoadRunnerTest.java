@@ -0,0 +1,32 @@
+package ai.pesco.delivery.benchmarks.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadRunnerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void run_ReplayOfRecordedRun_ReportsSameChecksum() throws Exception {
+        List<LoadEvent> events = LoadGenerator.generate(7, 20, 5, 30);
+        Path recording = directory.resolve("run.load");
+        LoadReport recorded = new LoadRunner(Duration.ZERO, 10_000).run(events);
+        LoadFile.write(recording, events);
+
+        List<LoadEvent> replayed = LoadFile.read(recording);
+        LoadReport replay = new LoadRunner(Duration.ZERO, 10_000).run(replayed);
+
+        assertEquals(events, replayed);
+        assertEquals(150, recorded.orders());
+        assertEquals(recorded.orders(), recorded.delivered());
+        assertEquals(recorded.checksum(), replay.checksum());
+        assertEquals(recorded.ticks(), replay.ticks());
+    }
+}
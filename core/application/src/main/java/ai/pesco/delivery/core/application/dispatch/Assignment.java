@@ -0,0 +1,7 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+public record Assignment(Order order, Courier courier, int ticks) {
+}
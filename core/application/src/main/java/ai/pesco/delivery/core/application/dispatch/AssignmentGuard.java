@@ -0,0 +1,191 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pairs couriers with orders exactly once when several dispatchers run concurrently.
+ * Each aggregate id maps to one of a fixed set of locks; a pairing holds the locks of
+ * both ids, taken in stripe order so two pairings never wait on each other in a cycle.
+ * Unrelated pairings usually hit different stripes and proceed in parallel. Every
+ * status or route change of a guarded courier or order has to go through this class, since
+ * the aggregates themselves are not thread-safe. The guard only covers aggregates shared
+ * within one process; conflicting changes made by other instances are caught when the
+ * repository rejects a save of a stale version.
+ */
+public class AssignmentGuard {
+    private static final int DEFAULT_STRIPES = 1024;
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public AssignmentGuard() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public AssignmentGuard(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive");
+        }
+
+        int size = Math.max(1, Integer.highestOneBit(stripes - 1) << 1);
+        locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Assigns the order to the courier if the courier is still FREE and the order still
+     * CREATED. Returns false, leaving both untouched, if another dispatcher got there first.
+     */
+    public boolean tryAssign(Courier courier, Order order) {
+        checkCourier(courier);
+        checkOrder(order);
+
+        int first = stripe(courier.getId());
+        int second = stripe(order.getId());
+        lock(first, second);
+        try {
+            if (courier.getStatus() != CourierStatus.FREE || order.getStatus() != OrderStatus.CREATED) {
+                return false;
+            }
+            courier.assignOrder(order);
+            order.assignToCourier(courier);
+            return true;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * Tries the candidates in order and returns the first courier the order was assigned to.
+     */
+    public Optional<Courier> tryAssignAny(Order order, List<Courier> candidates) {
+        checkOrder(order);
+        if (candidates == null) {
+            throw new IllegalArgumentException("Candidates cannot be null");
+        }
+
+        for (Courier courier : candidates) {
+            if (order.getStatus() != OrderStatus.CREATED) {
+                break;
+            }
+            if (tryAssign(courier, order)) {
+                return Optional.of(courier);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Inserts the order into the courier's route before the stop at {@code position} if the
+     * order is still CREATED and the courier still has room at that position. Returns false,
+     * leaving both untouched, if another dispatcher changed either in the meantime.
+     */
+    public boolean tryAddToRoute(Courier courier, Order order, int position) {
+        checkCourier(courier);
+        checkOrder(order);
+
+        int first = stripe(courier.getId());
+        int second = stripe(order.getId());
+        lock(first, second);
+        try {
+            if (order.getStatus() != OrderStatus.CREATED || courier.getFreeCapacity() <= 0
+                    || position < 0 || position > courier.getRouteSize()) {
+                return false;
+            }
+            courier.addToRoute(order, position);
+            order.assignToCourier(courier);
+            return true;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * Replaces the delivery order of the courier's route if the route still holds exactly
+     * the given orders. Returns false if another dispatcher changed the route in the meantime.
+     */
+    public boolean tryReplan(Courier courier, List<UUID> route) {
+        checkCourier(courier);
+        if (route == null) {
+            throw new IllegalArgumentException("Route cannot be null");
+        }
+
+        int stripe = stripe(courier.getId());
+        lock(stripe, stripe);
+        try {
+            if (route.size() != courier.getRouteSize() || !new HashSet<>(route).equals(new HashSet<>(courier.getRoute()))) {
+                return false;
+            }
+            courier.replanRoute(route);
+            return true;
+        } finally {
+            unlock(stripe, stripe);
+        }
+    }
+
+    public void complete(Courier courier, Order order) {
+        checkCourier(courier);
+        checkOrder(order);
+
+        int first = stripe(courier.getId());
+        int second = stripe(order.getId());
+        lock(first, second);
+        try {
+            if (!order.getId().equals(courier.getOrderId())) {
+                throw new IllegalStateException("Order is not assigned to this courier");
+            }
+            order.complete();
+            courier.completeOrder();
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    private int stripe(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void lock(int first, int second) {
+        int low = Math.min(first, second);
+        int high = Math.max(first, second);
+        locks[low].lock();
+        if (high != low) {
+            locks[high].lock();
+        }
+    }
+
+    private void unlock(int first, int second) {
+        int low = Math.min(first, second);
+        int high = Math.max(first, second);
+        if (high != low) {
+            locks[high].unlock();
+        }
+        locks[low].unlock();
+    }
+
+    private void checkCourier(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+    }
+
+    private void checkOrder(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import java.util.List;
+
+public record BatchAssignment(List<Assignment> assignments, boolean optimal) {
+
+    public BatchAssignment {
+        assignments = List.copyOf(assignments);
+    }
+
+    public long totalTicks() {
+        long total = 0;
+        for (Assignment assignment : assignments) {
+            total += assignment.ticks();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,296 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Matches all CREATED orders of a dispatch tick against FREE couriers at once,
+ * minimising the total number of travel ticks with the Hungarian algorithm.
+ * Candidates are limited to the nearest couriers of each order, and batches
+ * that are too large or do not fit into the time budget are matched greedily.
+ * Travel ticks come from a {@link TravelTimeEstimator}, the lookup table by default.
+ * Matched pairs are applied through an {@link AssignmentGuard}; a pair whose courier or
+ * order is no longer available, because the index was stale or another dispatcher sharing
+ * the guard got there first, is left out of the result.
+ * The dispatcher itself, including its index, is not thread-safe.
+ */
+public class BatchDispatcher {
+    public static final int DEFAULT_OPTIMAL_BATCH_LIMIT = 300;
+    public static final int DEFAULT_CANDIDATES_PER_ORDER = 8;
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(50);
+
+    private final FreeCourierIndex index;
+    private final TravelTimeEstimator estimator;
+    private final DispatchMetrics metrics;
+    private final AssignmentGuard guard;
+    private final int optimalBatchLimit;
+    private final int candidatesPerOrder;
+    private final long timeBudgetNanos;
+
+    public BatchDispatcher(FreeCourierIndex index) {
+        this(index, DEFAULT_OPTIMAL_BATCH_LIMIT, DEFAULT_CANDIDATES_PER_ORDER, DEFAULT_TIME_BUDGET);
+    }
+
+    public BatchDispatcher(FreeCourierIndex index, int optimalBatchLimit, int candidatesPerOrder, Duration timeBudget) {
+        this(index, TravelTimeEstimator.forGrid(), optimalBatchLimit, candidatesPerOrder, timeBudget);
+    }
+
+    public BatchDispatcher(FreeCourierIndex index, TravelTimeEstimator estimator,
+                           int optimalBatchLimit, int candidatesPerOrder, Duration timeBudget) {
+        this(index, estimator, DispatchMetrics.NOOP, optimalBatchLimit, candidatesPerOrder, timeBudget);
+    }
+
+    public BatchDispatcher(FreeCourierIndex index, TravelTimeEstimator estimator, DispatchMetrics metrics,
+                           int optimalBatchLimit, int candidatesPerOrder, Duration timeBudget) {
+        this(index, estimator, metrics, new AssignmentGuard(), optimalBatchLimit, candidatesPerOrder, timeBudget);
+    }
+
+    public BatchDispatcher(FreeCourierIndex index, TravelTimeEstimator estimator, DispatchMetrics metrics,
+                           AssignmentGuard guard, int optimalBatchLimit, int candidatesPerOrder, Duration timeBudget) {
+        if (index == null) {
+            throw new IllegalArgumentException("Index cannot be null");
+        }
+        if (estimator == null) {
+            throw new IllegalArgumentException("Estimator cannot be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (guard == null) {
+            throw new IllegalArgumentException("Guard cannot be null");
+        }
+        if (optimalBatchLimit < 0) {
+            throw new IllegalArgumentException("Optimal batch limit cannot be negative");
+        }
+        if (candidatesPerOrder < 1) {
+            throw new IllegalArgumentException("Candidates per order must be positive");
+        }
+        if (timeBudget == null || timeBudget.isNegative()) {
+            throw new IllegalArgumentException("Time budget cannot be null or negative");
+        }
+
+        this.index = index;
+        this.estimator = estimator;
+        this.metrics = metrics;
+        this.guard = guard;
+        this.optimalBatchLimit = optimalBatchLimit;
+        this.candidatesPerOrder = candidatesPerOrder;
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+
+    public BatchAssignment dispatch(Collection<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+
+        List<Order> pending = new ArrayList<>(orders.size());
+        Set<UUID> seen = new HashSet<>();
+        for (Order order : orders) {
+            if (order != null && order.getStatus() == OrderStatus.CREATED && seen.add(order.getId())) {
+                pending.add(order);
+            }
+        }
+        if (pending.isEmpty() || index.size() == 0) {
+            return new BatchAssignment(List.of(), true);
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetNanos;
+        List<Assignment> assignments = null;
+        if (pending.size() <= optimalBatchLimit) {
+            assignments = matchOptimally(pending, deadline);
+        }
+
+        boolean optimal = assignments != null;
+        if (!optimal) {
+            assignments = matchGreedily(pending);
+        }
+
+        List<Assignment> applied = apply(assignments);
+        metrics.dispatchTick(System.nanoTime() - start);
+        return new BatchAssignment(applied, optimal);
+    }
+
+    /**
+     * Dispatches the most urgent orders of the queue, at most one per FREE courier, so a
+     * backlog is worked off by deadline rather than in arrival order. Orders left without
+     * a courier go back to the front of the queue. The time every assigned order spent in
+     * the queue is recorded as its wait.
+     */
+    public BatchAssignment dispatch(DispatchQueue queue) {
+        if (queue == null) {
+            throw new IllegalArgumentException("Queue cannot be null");
+        }
+
+        List<QueuedOrder> urgent = queue.poll(index.size());
+        List<Order> orders = new ArrayList<>(urgent.size());
+        Map<UUID, Long> enqueuedNanos = new HashMap<>();
+        for (QueuedOrder queued : urgent) {
+            orders.add(queued.order());
+            enqueuedNanos.put(queued.order().getId(), queued.enqueuedNanos());
+        }
+        try {
+            BatchAssignment result = dispatch(orders);
+            long now = System.nanoTime();
+            for (Assignment assignment : result.assignments()) {
+                metrics.orderWaited(now - enqueuedNanos.get(assignment.order().getId()));
+            }
+            return result;
+        } finally {
+            queue.requeue(urgent);
+        }
+    }
+
+    private List<Assignment> matchOptimally(List<Order> orders, long deadline) {
+        Set<Courier> candidateSet = new LinkedHashSet<>();
+        for (Order order : orders) {
+            candidateSet.addAll(index.findNearest(order.getLocation(), candidatesPerOrder));
+        }
+        List<Courier> couriers = new ArrayList<>(candidateSet);
+        int[] courierCells = new int[couriers.size()];
+        int[] courierSpeeds = new int[couriers.size()];
+        for (int j = 0; j < couriers.size(); j++) {
+            courierCells[j] = couriers.get(j).getLocation().pack();
+            courierSpeeds[j] = couriers.get(j).getTransport().getSpeed();
+        }
+
+        boolean ordersAsRows = orders.size() <= couriers.size();
+        int rows = ordersAsRows ? orders.size() : couriers.size();
+        int columns = ordersAsRows ? couriers.size() : orders.size();
+        int[][] cost = new int[rows][columns];
+        for (int i = 0; i < orders.size(); i++) {
+            int target = orders.get(i).getLocation().pack();
+            for (int j = 0; j < couriers.size(); j++) {
+                int ticks = estimator.ticks(courierSpeeds[j], courierCells[j], target);
+                if (ordersAsRows) {
+                    cost[i][j] = ticks;
+                } else {
+                    cost[j][i] = ticks;
+                }
+            }
+        }
+
+        int[] rowByColumn = solve(cost, rows, columns, deadline);
+        if (rowByColumn == null) {
+            return null;
+        }
+
+        List<Assignment> assignments = new ArrayList<>(rows);
+        for (int column = 0; column < columns; column++) {
+            int row = rowByColumn[column];
+            if (row < 0) {
+                continue;
+            }
+            Order order = orders.get(ordersAsRows ? row : column);
+            Courier courier = couriers.get(ordersAsRows ? column : row);
+            assignments.add(new Assignment(order, courier, cost[row][column]));
+        }
+        return assignments;
+    }
+
+    /**
+     * Hungarian algorithm with potentials for a rows x columns matrix where rows <= columns.
+     * Returns the row matched to every column (-1 when unmatched), or null when the deadline passed.
+     */
+    private static int[] solve(int[][] cost, int rows, int columns, long deadline) {
+        long[] u = new long[rows + 1];
+        long[] v = new long[columns + 1];
+        int[] p = new int[columns + 1];
+        int[] way = new int[columns + 1];
+        long[] minv = new long[columns + 1];
+        boolean[] used = new boolean[columns + 1];
+
+        for (int i = 1; i <= rows; i++) {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Long.MAX_VALUE);
+            Arrays.fill(used, false);
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                long delta = Long.MAX_VALUE;
+                int j1 = 0;
+                for (int j = 1; j <= columns; j++) {
+                    if (used[j]) {
+                        continue;
+                    }
+                    long current = cost[i0 - 1][j - 1] - u[i0] - v[j];
+                    if (current < minv[j]) {
+                        minv[j] = current;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= columns; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+
+            if (System.nanoTime() - deadline > 0) {
+                return null;
+            }
+        }
+
+        int[] rowByColumn = new int[columns];
+        for (int j = 1; j <= columns; j++) {
+            rowByColumn[j - 1] = p[j] - 1;
+        }
+        return rowByColumn;
+    }
+
+    private List<Assignment> matchGreedily(List<Order> orders) {
+        List<Assignment> assignments = new ArrayList<>();
+        for (Order order : orders) {
+            List<Courier> nearest = index.findNearest(order.getLocation(), 1);
+            if (nearest.isEmpty()) {
+                break;
+            }
+            Courier courier = nearest.getFirst();
+            index.remove(courier);
+            assignments.add(new Assignment(order, courier, estimator.ticks(courier, order.getLocation())));
+        }
+        return assignments;
+    }
+
+    private List<Assignment> apply(List<Assignment> assignments) {
+        List<Assignment> applied = new ArrayList<>(assignments.size());
+        for (Assignment assignment : assignments) {
+            boolean assigned = guard.tryAssign(assignment.courier(), assignment.order());
+            index.refresh(assignment.courier());
+            if (assigned) {
+                applied.add(assignment);
+                metrics.orderTransitioned(OrderStatus.ASSIGNED);
+                metrics.courierTravelTicks(assignment.ticks());
+            }
+        }
+        return applied;
+    }
+}
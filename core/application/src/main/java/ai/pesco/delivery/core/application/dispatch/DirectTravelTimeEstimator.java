@@ -0,0 +1,26 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+/**
+ * Computes distances and ticks from the unpacked coordinates on every call.
+ */
+public final class DirectTravelTimeEstimator implements TravelTimeEstimator {
+    public static final DirectTravelTimeEstimator INSTANCE = new DirectTravelTimeEstimator();
+
+    private DirectTravelTimeEstimator() {
+    }
+
+    @Override
+    public int distance(int fromPacked, int toPacked) {
+        return Math.abs(Location.unpackX(toPacked) - Location.unpackX(fromPacked))
+                + Math.abs(Location.unpackY(toPacked) - Location.unpackY(fromPacked));
+    }
+
+    @Override
+    public int ticks(int speed, int fromPacked, int toPacked) {
+        return Transport.estimateTicks(Location.unpackX(toPacked) - Location.unpackX(fromPacked),
+                Location.unpackY(toPacked) - Location.unpackY(fromPacked), speed);
+    }
+}
@@ -0,0 +1,243 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Works off a {@link DispatchQueue} against the stored fleet, one tick per interval: the FREE
+ * couriers are brought up to date in a {@link FreeCourierIndex} kept across ticks, the most
+ * urgent orders, at most one per courier, are matched by a {@link BatchDispatcher}, and the
+ * assigned orders and couriers are saved. Assigned orders leave the queue; the others go back
+ * to its front.
+ * <p>
+ * Orders are saved before couriers. If the courier save fails, for example on a version
+ * conflict with a location update, the orders are saved back as CREATED. After any failed
+ * save the assigned orders are reloaded and those the store has as CREATED are queued again
+ * in their old place; orders that cannot be reloaded are picked up by {@link #recover()} on
+ * the next start. A failed tick is logged, counted in {@link #failures()} and retried with
+ * the next one.
+ */
+@Slf4j
+public class DispatchLoop implements AutoCloseable {
+    private final CourierRepository courierRepository;
+    private final OrderRepository orderRepository;
+    private final DispatchQueue queue;
+    private final DispatchMetrics metrics;
+    private final TravelTimeEstimator estimator = TravelTimeEstimator.forGrid();
+    private final AssignmentGuard guard = new AssignmentGuard();
+    private final FreeCourierIndex index = new FreeCourierIndex();
+    private final Map<UUID, Courier> indexed = new HashMap<>();
+    private final Duration interval;
+    private final LongAdder failures = new LongAdder();
+    private ScheduledExecutorService scheduler;
+
+    public DispatchLoop(CourierRepository courierRepository, OrderRepository orderRepository, DispatchQueue queue,
+                        DispatchMetrics metrics, Duration interval) {
+        if (courierRepository == null) {
+            throw new IllegalArgumentException("Courier repository cannot be null");
+        }
+        if (orderRepository == null) {
+            throw new IllegalArgumentException("Order repository cannot be null");
+        }
+        if (queue == null) {
+            throw new IllegalArgumentException("Queue cannot be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+
+        this.courierRepository = courierRepository;
+        this.orderRepository = orderRepository;
+        this.queue = queue;
+        this.metrics = metrics;
+        this.interval = interval;
+    }
+
+    /**
+     * Queues the stored CREATED orders that are not queued yet, such as those left over from
+     * a previous run, with the deadline of {@link OrderIntake#DEFAULT_PRIORITY} from now.
+     * Returns the number of orders queued.
+     */
+    public int recover() {
+        int queued = 0;
+        for (Order order : orderRepository.findAllCreated()) {
+            if (!queue.contains(order.getId())) {
+                queue.enqueue(order, OrderIntake.DEFAULT_PRIORITY);
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    public synchronized BatchAssignment dispatch() {
+        refreshIndex();
+        List<QueuedOrder> urgent = queue.poll(index.size());
+        if (urgent.isEmpty()) {
+            return new BatchAssignment(List.of(), true);
+        }
+
+        BatchAssignment result;
+        try {
+            BatchDispatcher dispatcher = new BatchDispatcher(index, estimator, metrics, guard,
+                    BatchDispatcher.DEFAULT_OPTIMAL_BATCH_LIMIT, BatchDispatcher.DEFAULT_CANDIDATES_PER_ORDER,
+                    BatchDispatcher.DEFAULT_TIME_BUDGET);
+            result = dispatcher.dispatch(urgent.stream().map(QueuedOrder::order).toList());
+        } catch (RuntimeException e) {
+            queue.requeue(urgent);
+            throw e;
+        }
+        if (result.assignments().isEmpty()) {
+            queue.requeue(urgent);
+            return result;
+        }
+
+        try {
+            List<Order> orders = new ArrayList<>(result.assignments().size());
+            List<Courier> couriers = new ArrayList<>(result.assignments().size());
+            for (Assignment assignment : result.assignments()) {
+                orders.add(assignment.order());
+                couriers.add(assignment.courier());
+            }
+            orderRepository.saveAll(orders);
+            try {
+                courierRepository.saveAll(couriers);
+            } catch (RuntimeException e) {
+                revertAssignments(orders, e);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            try {
+                queue.requeue(reloadAssigned(urgent, result));
+            } catch (RuntimeException reloadFailure) {
+                e.addSuppressed(reloadFailure);
+                queue.requeue(urgent);
+            }
+            throw e;
+        }
+
+        queue.requeue(urgent);
+        long now = System.nanoTime();
+        for (QueuedOrder queued : urgent) {
+            if (queued.order().getStatus() != OrderStatus.CREATED) {
+                metrics.orderWaited(now - queued.enqueuedNanos());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of background dispatch ticks that failed since the loop was created.
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Dispatch loop is already started");
+        }
+        recover();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("dispatch-loop").daemon().unstarted(runnable));
+        long period = interval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::dispatchQuietly, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current != null) {
+            current.shutdown();
+            current.awaitTermination(interval.toMillis() + 10_000, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Replaces the indexed couriers with the FREE ones of the store. A courier is put in again
+     * when the store returns another instance of it, so the index never holds a stale version.
+     */
+    private void refreshIndex() {
+        Map<UUID, Courier> free = new HashMap<>();
+        for (Courier courier : courierRepository.findAllFree()) {
+            free.put(courier.getId(), courier);
+        }
+        Iterator<Courier> iterator = indexed.values().iterator();
+        while (iterator.hasNext()) {
+            Courier courier = iterator.next();
+            if (free.get(courier.getId()) != courier) {
+                index.remove(courier);
+                iterator.remove();
+            }
+        }
+        for (Courier courier : free.values()) {
+            if (indexed.putIfAbsent(courier.getId(), courier) == null) {
+                index.refresh(courier);
+            }
+        }
+    }
+
+    private void revertAssignments(List<Order> orders, RuntimeException failure) {
+        List<Order> reverted = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            Order created = Order.restore(order.getId(), order.getLocation(), OrderStatus.CREATED, null);
+            if (!order.isNew()) {
+                created.setVersion(order.getVersion());
+            }
+            reverted.add(created);
+        }
+        try {
+            orderRepository.saveAll(reverted);
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+            log.error("Could not revert the assignment of orders {}", orders.stream().map(Order::getId).toList(), e);
+        }
+    }
+
+    private List<QueuedOrder> reloadAssigned(List<QueuedOrder> urgent, BatchAssignment result) {
+        List<UUID> ids = result.assignments().stream().map(assignment -> assignment.order().getId()).toList();
+        Map<UUID, Order> stored = orderRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<QueuedOrder> retry = new ArrayList<>(urgent.size());
+        for (QueuedOrder queued : urgent) {
+            Order order = stored.get(queued.order().getId());
+            retry.add(order == null ? queued : new QueuedOrder(order, queued.priority(), queued.deadline(),
+                    queued.enqueuedNanos(), queued.sequence()));
+        }
+        return retry;
+    }
+
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Dispatch tick failed, retrying in {}", interval, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Service level of an order, most urgent first. The SLA is the time from queueing to the
+ * deadline by which the order should have a courier.
+ */
+@Getter
+public enum DispatchPriority {
+    EXPRESS(Duration.ofMinutes(10)),
+    STANDARD(Duration.ofMinutes(30)),
+    ECONOMY(Duration.ofMinutes(60));
+
+    private final Duration sla;
+
+    DispatchPriority(Duration sla) {
+        this.sla = sla;
+    }
+}
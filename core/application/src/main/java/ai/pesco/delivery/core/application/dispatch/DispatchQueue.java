@@ -0,0 +1,372 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pending orders by urgency: earliest deadline first at the resolution of one bucket, then
+ * by {@link DispatchPriority}, then oldest first. Orders live in a timing wheel of buckets,
+ * each holding one linked list per priority, so queueing, removal and polling are O(1) apart
+ * from a scan of a bitmap of occupied buckets. The wheel starts at the current bucket of the
+ * clock; orders due beyond its horizon wait in a sorted overflow set and move into the wheel
+ * as time advances. Overdue orders share the current bucket. The queue keeps the order itself,
+ * so an order relocated while queued keeps its place, and an order that is no longer CREATED
+ * when it comes up is dropped; remove orders that are cancelled elsewhere. Thread-safe.
+ */
+public class DispatchQueue {
+    public static final Duration DEFAULT_BUCKET_WIDTH = Duration.ofSeconds(1);
+    public static final int DEFAULT_BUCKETS = 4096;
+
+    private static final DispatchPriority[] PRIORITIES = DispatchPriority.values();
+    private static final int OVERFLOW = -1;
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final Clock clock;
+    private final Node[] heads;
+    private final Node[] tails;
+    private final long[] occupied;
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final TreeSet<Node> overflow = new TreeSet<>(Comparator.comparingLong((Node node) -> node.bucket)
+            .thenComparing(node -> node.priority)
+            .thenComparingLong((Node node) -> node.sequence)
+            .thenComparing(node -> node.order.getId()));
+    private final ReentrantLock lock = new ReentrantLock();
+    private int inWheel;
+    private long base;
+    private long sequence;
+
+    public DispatchQueue() {
+        this(DEFAULT_BUCKET_WIDTH, DEFAULT_BUCKETS, Clock.systemUTC());
+    }
+
+    public DispatchQueue(Duration bucketWidth, int buckets, Clock clock) {
+        if (bucketWidth == null || bucketWidth.toMillis() < 1) {
+            throw new IllegalArgumentException("Bucket width must be at least one millisecond");
+        }
+        if (buckets < 1) {
+            throw new IllegalArgumentException("Buckets must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+
+        this.bucketMillis = bucketWidth.toMillis();
+        this.buckets = buckets;
+        this.clock = clock;
+        this.heads = new Node[buckets * PRIORITIES.length];
+        this.tails = new Node[buckets * PRIORITIES.length];
+        this.occupied = new long[(buckets + 63) >>> 6];
+        this.base = Math.floorDiv(clock.millis(), bucketMillis);
+    }
+
+    /**
+     * Queues the order with the deadline given by the SLA of its priority.
+     */
+    public void enqueue(Order order, DispatchPriority priority) {
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority cannot be null");
+        }
+        enqueue(order, priority, clock.instant().plus(priority.getSla()));
+    }
+
+    public void enqueue(Order order, DispatchPriority priority, Instant deadline) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority cannot be null");
+        }
+        if (deadline == null) {
+            throw new IllegalArgumentException("Deadline cannot be null");
+        }
+        if (order.getStatus() != OrderStatus.CREATED) {
+            throw new IllegalArgumentException("To be queued, the order must have the CREATED status");
+        }
+
+        lock.lock();
+        try {
+            if (nodes.containsKey(order.getId())) {
+                throw new IllegalArgumentException("Order is already queued");
+            }
+            Node node = new Node(order, priority, deadline, Math.floorDiv(deadline.toEpochMilli(), bucketMillis),
+                    sequence++, System.nanoTime());
+            nodes.put(order.getId(), node);
+            place(node, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts polled orders that could not be dispatched back in front of the orders of the same
+     * bucket and priority, keeping their deadlines and arrival ranks. Orders that are no longer
+     * CREATED or were queued again in the meantime are skipped.
+     */
+    public void requeue(List<QueuedOrder> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+
+        lock.lock();
+        try {
+            for (int i = orders.size() - 1; i >= 0; i--) {
+                QueuedOrder queued = orders.get(i);
+                Order order = queued.order();
+                if (order.getStatus() != OrderStatus.CREATED || nodes.containsKey(order.getId())) {
+                    continue;
+                }
+                Node node = new Node(order, queued.priority(), queued.deadline(),
+                        Math.floorDiv(queued.deadline().toEpochMilli(), bucketMillis), queued.sequence(), queued.enqueuedNanos());
+                nodes.put(order.getId(), node);
+                place(node, true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean remove(UUID orderId) {
+        lock.lock();
+        try {
+            Node node = orderId == null ? null : nodes.remove(orderId);
+            if (node == null) {
+                return false;
+            }
+            unlink(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(UUID orderId) {
+        lock.lock();
+        try {
+            return orderId != null && nodes.containsKey(orderId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public Optional<QueuedOrder> peek() {
+        lock.lock();
+        try {
+            Node node = firstCreated();
+            return node == null ? Optional.empty() : Optional.of(node.toQueuedOrder());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns up to {@code limit} of the most urgent orders, most urgent first.
+     */
+    public List<QueuedOrder> poll(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        lock.lock();
+        try {
+            List<QueuedOrder> polled = new ArrayList<>(Math.min(limit, nodes.size()));
+            while (polled.size() < limit) {
+                Node node = firstCreated();
+                if (node == null) {
+                    break;
+                }
+                drop(node);
+                polled.add(node.toQueuedOrder());
+            }
+            return polled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the most urgent order that is still CREATED, dropping the ones before it that
+     * were assigned in the meantime.
+     */
+    private Node firstCreated() {
+        Node node = first();
+        while (node != null && node.order.getStatus() != OrderStatus.CREATED) {
+            drop(node);
+            node = first();
+        }
+        return node;
+    }
+
+    private void drop(Node node) {
+        nodes.remove(node.order.getId());
+        unlink(node);
+    }
+
+    private Node first() {
+        advance();
+        if (inWheel == 0) {
+            return overflow.isEmpty() ? null : overflow.first();
+        }
+
+        int slot = nextOccupied(slotOf(base));
+        for (int lane = slot * PRIORITIES.length; ; lane++) {
+            if (heads[lane] != null) {
+                return heads[lane];
+            }
+        }
+    }
+
+    private void place(Node node, boolean atHead) {
+        advance();
+        long bucket = Math.max(node.bucket, base);
+        if (bucket - base >= buckets) {
+            node.slot = OVERFLOW;
+            overflow.add(node);
+            return;
+        }
+        link(node, slotOf(bucket), atHead);
+    }
+
+    /**
+     * Moves the start of the wheel up to the current bucket, but never past its earliest
+     * occupied bucket, and pulls overflow orders that came within the horizon in.
+     */
+    private void advance() {
+        long now = Math.floorDiv(clock.millis(), bucketMillis);
+        if (now <= base) {
+            return;
+        }
+        if (inWheel == 0) {
+            base = now;
+        } else {
+            int baseSlot = slotOf(base);
+            base = Math.min(now, base + Math.floorMod(nextOccupied(baseSlot) - baseSlot, buckets));
+        }
+        while (!overflow.isEmpty() && overflow.first().bucket - base < buckets) {
+            Node node = overflow.pollFirst();
+            link(node, slotOf(Math.max(node.bucket, base)), false);
+        }
+    }
+
+    private void link(Node node, int slot, boolean atHead) {
+        int lane = slot * PRIORITIES.length + node.priority.ordinal();
+        node.slot = slot;
+        if (heads[lane] == null) {
+            heads[lane] = node;
+            tails[lane] = node;
+        } else if (atHead) {
+            node.next = heads[lane];
+            heads[lane].prev = node;
+            heads[lane] = node;
+        } else {
+            node.prev = tails[lane];
+            tails[lane].next = node;
+            tails[lane] = node;
+        }
+        occupied[slot >>> 6] |= 1L << slot;
+        inWheel++;
+    }
+
+    private void unlink(Node node) {
+        if (node.slot == OVERFLOW) {
+            overflow.remove(node);
+            return;
+        }
+
+        int slot = node.slot;
+        int lane = slot * PRIORITIES.length + node.priority.ordinal();
+        if (node.prev == null) {
+            heads[lane] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tails[lane] = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        inWheel--;
+
+        int firstLane = slot * PRIORITIES.length;
+        for (int i = firstLane; i < firstLane + PRIORITIES.length; i++) {
+            if (heads[i] != null) {
+                return;
+            }
+        }
+        occupied[slot >>> 6] &= ~(1L << slot);
+    }
+
+    /**
+     * Returns the first occupied slot at or after {@code from}, wrapping around. The wheel must not be empty.
+     */
+    private int nextOccupied(int from) {
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        for (int scanned = 0; scanned <= occupied.length; scanned++) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            word = word + 1 == occupied.length ? 0 : word + 1;
+            bits = occupied[word];
+        }
+        throw new IllegalStateException("Wheel is empty");
+    }
+
+    private int slotOf(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets);
+    }
+
+    private static final class Node {
+        private final Order order;
+        private final DispatchPriority priority;
+        private final Instant deadline;
+        private final long bucket;
+        private final long sequence;
+        private final long enqueuedNanos;
+        private int slot;
+        private Node prev;
+        private Node next;
+
+        private Node(Order order, DispatchPriority priority, Instant deadline, long bucket, long sequence,
+                     long enqueuedNanos) {
+            this.order = order;
+            this.priority = priority;
+            this.deadline = deadline;
+            this.bucket = bucket;
+            this.sequence = sequence;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private QueuedOrder toQueuedOrder() {
+            return new QueuedOrder(order, priority, deadline, enqueuedNanos, sequence);
+        }
+    }
+}
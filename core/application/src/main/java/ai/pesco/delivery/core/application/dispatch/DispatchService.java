@@ -0,0 +1,119 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Assigns orders to the nearest FREE courier and keeps the {@link FreeCourierIndex}
+ * in sync with every courier state change it performs. Assignments and completions go
+ * through an {@link AssignmentGuard}, so dispatchers sharing a guard never pair a courier
+ * or an order twice; a courier taken by another dispatcher drops out of the index and the
+ * next nearest one is tried. The service itself, including its index, is not thread-safe.
+ */
+public class DispatchService {
+    private final FreeCourierIndex index;
+    private final DispatchMetrics metrics;
+    private final AssignmentGuard guard;
+
+    public DispatchService(FreeCourierIndex index) {
+        this(index, DispatchMetrics.NOOP);
+    }
+
+    public DispatchService(FreeCourierIndex index, DispatchMetrics metrics) {
+        this(index, metrics, new AssignmentGuard());
+    }
+
+    public DispatchService(FreeCourierIndex index, DispatchMetrics metrics, AssignmentGuard guard) {
+        if (index == null) {
+            throw new IllegalArgumentException("Index cannot be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (guard == null) {
+            throw new IllegalArgumentException("Guard cannot be null");
+        }
+        this.index = index;
+        this.metrics = metrics;
+        this.guard = guard;
+    }
+
+    public void register(Courier courier) {
+        index.refresh(courier);
+    }
+
+    public void unregister(Courier courier) {
+        index.remove(courier);
+    }
+
+    public List<Courier> findNearestFreeCouriers(Location target, int limit) {
+        return index.findNearest(target, limit);
+    }
+
+    public Optional<Courier> dispatch(Order order) {
+        return dispatch(order, System.nanoTime());
+    }
+
+    /**
+     * Dispatches an order submitted at the given {@link System#nanoTime()} and records the
+     * time it waited if a courier is found.
+     */
+    public Optional<Courier> dispatch(Order order, long submittedNanos) {
+        checkOrder(order);
+        if (order.getStatus() != OrderStatus.CREATED) {
+            throw new IllegalArgumentException("To be assigned, the order must have the CREATED status");
+        }
+
+        while (order.getStatus() == OrderStatus.CREATED) {
+            List<Courier> nearest = index.findNearest(order.getLocation(), 1);
+            if (nearest.isEmpty()) {
+                break;
+            }
+
+            Courier courier = nearest.getFirst();
+            boolean assigned = guard.tryAssign(courier, order);
+            index.refresh(courier);
+            if (assigned) {
+                metrics.orderTransitioned(OrderStatus.ASSIGNED);
+                metrics.orderWaited(System.nanoTime() - submittedNanos);
+                metrics.courierTravelTicks(courier.estimateTicksTo(order.getLocation()));
+                return Optional.of(courier);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void moveCourier(Courier courier, Location destination) {
+        checkCourier(courier);
+
+        courier.moveTo(destination);
+        index.refresh(courier);
+    }
+
+    public void completeOrder(Courier courier, Order order) {
+        checkCourier(courier);
+        checkOrder(order);
+
+        guard.complete(courier, order);
+        index.refresh(courier);
+        metrics.orderTransitioned(OrderStatus.COMPLETED);
+    }
+
+    private void checkCourier(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+    }
+
+    private void checkOrder(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+    }
+}
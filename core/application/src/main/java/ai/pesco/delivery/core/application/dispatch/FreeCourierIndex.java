@@ -0,0 +1,224 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Grid index of FREE couriers bucketed by cell and transport speed. Only occupied buckets
+ * are stored, so memory follows the fleet rather than the grid.
+ * Nearest-courier queries walk Manhattan rings around the target tick by tick when the
+ * fleet is dense enough for the nearest couriers to be close; a sparse fleet is instead
+ * ranked bucket by bucket in the same order, so neither costs a walk over the whole grid.
+ * An index can be limited to a rectangle of the grid, in which case only couriers
+ * inside it can be indexed and queries never look outside it. Not thread-safe.
+ */
+public class FreeCourierIndex {
+    private static final int SPEEDS = Transport.MAX_SPEED - Transport.MIN_SPEED + 1;
+
+    private final int minX;
+    private final int minY;
+    private final int maxX;
+    private final int maxY;
+    private final int height;
+    private final long area;
+    private final int maxDistance;
+    private final Map<Long, Set<Courier>> cells = new HashMap<>();
+    private final Map<UUID, Long> bucketByCourier = new HashMap<>();
+
+    public FreeCourierIndex() {
+        this(Location.MIN_VALUE, Location.MIN_VALUE, Location.MAX_VALUE, Location.MAX_VALUE);
+    }
+
+    public FreeCourierIndex(int minX, int minY, int maxX, int maxY) {
+        if (minX < Location.MIN_VALUE || minY < Location.MIN_VALUE
+                || maxX > Location.MAX_VALUE || maxY > Location.MAX_VALUE || minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Indexed area must be a non-empty rectangle inside the grid");
+        }
+
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.height = maxY - minY + 1;
+        this.area = (long) (maxX - minX + 1) * height;
+        this.maxDistance = (maxX - minX) + (maxY - minY);
+    }
+
+    public void refresh(Courier courier) {
+        checkCourier(courier);
+
+        Long current = bucketByCourier.get(courier.getId());
+        long target = courier.getStatus() == CourierStatus.FREE ? bucketOf(courier) : -1;
+        if (target >= 0 && !covers(courier.getLocation())) {
+            throw new IllegalArgumentException("Courier is outside the indexed area");
+        }
+        if (current != null && current == target) {
+            return;
+        }
+
+        if (current != null) {
+            removeFromCell(current, courier);
+            bucketByCourier.remove(courier.getId());
+        }
+        if (target >= 0) {
+            cells.computeIfAbsent(target, bucket -> new LinkedHashSet<>()).add(courier);
+            bucketByCourier.put(courier.getId(), target);
+        }
+    }
+
+    public void remove(Courier courier) {
+        checkCourier(courier);
+
+        Long current = bucketByCourier.remove(courier.getId());
+        if (current != null) {
+            removeFromCell(current, courier);
+        }
+    }
+
+    public boolean contains(Courier courier) {
+        return courier != null && bucketByCourier.containsKey(courier.getId());
+    }
+
+    public int size() {
+        return bucketByCourier.size();
+    }
+
+    /**
+     * Returns up to {@code limit} FREE couriers ordered by the number of ticks
+     * they need to reach {@code target}.
+     */
+    public List<Courier> findNearest(Location target, int limit) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target location cannot be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        List<Courier> result = new ArrayList<>(limit);
+        if (bucketByCourier.isEmpty()) {
+            return result;
+        }
+        // the ring walk visits about SPEEDS * area / cells buckets per courier found
+        if ((long) cells.size() * cells.size() / area < (long) SPEEDS * limit) {
+            rankCells(target, limit, result);
+            return result;
+        }
+
+        int reach = maxDistance + distanceToArea(target);
+        for (int ticks = 0; ticks <= reach && result.size() < limit; ticks++) {
+            for (int speed = Transport.MIN_SPEED; speed <= Transport.MAX_SPEED; speed++) {
+                int from = ticks == 0 ? 0 : (ticks - 1) * speed + 1;
+                int to = Math.min(ticks * speed, reach);
+                for (int distance = from; distance <= to && result.size() < limit; distance++) {
+                    collectRing(target, speed, distance, limit, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collectRing(Location center, int speed, int distance, int limit, List<Courier> result) {
+        for (int dx = -distance; dx <= distance && result.size() < limit; dx++) {
+            int dy = distance - Math.abs(dx);
+            collectCell(center.getX() + dx, center.getY() + dy, speed, limit, result);
+            if (dy != 0) {
+                collectCell(center.getX() + dx, center.getY() - dy, speed, limit, result);
+            }
+        }
+    }
+
+    private void collectCell(int x, int y, int speed, int limit, List<Courier> result) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return;
+        }
+        Set<Courier> cell = cells.get(bucket(speed, x, y));
+        if (cell != null) {
+            addAll(cell, limit, result);
+        }
+    }
+
+    /**
+     * Sorts the occupied buckets in the order the ring walk would visit them: by ticks, speed
+     * and distance, then by position on the ring.
+     */
+    private void rankCells(Location target, int limit, List<Courier> result) {
+        List<RankedCell> ranked = new ArrayList<>(cells.size());
+        for (Set<Courier> cell : cells.values()) {
+            Courier first = cell.iterator().next();
+            int speed = first.getTransport().getSpeed();
+            int dx = first.getLocation().getX() - target.getX();
+            int dy = first.getLocation().getY() - target.getY();
+            int distance = Math.abs(dx) + Math.abs(dy);
+            int ticks = (distance + speed - 1) / speed;
+            ranked.add(new RankedCell(ticks, speed, distance, dx, dy < 0 ? 1 : 0, cell));
+        }
+        ranked.sort(RankedCell.ORDER);
+        for (RankedCell cell : ranked) {
+            if (result.size() >= limit) {
+                return;
+            }
+            addAll(cell.couriers(), limit, result);
+        }
+    }
+
+    private static void addAll(Set<Courier> cell, int limit, List<Courier> result) {
+        for (Courier courier : cell) {
+            if (result.size() >= limit) {
+                return;
+            }
+            result.add(courier);
+        }
+    }
+
+    private void removeFromCell(long bucket, Courier courier) {
+        Set<Courier> cell = cells.get(bucket);
+        cell.remove(courier);
+        if (cell.isEmpty()) {
+            cells.remove(bucket);
+        }
+    }
+
+    private boolean covers(Location location) {
+        return location.getX() >= minX && location.getX() <= maxX && location.getY() >= minY && location.getY() <= maxY;
+    }
+
+    private int distanceToArea(Location location) {
+        int dx = Math.max(0, Math.max(minX - location.getX(), location.getX() - maxX));
+        int dy = Math.max(0, Math.max(minY - location.getY(), location.getY() - maxY));
+        return dx + dy;
+    }
+
+    private long bucketOf(Courier courier) {
+        return bucket(courier.getTransport().getSpeed(), courier.getLocation().getX(), courier.getLocation().getY());
+    }
+
+    private long bucket(int speed, int x, int y) {
+        return (speed - Transport.MIN_SPEED) * area + (long) (x - minX) * height + (y - minY);
+    }
+
+    private void checkCourier(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+    }
+
+    private record RankedCell(int ticks, int speed, int distance, int dx, int below, Set<Courier> couriers) {
+        private static final Comparator<RankedCell> ORDER = Comparator.comparingInt(RankedCell::ticks)
+                .thenComparingInt(RankedCell::speed)
+                .thenComparingInt(RankedCell::distance)
+                .thenComparingInt(RankedCell::dx)
+                .thenComparingInt(RankedCell::below);
+    }
+}
@@ -0,0 +1,83 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+
+import java.util.Collection;
+
+/**
+ * Accepts new orders from every adapter, HTTP and Kafka alike: saves them, counts them
+ * as CREATED and, when a {@link DispatchQueue} is given, queues them for dispatch with
+ * {@link #DEFAULT_PRIORITY}, so no channel bypasses the metrics or the queue.
+ */
+public class OrderIntake {
+    public static final DispatchPriority DEFAULT_PRIORITY = DispatchPriority.STANDARD;
+
+    private final OrderRepository repository;
+    private final DispatchMetrics metrics;
+    private final DispatchQueue queue;
+
+    public OrderIntake(OrderRepository repository, DispatchMetrics metrics) {
+        this(repository, metrics, null);
+    }
+
+    /**
+     * @param queue queue the saved orders are put in, or null to only save them
+     */
+    public OrderIntake(OrderRepository repository, DispatchMetrics metrics, DispatchQueue queue) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.repository = repository;
+        this.metrics = metrics;
+        this.queue = queue;
+    }
+
+    public void create(Order order) {
+        checkOrder(order);
+
+        repository.save(order);
+        metrics.orderTransitioned(OrderStatus.CREATED);
+        enqueue(order);
+    }
+
+    /**
+     * Saves the orders in one batch and counts and queues them once the batch is stored.
+     * Nothing is counted or queued if the batch fails.
+     */
+    public void createAll(Collection<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        orders.forEach(this::checkOrder);
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        repository.saveAll(orders);
+        for (int i = 0; i < orders.size(); i++) {
+            metrics.orderTransitioned(OrderStatus.CREATED);
+        }
+        orders.forEach(this::enqueue);
+    }
+
+    private void enqueue(Order order) {
+        if (queue != null && !queue.contains(order.getId())) {
+            queue.enqueue(order, DEFAULT_PRIORITY);
+        }
+    }
+
+    private void checkOrder(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        if (order.getStatus() != OrderStatus.CREATED) {
+            throw new IllegalArgumentException("To be created, the order must have the CREATED status");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+import java.time.Instant;
+
+/**
+ * An order waiting for dispatch. {@code enqueuedNanos} is the {@link System#nanoTime()}
+ * at which it was first queued and {@code sequence} its arrival rank in the queue; both
+ * survive requeueing, so the wait can be measured and the order gets its place back.
+ */
+public record QueuedOrder(Order order, DispatchPriority priority, Instant deadline, long enqueuedNanos, long sequence) {
+
+    public QueuedOrder(Order order, DispatchPriority priority, Instant deadline) {
+        this(order, priority, deadline, System.nanoTime(), 0);
+    }
+}
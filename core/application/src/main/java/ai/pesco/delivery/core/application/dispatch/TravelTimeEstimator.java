@@ -0,0 +1,27 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+/**
+ * Distances and travel ticks between packed locations (see {@link Location#pack(int, int)}).
+ * Packed arguments are not validated.
+ */
+public interface TravelTimeEstimator {
+
+    int distance(int fromPacked, int toPacked);
+
+    int ticks(int speed, int fromPacked, int toPacked);
+
+    default int ticks(Courier courier, Location target) {
+        return ticks(courier.getTransport().getSpeed(), courier.getLocation().pack(), target.pack());
+    }
+
+    /**
+     * Returns the shared lookup table when the grid is small enough for one, and the
+     * arithmetic estimator otherwise.
+     */
+    static TravelTimeEstimator forGrid() {
+        return Location.COUNT <= TravelTimeTable.MAX_CELLS ? TravelTimeTable.shared() : DirectTravelTimeEstimator.INSTANCE;
+    }
+}
@@ -0,0 +1,59 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+/**
+ * Precomputed distances and per-speed ticks for every pair of grid cells, indexed by
+ * {@code from * COUNT + to}. One byte per pair and table keeps the default 10x10 grid
+ * at 40 KB; grids above {@link #MAX_CELLS} cells are rejected. Immutable once built.
+ */
+public final class TravelTimeTable implements TravelTimeEstimator {
+    public static final int MAX_CELLS = 1024;
+
+    private final byte[] distances;
+    private final byte[][] ticksBySpeed;
+
+    public TravelTimeTable() {
+        if (Location.COUNT > MAX_CELLS) {
+            throw new IllegalStateException("Grid is too large for a travel time table");
+        }
+
+        int pairs = Location.COUNT * Location.COUNT;
+        distances = new byte[pairs];
+        ticksBySpeed = new byte[Transport.MAX_SPEED + 1][];
+        for (int speed = Transport.MIN_SPEED; speed <= Transport.MAX_SPEED; speed++) {
+            ticksBySpeed[speed] = new byte[pairs];
+        }
+
+        for (int from = 0; from < Location.COUNT; from++) {
+            for (int to = 0; to < Location.COUNT; to++) {
+                int deltaX = Location.unpackX(to) - Location.unpackX(from);
+                int deltaY = Location.unpackY(to) - Location.unpackY(from);
+                int pair = from * Location.COUNT + to;
+                distances[pair] = (byte) (Math.abs(deltaX) + Math.abs(deltaY));
+                for (int speed = Transport.MIN_SPEED; speed <= Transport.MAX_SPEED; speed++) {
+                    ticksBySpeed[speed][pair] = (byte) Transport.estimateTicks(deltaX, deltaY, speed);
+                }
+            }
+        }
+    }
+
+    public static TravelTimeTable shared() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public int distance(int fromPacked, int toPacked) {
+        return distances[fromPacked * Location.COUNT + toPacked];
+    }
+
+    @Override
+    public int ticks(int speed, int fromPacked, int toPacked) {
+        return ticksBySpeed[speed][fromPacked * Location.COUNT + toPacked];
+    }
+
+    private static final class Holder {
+        private static final TravelTimeTable INSTANCE = new TravelTimeTable();
+    }
+}
@@ -0,0 +1,355 @@
+package ai.pesco.delivery.core.application.fleet;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Columnar store of the courier fleet: one primitive array per field, addressed by slot.
+ * Mutations enforce the same invariants as {@link Courier}, and {@link #toCourier(int)}
+ * materialises a detached aggregate for callers that need one. Slots are dense and
+ * change only when a courier is removed. Not thread-safe, except that disjoint slot
+ * ranges may be advanced concurrently.
+ */
+public class FleetStore {
+    private static final byte FREE = (byte) CourierStatus.FREE.ordinal();
+    private static final byte BUSY = (byte) CourierStatus.BUSY.ordinal();
+    private static final CourierStatus[] STATUSES = CourierStatus.values();
+    private static final int EMPTY = -1;
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private int size;
+    private long[] idMsb;
+    private long[] idLsb;
+    private String[] names;
+    private long[] transportIdMsb;
+    private long[] transportIdLsb;
+    private String[] transportNames;
+    private int[] speed;
+    private int[] x;
+    private int[] y;
+    private byte[] status;
+    private long[] orderIdMsb;
+    private long[] orderIdLsb;
+    private int[] target;
+    private int[] slotTable;
+
+    public FleetStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FleetStore(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int add(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+        if (slotOf(courier.getId()) != EMPTY) {
+            throw new IllegalArgumentException("Courier is already in the fleet");
+        }
+        if (courier.getStatus() == CourierStatus.BUSY) {
+            throw new IllegalArgumentException("Only free couriers can be added to the fleet");
+        }
+        if (size == idMsb.length) {
+            grow();
+        }
+
+        int slot = size++;
+        idMsb[slot] = courier.getId().getMostSignificantBits();
+        idLsb[slot] = courier.getId().getLeastSignificantBits();
+        names[slot] = courier.getName();
+        Transport transport = courier.getTransport();
+        transportIdMsb[slot] = transport.getId().getMostSignificantBits();
+        transportIdLsb[slot] = transport.getId().getLeastSignificantBits();
+        transportNames[slot] = transport.getName();
+        speed[slot] = transport.getSpeed();
+        x[slot] = courier.getLocation().getX();
+        y[slot] = courier.getLocation().getY();
+        status[slot] = FREE;
+        target[slot] = EMPTY;
+        insertSlot(slot);
+        return slot;
+    }
+
+    public void remove(UUID id) {
+        int slot = slotOf(id);
+        if (slot == EMPTY) {
+            return;
+        }
+
+        deleteSlot(slot);
+        int last = --size;
+        if (slot != last) {
+            deleteSlot(last);
+            copy(last, slot);
+            insertSlot(slot);
+        }
+        names[last] = null;
+        transportNames[last] = null;
+    }
+
+    public int slotOf(UUID id) {
+        if (id == null) {
+            return EMPTY;
+        }
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = slotTable.length - 1;
+        for (int i = hash(msb, lsb) & mask; ; i = (i + 1) & mask) {
+            int slot = slotTable[i];
+            if (slot == EMPTY) {
+                return EMPTY;
+            }
+            if (idMsb[slot] == msb && idLsb[slot] == lsb) {
+                return slot;
+            }
+        }
+    }
+
+    public UUID getId(int slot) {
+        checkSlot(slot);
+        return new UUID(idMsb[slot], idLsb[slot]);
+    }
+
+    public int getX(int slot) {
+        checkSlot(slot);
+        return x[slot];
+    }
+
+    public int getY(int slot) {
+        checkSlot(slot);
+        return y[slot];
+    }
+
+    public int getSpeed(int slot) {
+        checkSlot(slot);
+        return speed[slot];
+    }
+
+    public CourierStatus getStatus(int slot) {
+        checkSlot(slot);
+        return STATUSES[status[slot]];
+    }
+
+    public UUID getOrderId(int slot) {
+        checkSlot(slot);
+        return status[slot] == BUSY ? new UUID(orderIdMsb[slot], orderIdLsb[slot]) : null;
+    }
+
+    public void assignOrder(int slot, Order order) {
+        checkSlot(slot);
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        if (status[slot] != FREE) {
+            throw new IllegalStateException("Cannot assign order to a not free courier");
+        }
+
+        orderIdMsb[slot] = order.getId().getMostSignificantBits();
+        orderIdLsb[slot] = order.getId().getLeastSignificantBits();
+        target[slot] = order.getLocation().pack();
+        status[slot] = BUSY;
+    }
+
+    public void completeOrder(int slot) {
+        checkSlot(slot);
+        if (status[slot] != BUSY) {
+            throw new IllegalStateException("Courier is not busy");
+        }
+
+        orderIdMsb[slot] = 0;
+        orderIdLsb[slot] = 0;
+        target[slot] = EMPTY;
+        status[slot] = FREE;
+    }
+
+    public void moveTo(int slot, Location destination) {
+        checkSlot(slot);
+        if (destination == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+
+        int moved = Transport.move(speed[slot], Location.pack(x[slot], y[slot]), destination.pack());
+        x[slot] = Location.unpackX(moved);
+        y[slot] = Location.unpackY(moved);
+    }
+
+    /**
+     * Moves every BUSY courier one step towards its order location and reports the slots
+     * that reached it. Arrived couriers stay BUSY until {@link #completeOrder(int)} is called.
+     */
+    public void advance(IntConsumer arrived) {
+        advance(0, size, arrived);
+    }
+
+    public void advance(int from, int to, IntConsumer arrived) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is out of fleet bounds");
+        }
+
+        for (int slot = from; slot < to; slot++) {
+            if (status[slot] != BUSY) {
+                continue;
+            }
+            int current = Location.pack(x[slot], y[slot]);
+            int moved = current == target[slot] ? current : Transport.move(speed[slot], current, target[slot]);
+            x[slot] = Location.unpackX(moved);
+            y[slot] = Location.unpackY(moved);
+            if (moved == target[slot]) {
+                arrived.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the FREE courier that needs the fewest ticks to reach the location, or -1.
+     */
+    public int findNearestFree(Location location) {
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+
+        int targetX = location.getX();
+        int targetY = location.getY();
+        int best = EMPTY;
+        int bestTicks = Integer.MAX_VALUE;
+        for (int slot = 0; slot < size; slot++) {
+            if (status[slot] != FREE) {
+                continue;
+            }
+            int ticks = Transport.estimateTicks(targetX - x[slot], targetY - y[slot], speed[slot]);
+            if (ticks < bestTicks) {
+                best = slot;
+                bestTicks = ticks;
+                if (ticks == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    public Courier toCourier(int slot) {
+        checkSlot(slot);
+        Transport transport = Transport.restore(
+                new UUID(transportIdMsb[slot], transportIdLsb[slot]), transportNames[slot], speed[slot]);
+        return Courier.restore(getId(slot), names[slot], transport, Location.of(x[slot], y[slot]),
+                getStatus(slot), getOrderId(slot));
+    }
+
+    public Courier get(UUID id) {
+        int slot = slotOf(id);
+        return slot == EMPTY ? null : toCourier(slot);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " is out of fleet bounds");
+        }
+    }
+
+    private void allocate(int capacity) {
+        idMsb = new long[capacity];
+        idLsb = new long[capacity];
+        names = new String[capacity];
+        transportIdMsb = new long[capacity];
+        transportIdLsb = new long[capacity];
+        transportNames = new String[capacity];
+        speed = new int[capacity];
+        x = new int[capacity];
+        y = new int[capacity];
+        status = new byte[capacity];
+        orderIdMsb = new long[capacity];
+        orderIdLsb = new long[capacity];
+        target = new int[capacity];
+        slotTable = new int[tableSize(capacity)];
+        Arrays.fill(slotTable, EMPTY);
+    }
+
+    private void grow() {
+        int capacity = idMsb.length * 2;
+        idMsb = Arrays.copyOf(idMsb, capacity);
+        idLsb = Arrays.copyOf(idLsb, capacity);
+        names = Arrays.copyOf(names, capacity);
+        transportIdMsb = Arrays.copyOf(transportIdMsb, capacity);
+        transportIdLsb = Arrays.copyOf(transportIdLsb, capacity);
+        transportNames = Arrays.copyOf(transportNames, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        status = Arrays.copyOf(status, capacity);
+        orderIdMsb = Arrays.copyOf(orderIdMsb, capacity);
+        orderIdLsb = Arrays.copyOf(orderIdLsb, capacity);
+        target = Arrays.copyOf(target, capacity);
+
+        slotTable = new int[tableSize(capacity)];
+        Arrays.fill(slotTable, EMPTY);
+        for (int slot = 0; slot < size; slot++) {
+            insertSlot(slot);
+        }
+    }
+
+    private void copy(int from, int to) {
+        idMsb[to] = idMsb[from];
+        idLsb[to] = idLsb[from];
+        names[to] = names[from];
+        transportIdMsb[to] = transportIdMsb[from];
+        transportIdLsb[to] = transportIdLsb[from];
+        transportNames[to] = transportNames[from];
+        speed[to] = speed[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        status[to] = status[from];
+        orderIdMsb[to] = orderIdMsb[from];
+        orderIdLsb[to] = orderIdLsb[from];
+        target[to] = target[from];
+    }
+
+    private void insertSlot(int slot) {
+        int mask = slotTable.length - 1;
+        int i = hash(idMsb[slot], idLsb[slot]) & mask;
+        while (slotTable[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        slotTable[i] = slot;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = slotTable.length - 1;
+        int i = hash(idMsb[slot], idLsb[slot]) & mask;
+        while (slotTable[i] != slot) {
+            i = (i + 1) & mask;
+        }
+        slotTable[i] = EMPTY;
+
+        for (int j = (i + 1) & mask; slotTable[j] != EMPTY; j = (j + 1) & mask) {
+            int moved = slotTable[j];
+            slotTable[j] = EMPTY;
+            insertSlot(moved);
+        }
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,37 @@
+package ai.pesco.delivery.core.application.ports;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface CourierRepository {
+
+    Optional<Courier> findById(UUID id);
+
+    List<Courier> findAllById(Collection<UUID> ids);
+
+    List<Courier> findAllFree();
+
+    long countByStatus(CourierStatus status);
+
+    /**
+     * Streams every courier without loading the whole fleet into memory. The stream
+     * holds a database cursor and must be closed.
+     */
+    Stream<Courier> streamAll();
+
+    /**
+     * Inserts new couriers and updates known ones in a single batch.
+     * Fails the whole batch if any courier was changed concurrently.
+     */
+    void saveAll(Collection<Courier> couriers);
+
+    default void save(Courier courier) {
+        saveAll(List.of(courier));
+    }
+}
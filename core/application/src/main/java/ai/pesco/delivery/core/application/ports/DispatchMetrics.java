@@ -0,0 +1,36 @@
+package ai.pesco.delivery.core.application.ports;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+
+/**
+ * Records dispatch measurements. Implementations are called on the dispatch hot path
+ * and must neither block nor allocate per call.
+ */
+public interface DispatchMetrics {
+    DispatchMetrics NOOP = new DispatchMetrics() {
+    };
+
+    /**
+     * Counts an order entering the given status.
+     */
+    default void orderTransitioned(OrderStatus status) {
+    }
+
+    /**
+     * Records the time an order waited between submission and assignment.
+     */
+    default void orderWaited(long nanos) {
+    }
+
+    /**
+     * Records the number of ticks an assigned courier needs to reach its order.
+     */
+    default void courierTravelTicks(int ticks) {
+    }
+
+    /**
+     * Records the duration of one dispatch tick.
+     */
+    default void dispatchTick(long nanos) {
+    }
+}
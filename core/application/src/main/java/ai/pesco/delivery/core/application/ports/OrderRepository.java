@@ -0,0 +1,34 @@
+package ai.pesco.delivery.core.application.ports;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface OrderRepository {
+
+    Optional<Order> findById(UUID id);
+
+    List<Order> findAllById(Collection<UUID> ids);
+
+    List<Order> findAllCreated();
+
+    /**
+     * Streams every order that is not COMPLETED yet without loading them all into memory.
+     * The stream holds a database cursor and must be closed.
+     */
+    Stream<Order> streamActive();
+
+    /**
+     * Inserts new orders and updates known ones in a single batch.
+     * Fails the whole batch if any order was changed concurrently.
+     */
+    void saveAll(Collection<Order> orders);
+
+    default void save(Order order) {
+        saveAll(List.of(order));
+    }
+}
@@ -0,0 +1,7 @@
+package ai.pesco.delivery.core.application.ports;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OutboxMessage(long id, UUID aggregateId, String type, byte[] payload, Instant occurredAt) {
+}
@@ -0,0 +1,17 @@
+package ai.pesco.delivery.core.application.ports;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxStore {
+
+    /**
+     * Returns up to {@code limit} pending messages in the order they were written.
+     */
+    List<OutboxMessage> fetch(int limit);
+
+    /**
+     * Removes messages that have been published.
+     */
+    void delete(Collection<Long> ids);
+}
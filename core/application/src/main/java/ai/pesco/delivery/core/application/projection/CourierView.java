@@ -0,0 +1,16 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.UUID;
+
+public record CourierView(UUID id, String name, String transportName, int speed, Location location,
+                          CourierStatus status, UUID orderId) {
+
+    public static CourierView from(Courier courier) {
+        return new CourierView(courier.getId(), courier.getName(), courier.getTransport().getName(),
+                courier.getTransport().getSpeed(), courier.getLocation(), courier.getStatus(), courier.getOrderId());
+    }
+}
@@ -0,0 +1,163 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory read model of couriers and orders, fed with aggregate state after it has been
+ * persisted. Each aggregate is kept as an immutable view, and ids are indexed by status.
+ * Reads never lock: they return detached lists built from a weakly consistent traversal,
+ * in which every view is the latest one applied for its aggregate. Updates of the same
+ * aggregate are serialised, and the last applied state wins. Completed orders are final,
+ * so only the most recently completed ones are kept; older ones are evicted in completion
+ * order and have to be looked up in the repository.
+ */
+public class DeliveryProjection {
+    public static final int DEFAULT_COMPLETED_ORDER_LIMIT = 10_000;
+
+    private final int completedOrderLimit;
+    private final Map<UUID, CourierView> couriers = new ConcurrentHashMap<>();
+    private final Map<UUID, OrderView> orders = new ConcurrentHashMap<>();
+    private final List<Set<UUID>> courierIdsByStatus = statusIndex(CourierStatus.values().length);
+    private final List<Set<UUID>> orderIdsByStatus = statusIndex(OrderStatus.values().length);
+    private final Queue<UUID> completedOrderIds = new ConcurrentLinkedQueue<>();
+
+    public DeliveryProjection() {
+        this(DEFAULT_COMPLETED_ORDER_LIMIT);
+    }
+
+    public DeliveryProjection(int completedOrderLimit) {
+        if (completedOrderLimit < 0) {
+            throw new IllegalArgumentException("Completed order limit cannot be negative");
+        }
+        this.completedOrderLimit = completedOrderLimit;
+    }
+
+    public void apply(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+
+        CourierView view = CourierView.from(courier);
+        couriers.compute(view.id(), (id, previous) -> {
+            if (previous != null && previous.status() != view.status()) {
+                courierIdsByStatus.get(previous.status().ordinal()).remove(id);
+            }
+            courierIdsByStatus.get(view.status().ordinal()).add(id);
+            return view;
+        });
+    }
+
+    public void apply(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+
+        OrderView view = OrderView.from(order);
+        orders.compute(view.id(), (id, previous) -> {
+            if (previous != null && previous.status() != view.status()) {
+                orderIdsByStatus.get(previous.status().ordinal()).remove(id);
+            }
+            if (orderIdsByStatus.get(view.status().ordinal()).add(id) && view.status() == OrderStatus.COMPLETED) {
+                completedOrderIds.add(id);
+            }
+            return view;
+        });
+        if (view.status() == OrderStatus.COMPLETED) {
+            evictCompletedOrders();
+        }
+    }
+
+    public Optional<CourierView> findCourier(UUID id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(couriers.get(id));
+    }
+
+    public Optional<OrderView> findOrder(UUID id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(orders.get(id));
+    }
+
+    public Optional<Location> findCourierLocation(UUID id) {
+        return findCourier(id).map(CourierView::location);
+    }
+
+    public List<CourierView> findCouriers(CourierStatus status) {
+        checkStatus(status);
+        return select(courierIdsByStatus.get(status.ordinal()), couriers::get, view -> view.status() == status);
+    }
+
+    public List<OrderView> findOrders(OrderStatus status) {
+        checkStatus(status);
+        return select(orderIdsByStatus.get(status.ordinal()), orders::get, view -> view.status() == status);
+    }
+
+    public List<CourierView> findAllCouriers() {
+        return List.copyOf(couriers.values());
+    }
+
+    public long countCouriers(CourierStatus status) {
+        checkStatus(status);
+        return courierIdsByStatus.get(status.ordinal()).size();
+    }
+
+    public long countOrders(OrderStatus status) {
+        checkStatus(status);
+        return orderIdsByStatus.get(status.ordinal()).size();
+    }
+
+    private void evictCompletedOrders() {
+        Set<UUID> completed = orderIdsByStatus.get(OrderStatus.COMPLETED.ordinal());
+        while (completed.size() > completedOrderLimit) {
+            UUID oldest = completedOrderIds.poll();
+            if (oldest == null) {
+                return;
+            }
+            orders.computeIfPresent(oldest, (id, view) -> {
+                if (view.status() != OrderStatus.COMPLETED) {
+                    return view;
+                }
+                completed.remove(id);
+                return null;
+            });
+        }
+    }
+
+    private static <T> List<T> select(Set<UUID> ids, Function<UUID, T> lookup, Predicate<T> current) {
+        List<T> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T view = lookup.apply(id);
+            if (view != null && current.test(view)) {
+                result.add(view);
+            }
+        }
+        return result;
+    }
+
+    private static List<Set<UUID>> statusIndex(int statuses) {
+        List<Set<UUID>> index = new ArrayList<>(statuses);
+        for (int i = 0; i < statuses; i++) {
+            index.add(ConcurrentHashMap.newKeySet());
+        }
+        return List.copyOf(index);
+    }
+
+    private static void checkStatus(Enum<?> status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.UUID;
+
+public record OrderView(UUID id, Location location, OrderStatus status, UUID courierId) {
+
+    public static OrderView from(Order order) {
+        return new OrderView(order.getId(), order.getLocation(), order.getStatus(), order.getCourierId());
+    }
+}
@@ -0,0 +1,72 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link DeliveryProjection} current with every courier batch that was saved
+ * successfully, and answers status counts from it. Aggregate loads still go to the
+ * delegate, since callers mutate and save what they load.
+ */
+public class ProjectingCourierRepository implements CourierRepository {
+    private final CourierRepository delegate;
+    private final DeliveryProjection projection;
+
+    public ProjectingCourierRepository(CourierRepository delegate, DeliveryProjection projection) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate cannot be null");
+        }
+        if (projection == null) {
+            throw new IllegalArgumentException("Projection cannot be null");
+        }
+        this.delegate = delegate;
+        this.projection = projection;
+    }
+
+    /**
+     * Loads every stored courier into the projection.
+     */
+    public void warmUp() {
+        try (Stream<Courier> couriers = delegate.streamAll()) {
+            couriers.forEach(projection::apply);
+        }
+    }
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return delegate.findAllFree();
+    }
+
+    @Override
+    public long countByStatus(CourierStatus status) {
+        return projection.countCouriers(status);
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void saveAll(Collection<Courier> couriers) {
+        delegate.saveAll(couriers);
+        couriers.forEach(projection::apply);
+    }
+}
@@ -0,0 +1,65 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link DeliveryProjection} current with every order batch that was saved successfully.
+ */
+public class ProjectingOrderRepository implements OrderRepository {
+    private final OrderRepository delegate;
+    private final DeliveryProjection projection;
+
+    public ProjectingOrderRepository(OrderRepository delegate, DeliveryProjection projection) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate cannot be null");
+        }
+        if (projection == null) {
+            throw new IllegalArgumentException("Projection cannot be null");
+        }
+        this.delegate = delegate;
+        this.projection = projection;
+    }
+
+    /**
+     * Loads every order that is not completed yet into the projection, streaming them from
+     * the delegate. Completed orders appear once they are saved again.
+     */
+    public void warmUp() {
+        try (Stream<Order> orders = delegate.streamActive()) {
+            orders.forEach(projection::apply);
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Order> findAllCreated() {
+        return delegate.findAllCreated();
+    }
+
+    @Override
+    public Stream<Order> streamActive() {
+        return delegate.streamActive();
+    }
+
+    @Override
+    public void saveAll(Collection<Order> orders) {
+        delegate.saveAll(orders);
+        orders.forEach(projection::apply);
+    }
+}
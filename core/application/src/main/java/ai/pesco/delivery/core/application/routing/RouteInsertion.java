@@ -0,0 +1,10 @@
+package ai.pesco.delivery.core.application.routing;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+
+/**
+ * Cheapest place for an order: before the stop at {@code position} on the courier's route,
+ * lengthening the route by {@code addedTicks}.
+ */
+public record RouteInsertion(Courier courier, int position, int addedTicks) {
+}
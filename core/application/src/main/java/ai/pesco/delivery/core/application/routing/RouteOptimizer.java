@@ -0,0 +1,231 @@
+package ai.pesco.delivery.core.application.routing;
+
+import ai.pesco.delivery.core.application.dispatch.AssignmentGuard;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Plans multi-order routes. New orders go to the courier and route position that add the
+ * fewest ticks (nearest insertion), after which the route is improved with 2-opt moves.
+ * Distances are {@link Location#calculateDistance(Location)}; a leg takes the distance
+ * divided by the courier speed, rounded up. Each call stops searching once its time
+ * budget is spent and keeps the best result found so far. Insertions and replanned routes
+ * are applied through an {@link AssignmentGuard}: a plan made on a courier that another
+ * dispatcher sharing the guard changed in the meantime is searched again or dropped.
+ */
+public class RouteOptimizer {
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(2);
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final long budgetNanos;
+    private final AssignmentGuard guard;
+
+    public RouteOptimizer() {
+        this(DEFAULT_BUDGET);
+    }
+
+    public RouteOptimizer(Duration budget) {
+        this(budget, new AssignmentGuard());
+    }
+
+    public RouteOptimizer(Duration budget, AssignmentGuard guard) {
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+        if (guard == null) {
+            throw new IllegalArgumentException("Guard cannot be null");
+        }
+        this.budgetNanos = budget.toNanos();
+        this.guard = guard;
+    }
+
+    /**
+     * Assigns the order to the courier with the cheapest insertion, then improves that
+     * courier's route. Returns the courier, or empty when no candidate has spare capacity
+     * or another dispatcher assigned the order first. Both aggregates are checked before
+     * either is changed, so a failed assignment leaves the order and every courier as they
+     * were.
+     */
+    public Optional<Courier> assign(Order order, Collection<Courier> couriers, Function<UUID, Location> locations) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        if (couriers == null) {
+            throw new IllegalArgumentException("Couriers cannot be null");
+        }
+        if (locations == null) {
+            throw new IllegalArgumentException("Locations cannot be null");
+        }
+        if (order.getStatus() != OrderStatus.CREATED) {
+            throw new IllegalStateException("To be assigned, the order must have the CREATED status");
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        while (order.getStatus() == OrderStatus.CREATED) {
+            Optional<RouteInsertion> insertion = findInsertion(order, couriers, locations, deadline);
+            if (insertion.isEmpty()) {
+                break;
+            }
+
+            Courier courier = insertion.get().courier();
+            if (guard.tryAddToRoute(courier, order, insertion.get().position())) {
+                improve(courier, id -> id.equals(order.getId()) ? order.getLocation() : locations.apply(id), deadline);
+                return Optional.of(courier);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<RouteInsertion> findInsertion(Order order, Collection<Courier> couriers,
+                                                  Function<UUID, Location> locations) {
+        return findInsertion(order, couriers, locations, System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * Reorders the courier's route with 2-opt moves until no move shortens it.
+     * The courier's current position is the fixed start and the route does not return.
+     * Returns true if the route changed.
+     */
+    public boolean improve(Courier courier, Function<UUID, Location> locations) {
+        return improve(courier, locations, System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * Total ticks the courier needs to deliver every order on its route.
+     */
+    public static int routeTicks(Courier courier, Function<UUID, Location> locations) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+        if (locations == null) {
+            throw new IllegalArgumentException("Locations cannot be null");
+        }
+
+        int speed = courier.getTransport().getSpeed();
+        Location previous = courier.getLocation();
+        int ticks = 0;
+        for (UUID orderId : courier.getRoute()) {
+            Location next = locationOf(locations, orderId);
+            ticks += ticks(speed, previous, next);
+            previous = next;
+        }
+        return ticks;
+    }
+
+    private Optional<RouteInsertion> findInsertion(Order order, Collection<Courier> couriers,
+                                                   Function<UUID, Location> locations, long deadline) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        if (couriers == null) {
+            throw new IllegalArgumentException("Couriers cannot be null");
+        }
+        if (locations == null) {
+            throw new IllegalArgumentException("Locations cannot be null");
+        }
+
+        Location target = order.getLocation();
+        RouteInsertion best = null;
+        int checked = 0;
+        for (Courier courier : couriers) {
+            if (best != null && ++checked % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+            if (courier.getFreeCapacity() <= 0) {
+                continue;
+            }
+
+            int speed = courier.getTransport().getSpeed();
+            Location previous = courier.getLocation();
+            List<UUID> route = courier.getRoute();
+            for (int position = 0; position <= route.size(); position++) {
+                Location next = position < route.size() ? locationOf(locations, route.get(position)) : null;
+                int added = ticks(speed, previous, target);
+                if (next != null) {
+                    added += ticks(speed, target, next) - ticks(speed, previous, next);
+                }
+                if (best == null || added < best.addedTicks()) {
+                    best = new RouteInsertion(courier, position, added);
+                }
+                previous = next;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private boolean improve(Courier courier, Function<UUID, Location> locations, long deadline) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+        if (locations == null) {
+            throw new IllegalArgumentException("Locations cannot be null");
+        }
+
+        List<UUID> route = new ArrayList<>(courier.getRoute());
+        int size = route.size();
+        if (size < 2) {
+            return false;
+        }
+        Location[] points = new Location[size + 1];
+        points[0] = courier.getLocation();
+        for (int i = 0; i < size; i++) {
+            points[i + 1] = locationOf(locations, route.get(i));
+        }
+
+        boolean changed = false;
+        boolean improved = true;
+        while (improved && System.nanoTime() - deadline < 0) {
+            improved = false;
+            for (int i = 1; i < size; i++) {
+                for (int j = i + 1; j <= size; j++) {
+                    int before = points[i - 1].calculateDistance(points[i]);
+                    int after = points[i - 1].calculateDistance(points[j]);
+                    if (j < size) {
+                        before += points[j].calculateDistance(points[j + 1]);
+                        after += points[i].calculateDistance(points[j + 1]);
+                    }
+                    if (after < before) {
+                        reverse(points, route, i, j);
+                        improved = true;
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        return changed && guard.tryReplan(courier, route);
+    }
+
+    private static void reverse(Location[] points, List<UUID> route, int from, int to) {
+        for (int i = from, j = to; i < j; i++, j--) {
+            Location point = points[i];
+            points[i] = points[j];
+            points[j] = point;
+            UUID orderId = route.get(i - 1);
+            route.set(i - 1, route.get(j - 1));
+            route.set(j - 1, orderId);
+        }
+    }
+
+    private static int ticks(int speed, Location from, Location to) {
+        return (from.calculateDistance(to) + speed - 1) / speed;
+    }
+
+    private static Location locationOf(Function<UUID, Location> locations, UUID orderId) {
+        Location location = locations.apply(orderId);
+        if (location == null) {
+            throw new IllegalStateException("Location of route order " + orderId + " is unknown");
+        }
+        return location;
+    }
+}
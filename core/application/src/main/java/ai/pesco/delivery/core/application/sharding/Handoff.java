@@ -0,0 +1,13 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+/**
+ * Receives couriers that moved out of their shard's region. Implementations route the
+ * courier, and the order it carries if it is BUSY, to the shard that owns its new location.
+ */
+@FunctionalInterface
+public interface Handoff {
+    void transfer(Courier courier, Order order);
+}
@@ -0,0 +1,24 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+/**
+ * Inclusive rectangle of the city grid owned by one shard.
+ */
+public record Region(int id, int minX, int minY, int maxX, int maxY) {
+
+    public Region {
+        if (minX < Location.MIN_VALUE || minY < Location.MIN_VALUE
+                || maxX > Location.MAX_VALUE || maxY > Location.MAX_VALUE || minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Region must be a non-empty rectangle inside the grid");
+        }
+    }
+
+    public boolean contains(Location location) {
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+        return location.getX() >= minX && location.getX() <= maxX
+                && location.getY() >= minY && location.getY() <= maxY;
+    }
+}
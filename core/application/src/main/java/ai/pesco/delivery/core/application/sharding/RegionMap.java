@@ -0,0 +1,55 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the city grid into {@code columns x rows} regions of near-equal size.
+ * Region ids run row by row from the {@code (MIN_VALUE, MIN_VALUE)} corner.
+ */
+public class RegionMap {
+    private final int columns;
+    private final int rows;
+    private final List<Region> regions;
+
+    public RegionMap(int columns, int rows) {
+        if (columns < 1 || columns > Location.SIZE || rows < 1 || rows > Location.SIZE) {
+            throw new IllegalArgumentException("Columns and rows must be between 1 and " + Location.SIZE);
+        }
+
+        this.columns = columns;
+        this.rows = rows;
+        List<Region> regions = new ArrayList<>(columns * rows);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                regions.add(new Region(regions.size(),
+                        start(column, columns), start(row, rows),
+                        start(column + 1, columns) - 1, start(row + 1, rows) - 1));
+            }
+        }
+        this.regions = List.copyOf(regions);
+    }
+
+    public List<Region> regions() {
+        return regions;
+    }
+
+    public int size() {
+        return regions.size();
+    }
+
+    public Region regionOf(Location location) {
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+        int column = (int) ((long) (location.getX() - Location.MIN_VALUE) * columns / Location.SIZE);
+        int row = (int) ((long) (location.getY() - Location.MIN_VALUE) * rows / Location.SIZE);
+        return regions.get(row * columns + column);
+    }
+
+    private static int start(int part, int parts) {
+        return (int) (((long) part * Location.SIZE + parts - 1) / parts) + Location.MIN_VALUE;
+    }
+}
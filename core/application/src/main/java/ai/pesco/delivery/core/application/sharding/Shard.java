@@ -0,0 +1,238 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.application.dispatch.AssignmentGuard;
+import ai.pesco.delivery.core.application.dispatch.DispatchService;
+import ai.pesco.delivery.core.application.dispatch.FreeCourierIndex;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Dispatcher for one {@link Region}. All state is confined to the shard's own thread:
+ * every operation is queued there and completes the returned future, so shards never
+ * share locks and dispatch in parallel. A courier that moves out of the region leaves
+ * the shard through the {@link Handoff}, taking the order it carries with it.
+ * Orders that find no FREE courier wait until one is freed or handed in.
+ */
+public class Shard implements AutoCloseable {
+    @Getter
+    private final Region region;
+    private final Handoff handoff;
+    private final DispatchService dispatch;
+    private final Map<UUID, Courier> couriers = new HashMap<>();
+    private final Map<UUID, Order> orders = new HashMap<>();
+    private final Queue<PendingOrder> pending = new ArrayDeque<>();
+    private final ExecutorService executor;
+
+    public Shard(Region region, Handoff handoff) {
+        this(region, handoff, DispatchMetrics.NOOP);
+    }
+
+    public Shard(Region region, Handoff handoff, DispatchMetrics metrics) {
+        this(region, handoff, metrics, new AssignmentGuard());
+    }
+
+    /**
+     * Creates a shard whose assignments and completions go through the given guard, so
+     * couriers and orders that are also dispatched outside the shard are paired only once.
+     */
+    public Shard(Region region, Handoff handoff, DispatchMetrics metrics, AssignmentGuard guard) {
+        if (region == null) {
+            throw new IllegalArgumentException("Region cannot be null");
+        }
+        if (handoff == null) {
+            throw new IllegalArgumentException("Handoff cannot be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+
+        this.region = region;
+        this.handoff = handoff;
+        this.dispatch = new DispatchService(
+                new FreeCourierIndex(region.minX(), region.minY(), region.maxX(), region.maxY()), metrics, guard);
+        this.executor = Executors.newSingleThreadExecutor(runnable ->
+                Thread.ofPlatform().name("shard-" + region.id()).daemon().unstarted(runnable));
+    }
+
+    public CompletableFuture<Void> addCourier(Courier courier) {
+        checkCourier(courier);
+        return submit(() -> {
+            checkInRegion(courier);
+            if (couriers.containsKey(courier.getId())) {
+                throw new IllegalArgumentException("Courier is already in the shard");
+            }
+            if (courier.getStatus() == CourierStatus.BUSY) {
+                throw new IllegalArgumentException("Only free couriers can be added to the shard");
+            }
+            admit(courier, null);
+            return null;
+        });
+    }
+
+    /**
+     * Assigns the order to the nearest FREE courier of the region, or keeps it pending
+     * and returns an empty result.
+     */
+    public CompletableFuture<Optional<Courier>> submitOrder(Order order) {
+        checkOrder(order);
+        long submittedAt = System.nanoTime();
+        return submit(() -> {
+            if (!region.contains(order.getLocation())) {
+                throw new IllegalArgumentException("Order is outside the shard region");
+            }
+            if (orders.containsKey(order.getId())) {
+                throw new IllegalArgumentException("Order is already in the shard");
+            }
+
+            orders.put(order.getId(), order);
+            Optional<Courier> courier = dispatch.dispatch(order, submittedAt);
+            if (courier.isEmpty()) {
+                pending.add(new PendingOrder(order, submittedAt));
+            }
+            return courier;
+        });
+    }
+
+    /**
+     * Moves the courier one step towards the destination and hands it off if it left the
+     * region. Completes with an empty result if the courier does not belong to this shard.
+     */
+    public CompletableFuture<Optional<Courier>> moveCourier(UUID courierId, Location destination) {
+        checkCourierId(courierId);
+        if (destination == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+        return submit(() -> {
+            Courier courier = couriers.get(courierId);
+            if (courier == null) {
+                return Optional.empty();
+            }
+
+            courier.moveTo(destination);
+            if (region.contains(courier.getLocation())) {
+                dispatch.register(courier);
+            } else {
+                dispatch.unregister(courier);
+                couriers.remove(courierId);
+                Order order = courier.getOrderId() == null ? null : orders.remove(courier.getOrderId());
+                handoff.transfer(courier, order);
+            }
+            return Optional.of(courier);
+        });
+    }
+
+    /**
+     * Completes the order of a BUSY courier and offers the freed courier to pending orders.
+     * Completes with an empty result if the courier does not belong to this shard.
+     */
+    public CompletableFuture<Optional<Order>> completeOrder(UUID courierId) {
+        checkCourierId(courierId);
+        return submit(() -> {
+            Courier courier = couriers.get(courierId);
+            if (courier == null) {
+                return Optional.empty();
+            }
+            if (courier.getStatus() != CourierStatus.BUSY) {
+                throw new IllegalStateException("Courier is not busy");
+            }
+
+            Order order = orders.remove(courier.getOrderId());
+            dispatch.completeOrder(courier, order);
+            drainPending();
+            return Optional.of(order);
+        });
+    }
+
+    /**
+     * Takes over a courier handed off by another shard.
+     */
+    public CompletableFuture<Void> accept(Courier courier, Order order) {
+        checkCourier(courier);
+        return submit(() -> {
+            checkInRegion(courier);
+            admit(courier, order);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Courier>> couriers() {
+        return submit(() -> List.copyOf(couriers.values()));
+    }
+
+    public CompletableFuture<List<Order>> pendingOrders() {
+        return submit(() -> pending.stream().map(PendingOrder::order).toList());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void admit(Courier courier, Order order) {
+        couriers.put(courier.getId(), courier);
+        if (order != null) {
+            orders.put(order.getId(), order);
+        }
+        dispatch.register(courier);
+        drainPending();
+    }
+
+    private void drainPending() {
+        while (!pending.isEmpty() && dispatch.dispatch(pending.peek().order(), pending.peek().submittedAt()).isPresent()) {
+            pending.remove();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    private void checkInRegion(Courier courier) {
+        if (!region.contains(courier.getLocation())) {
+            throw new IllegalArgumentException("Courier is outside the shard region");
+        }
+    }
+
+    private void checkCourier(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+    }
+
+    private void checkCourierId(UUID courierId) {
+        if (courierId == null) {
+            throw new IllegalArgumentException("Courier id cannot be null");
+        }
+    }
+
+    private void checkOrder(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+    }
+
+    private record PendingOrder(Order order, long submittedAt) {
+    }
+}
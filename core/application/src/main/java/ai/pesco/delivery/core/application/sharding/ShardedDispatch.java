@@ -0,0 +1,123 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.application.dispatch.AssignmentGuard;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes dispatch operations to the in-process {@link Shard} that owns the affected region.
+ * Orders go to the shard of their location, courier operations to the shard recorded in
+ * the courier directory. The directory is updated before a handed-off courier reaches its
+ * new shard, so a request that races the handoff finds the courier missing and is re-routed.
+ */
+public class ShardedDispatch implements Handoff, AutoCloseable {
+    @Getter
+    private final RegionMap regionMap;
+    private final List<Shard> shards;
+    private final Map<UUID, Shard> courierShards = new ConcurrentHashMap<>();
+
+    public ShardedDispatch(RegionMap regionMap) {
+        this(regionMap, DispatchMetrics.NOOP);
+    }
+
+    public ShardedDispatch(RegionMap regionMap, DispatchMetrics metrics) {
+        this(regionMap, metrics, new AssignmentGuard());
+    }
+
+    /**
+     * Creates shards that all assign through the given guard, which can be shared with
+     * dispatchers working on the same couriers and orders outside the shards.
+     */
+    public ShardedDispatch(RegionMap regionMap, DispatchMetrics metrics, AssignmentGuard guard) {
+        if (regionMap == null) {
+            throw new IllegalArgumentException("Region map cannot be null");
+        }
+
+        this.regionMap = regionMap;
+        List<Shard> shards = new ArrayList<>(regionMap.size());
+        for (Region region : regionMap.regions()) {
+            shards.add(new Shard(region, this, metrics, guard));
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    public List<Shard> shards() {
+        return shards;
+    }
+
+    public Shard shardOf(Location location) {
+        return shards.get(regionMap.regionOf(location).id());
+    }
+
+    public Optional<Region> regionOfCourier(UUID courierId) {
+        return Optional.ofNullable(courierId == null ? null : courierShards.get(courierId)).map(Shard::getRegion);
+    }
+
+    public CompletableFuture<Void> addCourier(Courier courier) {
+        if (courier == null) {
+            throw new IllegalArgumentException("Courier cannot be null");
+        }
+        Shard shard = shardOf(courier.getLocation());
+        if (courierShards.putIfAbsent(courier.getId(), shard) != null) {
+            throw new IllegalArgumentException("Courier is already registered");
+        }
+        return shard.addCourier(courier).whenComplete((ignored, error) -> {
+            if (error != null) {
+                courierShards.remove(courier.getId(), shard);
+            }
+        });
+    }
+
+    public CompletableFuture<Optional<Courier>> submitOrder(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        return shardOf(order.getLocation()).submitOrder(order);
+    }
+
+    public CompletableFuture<Courier> moveCourier(UUID courierId, Location destination) {
+        return ownerOf(courierId).moveCourier(courierId, destination).thenCompose(moved -> moved
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> moveCourier(courierId, destination)));
+    }
+
+    public CompletableFuture<Order> completeOrder(UUID courierId) {
+        return ownerOf(courierId).completeOrder(courierId).thenCompose(completed -> completed
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> completeOrder(courierId)));
+    }
+
+    @Override
+    public void transfer(Courier courier, Order order) {
+        Shard target = shardOf(courier.getLocation());
+        courierShards.put(courier.getId(), target);
+        target.accept(courier, order);
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(Shard::close);
+    }
+
+    private Shard ownerOf(UUID courierId) {
+        if (courierId == null) {
+            throw new IllegalArgumentException("Courier id cannot be null");
+        }
+        Shard shard = courierShards.get(courierId);
+        if (shard == null) {
+            throw new IllegalArgumentException("Courier not found");
+        }
+        return shard;
+    }
+}
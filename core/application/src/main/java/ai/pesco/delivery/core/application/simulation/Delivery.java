@@ -0,0 +1,7 @@
+package ai.pesco.delivery.core.application.simulation;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+
+public record Delivery(Courier courier, Order order) {
+}
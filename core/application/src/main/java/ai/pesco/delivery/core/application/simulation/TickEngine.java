@@ -0,0 +1,202 @@
+package ai.pesco.delivery.core.application.simulation;
+
+import ai.pesco.delivery.core.application.dispatch.AssignmentGuard;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Aggregate;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Advances the fleet by one tick: every BUSY courier makes one move towards its current
+ * order and couriers that reach the order location complete it, then head for the next
+ * order on their route from the following tick. The fleet is split into
+ * ranges processed in parallel on a fork-join pool; each courier and its order are
+ * touched by exactly one worker, and deliveries are completed through the
+ * {@link AssignmentGuard} shared with the dispatchers.
+ * Given a publisher, the engine owns the domain events of the couriers it moves and the
+ * orders they complete: after every tick it drains them and hands them to the publisher on
+ * the calling thread. Without one, the events stay on the aggregates for the repository that
+ * saves them. Every completed order is counted in the metrics.
+ */
+public class TickEngine {
+    public static final int DEFAULT_BATCH_SIZE = 2048;
+    public static final Consumer<DomainEvent> DISCARD_EVENTS = event -> {
+    };
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final DispatchMetrics metrics;
+    private final Consumer<DomainEvent> publisher;
+    private final AssignmentGuard guard;
+    private long tick;
+
+    public TickEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public TickEngine(ForkJoinPool pool, int batchSize) {
+        this(pool, batchSize, DispatchMetrics.NOOP, null);
+    }
+
+    /**
+     * @param publisher receiver of the drained domain events, {@link #DISCARD_EVENTS} to drop
+     *                  them, or null to leave them on the aggregates
+     */
+    public TickEngine(ForkJoinPool pool, int batchSize, DispatchMetrics metrics, Consumer<DomainEvent> publisher) {
+        this(pool, batchSize, metrics, publisher, new AssignmentGuard());
+    }
+
+    public TickEngine(ForkJoinPool pool, int batchSize, DispatchMetrics metrics, Consumer<DomainEvent> publisher,
+                      AssignmentGuard guard) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (guard == null) {
+            throw new IllegalArgumentException("Guard cannot be null");
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.metrics = metrics;
+        this.publisher = publisher;
+        this.guard = guard;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Runs one tick. {@code couriers} should be a random access list and {@code orders}
+     * must be safe for concurrent reads while the tick runs.
+     */
+    public TickResult tick(List<Courier> couriers, Map<UUID, Order> orders) {
+        if (couriers == null) {
+            throw new IllegalArgumentException("Couriers cannot be null");
+        }
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+
+        Events events = publisher == null ? Events.KEEP : publisher == DISCARD_EVENTS ? Events.DISCARD : Events.COLLECT;
+        Progress progress = pool.invoke(new MoveTask(couriers, orders, guard, 0, couriers.size(), batchSize, events));
+        tick++;
+        for (int i = 0; i < progress.completed.size(); i++) {
+            metrics.orderTransitioned(OrderStatus.COMPLETED);
+        }
+        if (events == Events.COLLECT) {
+            progress.events.forEach(publisher);
+        }
+        return new TickResult(tick, progress.moved, progress.completed);
+    }
+
+    private enum Events {
+        KEEP, DISCARD, COLLECT
+    }
+
+    private static final class MoveTask extends RecursiveTask<Progress> {
+        private final List<Courier> couriers;
+        private final Map<UUID, Order> orders;
+        private final AssignmentGuard guard;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+        private final Events events;
+
+        private MoveTask(List<Courier> couriers, Map<UUID, Order> orders, AssignmentGuard guard, int from, int to,
+                         int batchSize, Events events) {
+            this.couriers = couriers;
+            this.orders = orders;
+            this.guard = guard;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+            this.events = events;
+        }
+
+        @Override
+        protected Progress compute() {
+            if (to - from <= batchSize) {
+                return move();
+            }
+
+            int middle = (from + to) >>> 1;
+            MoveTask left = new MoveTask(couriers, orders, guard, from, middle, batchSize, events);
+            MoveTask right = new MoveTask(couriers, orders, guard, middle, to, batchSize, events);
+            left.fork();
+            Progress rightProgress = right.compute();
+            return left.join().merge(rightProgress);
+        }
+
+        private Progress move() {
+            Progress progress = new Progress();
+            for (int i = from; i < to; i++) {
+                Courier courier = couriers.get(i);
+                if (courier.getStatus() != CourierStatus.BUSY) {
+                    continue;
+                }
+                Order order = orders.get(courier.getOrderId());
+                if (order == null) {
+                    continue;
+                }
+
+                courier.moveTo(order.getLocation());
+                progress.moved++;
+                if (courier.getLocation().equals(order.getLocation())) {
+                    guard.complete(courier, order);
+                    progress.completed.add(new Delivery(courier, order));
+                    drain(order, progress);
+                }
+                drain(courier, progress);
+            }
+            return progress;
+        }
+
+        private void drain(Aggregate aggregate, Progress progress) {
+            if (events == Events.KEEP || !aggregate.hasDomainEvents()) {
+                return;
+            }
+            if (events == Events.COLLECT) {
+                progress.events.addAll(aggregate.getDomainEvents());
+            }
+            aggregate.clearDomainEvents();
+        }
+    }
+
+    private static final class Progress {
+        private int moved;
+        private List<Delivery> completed = new ArrayList<>();
+        private List<DomainEvent> events = new ArrayList<>();
+
+        private Progress merge(Progress other) {
+            moved += other.moved;
+            completed = concat(completed, other.completed);
+            events = concat(events, other.events);
+            return this;
+        }
+
+        private static <T> List<T> concat(List<T> first, List<T> second) {
+            if (first.isEmpty()) {
+                return second;
+            }
+            first.addAll(second);
+            return first;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ai.pesco.delivery.core.application.simulation;
+
+import java.util.List;
+
+public record TickResult(long tick, int moved, List<Delivery> deliveries) {
+
+    public TickResult {
+        deliveries = List.copyOf(deliveries);
+    }
+}
@@ -0,0 +1,199 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentGuardTest {
+    private final AssignmentGuard guard = new AssignmentGuard(8);
+
+    @Test
+    void tryAssign_FreeCourierAndCreatedOrder_PairsThem() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+
+        assertTrue(guard.tryAssign(courier, order));
+
+        assertEquals(CourierStatus.BUSY, courier.getStatus());
+        assertEquals(order.getId(), courier.getOrderId());
+        assertEquals(OrderStatus.ASSIGNED, order.getStatus());
+        assertEquals(courier.getId(), order.getCourierId());
+    }
+
+    @Test
+    void tryAssign_BusyCourier_ReturnsFalseAndLeavesOrderCreated() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        guard.tryAssign(courier, new Order(UUID.randomUUID(), Location.of(5, 5)));
+        Order order = new Order(UUID.randomUUID(), Location.of(6, 6));
+
+        assertFalse(guard.tryAssign(courier, order));
+        assertEquals(OrderStatus.CREATED, order.getStatus());
+    }
+
+    @Test
+    void tryAssign_AssignedOrder_ReturnsFalseAndLeavesCourierFree() {
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        guard.tryAssign(new Courier("John", "Car", 2, Location.of(1, 1)), order);
+        Courier courier = new Courier("Jane", "Car", 2, Location.of(1, 1));
+
+        assertFalse(guard.tryAssign(courier, order));
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+    }
+
+    @Test
+    void tryAssignAny_FirstCandidateTaken_FallsBackToNext() {
+        Courier taken = new Courier("John", "Car", 2, Location.of(1, 1));
+        Courier free = new Courier("Jane", "Car", 2, Location.of(1, 1));
+        guard.tryAssign(taken, new Order(UUID.randomUUID(), Location.of(5, 5)));
+        Order order = new Order(UUID.randomUUID(), Location.of(6, 6));
+
+        Optional<Courier> assigned = guard.tryAssignAny(order, List.of(taken, free));
+
+        assertEquals(Optional.of(free), assigned);
+    }
+
+    @Test
+    void tryAddToRoute_CourierWithRoom_InsertsOrderAndAssignsIt() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        guard.tryAssign(courier, first);
+        Order second = new Order(UUID.randomUUID(), Location.of(3, 3));
+
+        assertTrue(guard.tryAddToRoute(courier, second, 0));
+
+        assertEquals(List.of(second.getId(), first.getId()), courier.getRoute());
+        assertEquals(courier.getId(), second.getCourierId());
+    }
+
+    @Test
+    void tryAddToRoute_FullRoute_ReturnsFalseAndLeavesOrderCreated() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(1, 1));
+        guard.tryAddToRoute(courier, new Order(UUID.randomUUID(), Location.of(5, 5)), 0);
+        guard.tryAddToRoute(courier, new Order(UUID.randomUUID(), Location.of(6, 6)), 1);
+        Order order = new Order(UUID.randomUUID(), Location.of(7, 7));
+
+        assertFalse(guard.tryAddToRoute(courier, order, 2));
+        assertEquals(OrderStatus.CREATED, order.getStatus());
+        assertEquals(2, courier.getRouteSize());
+    }
+
+    @Test
+    void tryReplan_RouteChangedSincePlanned_ReturnsFalseAndKeepsRoute() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        Order second = new Order(UUID.randomUUID(), Location.of(3, 3));
+        guard.tryAddToRoute(courier, first, 0);
+        List<UUID> planned = List.of(first.getId());
+        guard.tryAddToRoute(courier, second, 1);
+
+        assertFalse(guard.tryReplan(courier, planned));
+        assertEquals(List.of(first.getId(), second.getId()), courier.getRoute());
+        assertTrue(guard.tryReplan(courier, List.of(second.getId(), first.getId())));
+        assertEquals(List.of(second.getId(), first.getId()), courier.getRoute());
+    }
+
+    @Test
+    void complete_AssignedPair_FreesCourier() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        guard.tryAssign(courier, order);
+
+        guard.complete(courier, order);
+
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+    }
+
+    @Test
+    void complete_OtherCouriersOrder_ThrowsIllegalStateException() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        guard.tryAssign(courier, new Order(UUID.randomUUID(), Location.of(5, 5)));
+        Order other = new Order(UUID.randomUUID(), Location.of(6, 6));
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> guard.complete(courier, other));
+        assertEquals("Order is not assigned to this courier", exception.getMessage());
+    }
+
+    @Test
+    void tryAssign_ConcurrentDispatchers_PairEachCourierAndOrderExactlyOnce() throws Exception {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            couriers.add(new Courier("Courier " + i, "Car", 2, Location.of(1, 1)));
+        }
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            orders.add(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        }
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        Set<UUID> pairedCouriers = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            futures.add(executor.submit(() -> {
+                List<Order> shuffledOrders = new ArrayList<>(orders);
+                List<Courier> shuffledCouriers = new ArrayList<>(couriers);
+                Random random = new Random(seed);
+                Collections.shuffle(shuffledOrders, random);
+                Collections.shuffle(shuffledCouriers, random);
+                start.await();
+                for (Order order : shuffledOrders) {
+                    Optional<Courier> courier = guard.tryAssignAny(order, shuffledCouriers);
+                    if (courier.isPresent()) {
+                        successes.incrementAndGet();
+                        assertTrue(pairedCouriers.add(courier.get().getId()));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(couriers.size(), successes.get());
+        Set<UUID> assignedOrders = new HashSet<>();
+        for (Courier courier : couriers) {
+            assertEquals(CourierStatus.BUSY, courier.getStatus());
+            assertTrue(assignedOrders.add(courier.getOrderId()));
+        }
+        long assigned = orders.stream().filter(order -> order.getStatus() == OrderStatus.ASSIGNED).count();
+        assertEquals(couriers.size(), assigned);
+        for (Order order : orders) {
+            if (order.getStatus() == OrderStatus.ASSIGNED) {
+                assertTrue(assignedOrders.contains(order.getId()));
+            }
+        }
+    }
+
+    @Test
+    void constructor_InvalidStripes_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new AssignmentGuard(0));
+        assertEquals("Stripes must be positive", exception.getMessage());
+    }
+}
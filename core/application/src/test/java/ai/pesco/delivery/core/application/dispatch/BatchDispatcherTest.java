@@ -0,0 +1,265 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchDispatcherTest {
+    private FreeCourierIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FreeCourierIndex();
+    }
+
+    @Test
+    void dispatch_CompetingOrders_MinimizesTotalTicks() {
+        Courier near = register(new Courier("Near", "Bike", 1, Location.of(2, 1)));
+        Courier far = register(new Courier("Far", "Bike", 1, Location.of(5, 1)));
+        Order first = new Order(UUID.randomUUID(), Location.of(3, 1));
+        Order second = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        BatchAssignment result = new BatchDispatcher(index).dispatch(List.of(first, second));
+
+        assertTrue(result.optimal());
+        assertEquals(3, result.totalTicks());
+        assertEquals(far.getId(), first.getCourierId());
+        assertEquals(near.getId(), second.getCourierId());
+        assertEquals(first.getId(), far.getOrderId());
+        assertEquals(second.getId(), near.getOrderId());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void dispatch_ZeroTimeBudget_FallsBackToGreedy() {
+        register(new Courier("Near", "Bike", 1, Location.of(2, 1)));
+        register(new Courier("Far", "Bike", 1, Location.of(5, 1)));
+        Order first = new Order(UUID.randomUUID(), Location.of(3, 1));
+        Order second = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        BatchDispatcher dispatcher = new BatchDispatcher(index, 300, 8, Duration.ZERO);
+        BatchAssignment result = dispatcher.dispatch(List.of(first, second));
+
+        assertFalse(result.optimal());
+        assertEquals(5, result.totalTicks());
+        assertEquals(OrderStatus.ASSIGNED, first.getStatus());
+        assertEquals(OrderStatus.ASSIGNED, second.getStatus());
+    }
+
+    @Test
+    void dispatch_DirectEstimator_MatchesTableEstimator() {
+        register(new Courier("Near", "Bike", 1, Location.of(2, 1)));
+        register(new Courier("Far", "Bike", 1, Location.of(5, 1)));
+        Order first = new Order(UUID.randomUUID(), Location.of(3, 1));
+        Order second = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        BatchDispatcher dispatcher = new BatchDispatcher(index, DirectTravelTimeEstimator.INSTANCE, 300, 8,
+                BatchDispatcher.DEFAULT_TIME_BUDGET);
+        BatchAssignment result = dispatcher.dispatch(List.of(first, second));
+
+        assertTrue(result.optimal());
+        assertEquals(3, result.totalTicks());
+    }
+
+    @Test
+    void dispatch_WithMetrics_RecordsTickAndAssignments() {
+        register(new Courier("Near", "Bike", 1, Location.of(2, 1)));
+        register(new Courier("Far", "Bike", 1, Location.of(5, 1)));
+        List<Long> tickNanos = new ArrayList<>();
+        List<Integer> travelTicks = new ArrayList<>();
+        BatchDispatcher dispatcher = new BatchDispatcher(index, TravelTimeEstimator.forGrid(), new DispatchMetrics() {
+            @Override
+            public void courierTravelTicks(int ticks) {
+                travelTicks.add(ticks);
+            }
+
+            @Override
+            public void dispatchTick(long nanos) {
+                tickNanos.add(nanos);
+            }
+        }, 300, 8, BatchDispatcher.DEFAULT_TIME_BUDGET);
+
+        dispatcher.dispatch(List.of(new Order(UUID.randomUUID(), Location.of(3, 1)),
+                new Order(UUID.randomUUID(), Location.of(1, 1))));
+
+        assertEquals(1, tickNanos.size());
+        assertTrue(tickNanos.getFirst() > 0);
+        assertEquals(3, travelTicks.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void constructor_NullEstimator_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new BatchDispatcher(index, null, 300, 8, Duration.ZERO));
+        assertEquals("Estimator cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void dispatch_BatchAboveLimit_FallsBackToGreedy() {
+        register(new Courier("John", "Car", 2, Location.of(2, 1)));
+        Order order = new Order(UUID.randomUUID(), Location.of(3, 1));
+
+        BatchAssignment result = new BatchDispatcher(index, 0, 8, Duration.ofSeconds(1)).dispatch(List.of(order));
+
+        assertFalse(result.optimal());
+        assertEquals(1, result.assignments().size());
+    }
+
+    @Test
+    void dispatch_MoreOrdersThanCouriers_AssignsEveryCourier() {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            couriers.add(register(new Courier("Courier " + i, "Car", 2, Location.of(i, i))));
+        }
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            orders.add(new Order(UUID.randomUUID(), Location.of(i * 2, 1)));
+        }
+
+        BatchAssignment result = new BatchDispatcher(index).dispatch(orders);
+
+        assertEquals(3, result.assignments().size());
+        couriers.forEach(courier -> assertEquals(CourierStatus.BUSY, courier.getStatus()));
+        assertEquals(2, orders.stream().filter(order -> order.getStatus() == OrderStatus.CREATED).count());
+    }
+
+    @Test
+    void dispatch_NonCreatedOrders_AreSkipped() {
+        Courier courier = register(new Courier("John", "Car", 2, Location.of(1, 1)));
+        Order assigned = new Order(UUID.randomUUID(), Location.of(1, 1));
+        assigned.assignToCourier(new Courier("Jane", "Car", 2, Location.of(1, 1)));
+
+        BatchAssignment result = new BatchDispatcher(index).dispatch(List.of(assigned));
+
+        assertTrue(result.assignments().isEmpty());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+    }
+
+    @Test
+    void dispatch_StaleIndex_SkipsRacedPairAndAppliesTheRest() {
+        Courier raced = register(new Courier("John", "Car", 2, Location.of(1, 1)));
+        Courier free = register(new Courier("Jane", "Car", 2, Location.of(9, 9)));
+        raced.assignOrder(new Order(UUID.randomUUID(), Location.of(2, 2)));
+        Order near = new Order(UUID.randomUUID(), Location.of(1, 1));
+        Order far = new Order(UUID.randomUUID(), Location.of(9, 9));
+
+        BatchAssignment result = new BatchDispatcher(index).dispatch(List.of(near, far));
+
+        assertEquals(1, result.assignments().size());
+        assertSame(far, result.assignments().getFirst().order());
+        assertEquals(free.getId(), far.getCourierId());
+        assertEquals(OrderStatus.CREATED, near.getStatus());
+        assertFalse(index.contains(raced));
+    }
+
+    @Test
+    void dispatch_Queue_AssignsMostUrgentOrdersAndRequeuesTheRest() {
+        Courier first = register(new Courier("First", "Bike", 1, Location.of(1, 1)));
+        Courier second = register(new Courier("Second", "Bike", 1, Location.of(9, 9)));
+        Instant now = Instant.parse("2026-10-18T12:00:00Z");
+        DispatchQueue queue = new DispatchQueue(Duration.ofSeconds(1), 64, Clock.fixed(now, ZoneOffset.UTC));
+        Order relaxed = new Order(UUID.randomUUID(), Location.of(1, 1));
+        Order urgent = new Order(UUID.randomUUID(), Location.of(8, 8));
+        Order express = new Order(UUID.randomUUID(), Location.of(2, 2));
+        queue.enqueue(relaxed, DispatchPriority.ECONOMY, now.plusSeconds(60));
+        queue.enqueue(urgent, DispatchPriority.STANDARD, now.plusSeconds(5));
+        queue.enqueue(express, DispatchPriority.EXPRESS, now.plusSeconds(5));
+
+        BatchAssignment result = new BatchDispatcher(index).dispatch(queue);
+
+        assertEquals(2, result.assignments().size());
+        assertEquals(first.getId(), express.getCourierId());
+        assertEquals(second.getId(), urgent.getCourierId());
+        assertEquals(OrderStatus.CREATED, relaxed.getStatus());
+        assertEquals(List.of(relaxed), queue.poll(10).stream().map(QueuedOrder::order).toList());
+    }
+
+    @Test
+    void dispatch_QueueWithMetrics_RecordsWaitOfAssignedOrdersOnly() {
+        register(new Courier("John", "Bike", 1, Location.of(1, 1)));
+        List<Long> waits = new ArrayList<>();
+        BatchDispatcher dispatcher = new BatchDispatcher(index, TravelTimeEstimator.forGrid(), new DispatchMetrics() {
+            @Override
+            public void orderWaited(long nanos) {
+                waits.add(nanos);
+            }
+        }, 300, 8, BatchDispatcher.DEFAULT_TIME_BUDGET);
+        DispatchQueue queue = new DispatchQueue();
+        long before = System.nanoTime();
+        queue.enqueue(new Order(UUID.randomUUID(), Location.of(2, 2)), DispatchPriority.EXPRESS);
+        queue.enqueue(new Order(UUID.randomUUID(), Location.of(3, 3)), DispatchPriority.ECONOMY);
+
+        dispatcher.dispatch(queue);
+
+        assertEquals(1, waits.size());
+        assertTrue(waits.getFirst() >= 0 && waits.getFirst() <= System.nanoTime() - before);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void dispatch_QueueWithoutFreeCouriers_KeepsOrdersQueued() {
+        DispatchQueue queue = new DispatchQueue();
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+        queue.enqueue(order, DispatchPriority.STANDARD);
+
+        BatchAssignment result = new BatchDispatcher(index).dispatch(queue);
+
+        assertTrue(result.assignments().isEmpty());
+        assertTrue(queue.contains(order.getId()));
+    }
+
+    @Test
+    void dispatch_RandomBatch_NeverWorseThanGreedy() {
+        Random random = new Random(7);
+        List<Courier> optimalFleet = new ArrayList<>();
+        List<Courier> greedyFleet = new ArrayList<>();
+        FreeCourierIndex greedyIndex = new FreeCourierIndex();
+        for (int i = 0; i < 60; i++) {
+            int speed = random.nextInt(3) + 1;
+            Location location = Location.of(random.nextInt(10) + 1, random.nextInt(10) + 1);
+            optimalFleet.add(register(new Courier("Courier " + i, "Transport", speed, location)));
+            Courier copy = new Courier("Courier " + i, "Transport", speed, location);
+            greedyFleet.add(copy);
+            greedyIndex.refresh(copy);
+        }
+        List<Order> optimalOrders = new ArrayList<>();
+        List<Order> greedyOrders = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Location location = Location.of(random.nextInt(10) + 1, random.nextInt(10) + 1);
+            optimalOrders.add(new Order(UUID.randomUUID(), location));
+            greedyOrders.add(new Order(UUID.randomUUID(), location));
+        }
+
+        BatchAssignment optimal = new BatchDispatcher(index).dispatch(optimalOrders);
+        BatchAssignment greedy = new BatchDispatcher(greedyIndex, 0, 8, Duration.ZERO).dispatch(greedyOrders);
+
+        assertTrue(optimal.optimal());
+        assertEquals(40, optimal.assignments().size());
+        assertTrue(optimal.totalTicks() <= greedy.totalTicks());
+        Set<UUID> couriers = new HashSet<>();
+        optimal.assignments().forEach(assignment -> assertTrue(couriers.add(assignment.courier().getId())));
+    }
+
+    private Courier register(Courier courier) {
+        index.refresh(courier);
+        return courier;
+    }
+}
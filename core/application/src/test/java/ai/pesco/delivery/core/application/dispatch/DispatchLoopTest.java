@@ -0,0 +1,262 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchLoopTest {
+    private final Map<UUID, Order> storedOrders = new LinkedHashMap<>();
+    private final Map<UUID, Courier> storedCouriers = new LinkedHashMap<>();
+    private final List<Long> waits = new ArrayList<>();
+    private final DispatchQueue queue = new DispatchQueue();
+    private boolean failOrderSaves;
+    private boolean failCourierSaves;
+    private boolean failCourierLoads;
+    private CourierRepository courierRepository;
+    private OrderRepository orderRepository;
+    private DispatchLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        courierRepository = new CourierRepository() {
+            @Override
+            public Optional<Courier> findById(UUID id) {
+                return Optional.ofNullable(storedCouriers.get(id));
+            }
+
+            @Override
+            public List<Courier> findAllById(Collection<UUID> ids) {
+                return ids.stream().map(storedCouriers::get).filter(courier -> courier != null).toList();
+            }
+
+            @Override
+            public List<Courier> findAllFree() {
+                if (failCourierLoads) {
+                    throw new IllegalStateException("Database is down");
+                }
+                return storedCouriers.values().stream()
+                        .filter(courier -> courier.getStatus() == CourierStatus.FREE)
+                        .toList();
+            }
+
+            @Override
+            public long countByStatus(CourierStatus status) {
+                return storedCouriers.values().stream().filter(courier -> courier.getStatus() == status).count();
+            }
+
+            @Override
+            public Stream<Courier> streamAll() {
+                return storedCouriers.values().stream();
+            }
+
+            @Override
+            public void saveAll(Collection<Courier> couriers) {
+                if (failCourierSaves) {
+                    throw new IllegalStateException("Courier was changed concurrently");
+                }
+                couriers.forEach(courier -> storedCouriers.put(courier.getId(), courier));
+            }
+        };
+        orderRepository = new OrderRepository() {
+            @Override
+            public Optional<Order> findById(UUID id) {
+                return Optional.ofNullable(storedOrders.get(id)).map(DispatchLoopTest::copy);
+            }
+
+            @Override
+            public List<Order> findAllById(Collection<UUID> ids) {
+                return ids.stream().map(storedOrders::get).filter(order -> order != null)
+                        .map(DispatchLoopTest::copy).toList();
+            }
+
+            @Override
+            public List<Order> findAllCreated() {
+                return storedOrders.values().stream()
+                        .filter(order -> order.getStatus() == OrderStatus.CREATED)
+                        .map(DispatchLoopTest::copy)
+                        .toList();
+            }
+
+            @Override
+            public Stream<Order> streamActive() {
+                return storedOrders.values().stream().map(DispatchLoopTest::copy);
+            }
+
+            @Override
+            public void saveAll(Collection<Order> orders) {
+                if (failOrderSaves) {
+                    throw new IllegalStateException("Database is down");
+                }
+                orders.forEach(order -> storedOrders.put(order.getId(), copy(order)));
+            }
+        };
+        loop = newLoop(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void dispatch_MoreOrdersThanCouriers_AssignsMostUrgentAndKeepsTheRest() {
+        Courier courier = storeCourier(Location.of(1, 1));
+        Order standard = storeOrder(Location.of(2, 2));
+        Order express = storeOrder(Location.of(3, 3));
+        queue.enqueue(standard, DispatchPriority.STANDARD);
+        queue.enqueue(express, DispatchPriority.EXPRESS);
+
+        BatchAssignment result = loop.dispatch();
+
+        assertEquals(1, result.assignments().size());
+        assertEquals(OrderStatus.ASSIGNED, storedOrders.get(express.getId()).getStatus());
+        assertEquals(courier.getId(), storedOrders.get(express.getId()).getCourierId());
+        assertEquals(CourierStatus.BUSY, storedCouriers.get(courier.getId()).getStatus());
+        assertFalse(queue.contains(express.getId()));
+        assertTrue(queue.contains(standard.getId()));
+        assertEquals(1, waits.size());
+    }
+
+    @Test
+    void dispatch_NoFreeCourier_LeavesQueueUntouched() {
+        Order order = storeOrder(Location.of(2, 2));
+        queue.enqueue(order, DispatchPriority.STANDARD);
+
+        BatchAssignment result = loop.dispatch();
+
+        assertTrue(result.assignments().isEmpty());
+        assertTrue(queue.contains(order.getId()));
+        assertEquals(OrderStatus.CREATED, order.getStatus());
+    }
+
+    @Test
+    void dispatch_FailedOrderSave_RequeuesStoredCopyInItsPlace() {
+        storeCourier(Location.of(1, 1));
+        Order first = storeOrder(Location.of(2, 2));
+        Order second = storeOrder(Location.of(3, 3));
+        queue.enqueue(first, DispatchPriority.EXPRESS);
+        queue.enqueue(second, DispatchPriority.STANDARD);
+        QueuedOrder before = queue.peek().orElseThrow();
+        failOrderSaves = true;
+
+        assertThrows(IllegalStateException.class, () -> loop.dispatch());
+
+        assertEquals(OrderStatus.ASSIGNED, first.getStatus());
+        List<QueuedOrder> requeued = queue.poll(2);
+        assertEquals(List.of(first.getId(), second.getId()),
+                requeued.stream().map(queued -> queued.order().getId()).toList());
+        QueuedOrder retried = requeued.getFirst();
+        assertNotSame(first, retried.order());
+        assertEquals(OrderStatus.CREATED, retried.order().getStatus());
+        assertEquals(before.deadline(), retried.deadline());
+        assertEquals(before.sequence(), retried.sequence());
+        assertTrue(waits.isEmpty());
+    }
+
+    @Test
+    void dispatch_FailedCourierSave_RevertsOrdersAndRequeuesThem() {
+        storeCourier(Location.of(1, 1));
+        Order order = storeOrder(Location.of(2, 2));
+        queue.enqueue(order, DispatchPriority.EXPRESS);
+        failCourierSaves = true;
+
+        assertThrows(IllegalStateException.class, () -> loop.dispatch());
+
+        Order stored = storedOrders.get(order.getId());
+        assertEquals(OrderStatus.CREATED, stored.getStatus());
+        assertNull(stored.getCourierId());
+        QueuedOrder retried = queue.poll(1).getFirst();
+        assertEquals(order.getId(), retried.order().getId());
+        assertEquals(OrderStatus.CREATED, retried.order().getStatus());
+    }
+
+    @Test
+    void dispatch_CourierReplacedInStore_AssignsStoredInstance() {
+        Courier courier = storeCourier(Location.of(9, 9));
+        loop.dispatch();
+        Courier moved = Courier.restore(courier.getId(), courier.getName(), courier.getTransport(),
+                Location.of(1, 1), List.of());
+        storedCouriers.put(moved.getId(), moved);
+        Order order = storeOrder(Location.of(2, 2));
+        queue.enqueue(order, DispatchPriority.EXPRESS);
+
+        BatchAssignment result = loop.dispatch();
+
+        assertSame(moved, result.assignments().getFirst().courier());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+    }
+
+    @Test
+    void start_FailingTicks_CountsFailuresAndKeepsRunning() throws Exception {
+        failCourierLoads = true;
+        DispatchLoop fast = newLoop(Duration.ofMillis(5));
+
+        try (fast) {
+            fast.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (fast.failures() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertTrue(fast.failures() >= 3);
+        }
+    }
+
+    @Test
+    void recover_StoredCreatedOrders_QueuesThoseNotQueuedYet() {
+        Order queued = storeOrder(Location.of(2, 2));
+        Order leftOver = storeOrder(Location.of(3, 3));
+        queue.enqueue(queued, DispatchPriority.EXPRESS);
+
+        assertEquals(1, loop.recover());
+
+        assertTrue(queue.contains(leftOver.getId()));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void constructor_NullCourierRepository_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new DispatchLoop(null, null, queue, DispatchMetrics.NOOP, Duration.ofSeconds(1)));
+        assertEquals("Courier repository cannot be null", exception.getMessage());
+    }
+
+    private DispatchLoop newLoop(Duration interval) {
+        return new DispatchLoop(courierRepository, orderRepository, queue, new DispatchMetrics() {
+            @Override
+            public void orderWaited(long nanos) {
+                waits.add(nanos);
+            }
+        }, interval);
+    }
+
+    private Courier storeCourier(Location location) {
+        Courier courier = new Courier("John", "Car", 2, location);
+        storedCouriers.put(courier.getId(), courier);
+        return courier;
+    }
+
+    private Order storeOrder(Location location) {
+        Order order = new Order(UUID.randomUUID(), location);
+        storedOrders.put(order.getId(), copy(order));
+        return order;
+    }
+
+    private static Order copy(Order order) {
+        return Order.restore(order.getId(), order.getLocation(), order.getStatus(), order.getCourierId());
+    }
+}
@@ -0,0 +1,282 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchQueueTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private DispatchQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new DispatchQueue(Duration.ofSeconds(1), 64, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void poll_DifferentDeadlines_ReturnsEarliestDeadlineFirst() {
+        Order late = order();
+        Order early = order();
+        Order middle = order();
+        queue.enqueue(late, DispatchPriority.STANDARD, NOW.plusSeconds(30));
+        queue.enqueue(early, DispatchPriority.STANDARD, NOW.plusSeconds(5));
+        queue.enqueue(middle, DispatchPriority.STANDARD, NOW.plusSeconds(10));
+
+        assertEquals(List.of(early, middle, late), orders(queue.poll(10)));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void poll_SameBucket_ReturnsHigherPriorityThenOlder() {
+        Order economy = order();
+        Order first = order();
+        Order second = order();
+        Order express = order();
+        queue.enqueue(economy, DispatchPriority.ECONOMY, NOW.plusMillis(100));
+        queue.enqueue(first, DispatchPriority.STANDARD, NOW.plusMillis(900));
+        queue.enqueue(second, DispatchPriority.STANDARD, NOW.plusMillis(200));
+        queue.enqueue(express, DispatchPriority.EXPRESS, NOW.plusMillis(500));
+
+        assertEquals(List.of(express, first, second, economy), orders(queue.poll(4)));
+    }
+
+    @Test
+    void enqueue_WithoutDeadline_UsesSlaOfPriority() {
+        Order order = order();
+
+        queue.enqueue(order, DispatchPriority.EXPRESS);
+
+        QueuedOrder queued = queue.peek().orElseThrow();
+        assertEquals(NOW.plus(DispatchPriority.EXPRESS.getSla()), queued.deadline());
+        assertEquals(DispatchPriority.EXPRESS, queued.priority());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void poll_DeadlinesBeyondHorizon_ComeOutInDeadlineOrder() {
+        List<Order> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(order());
+        }
+        List<Integer> seconds = List.of(500, 3, 90, 1000, 64, 63, 200, 1, 129, 128);
+        Map<Integer, Order> bySecond = new HashMap<>();
+        for (int i = 0; i < seconds.size(); i++) {
+            bySecond.put(seconds.get(i), expected.get(i));
+            queue.enqueue(expected.get(i), DispatchPriority.STANDARD, NOW.plusSeconds(seconds.get(i)));
+        }
+
+        List<Order> polled = orders(queue.poll(10));
+
+        List<Integer> sorted = new ArrayList<>(seconds);
+        Collections.sort(sorted);
+        assertEquals(sorted.stream().map(bySecond::get).toList(), polled);
+    }
+
+    @Test
+    void enqueue_OverdueOrder_IsPolledFirst() {
+        Order due = order();
+        Order overdue = order();
+        queue.enqueue(due, DispatchPriority.EXPRESS, NOW.plusSeconds(2));
+        queue.enqueue(overdue, DispatchPriority.ECONOMY, NOW.minusSeconds(600));
+
+        assertEquals(List.of(overdue, due), orders(queue.poll(2)));
+    }
+
+    @Test
+    void remove_QueuedOrder_SkipsItAndReportsAbsence() {
+        Order first = order();
+        Order second = order();
+        Order third = order();
+        queue.enqueue(first, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+        queue.enqueue(second, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+        queue.enqueue(third, DispatchPriority.STANDARD, NOW.plusSeconds(1000));
+
+        assertTrue(queue.remove(second.getId()));
+        assertTrue(queue.remove(third.getId()));
+        assertFalse(queue.remove(second.getId()));
+        assertFalse(queue.contains(second.getId()));
+        assertEquals(List.of(first), orders(queue.poll(10)));
+    }
+
+    @Test
+    void requeue_PolledOrders_GoBackInFrontOfTheirBucket() {
+        Order first = order();
+        Order second = order();
+        Order third = order();
+        Order assigned = order();
+        queue.enqueue(first, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+        queue.enqueue(second, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+        queue.enqueue(assigned, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+        queue.enqueue(third, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+
+        List<QueuedOrder> polled = queue.poll(3);
+        assigned.assignToCourier(new Courier("John", "Car", 2, Location.of(1, 1)));
+        queue.requeue(polled);
+
+        assertEquals(List.of(first, second, third), orders(queue.poll(10)));
+    }
+
+    @Test
+    void requeue_OrdersBeyondHorizon_KeepTheirArrivalRank() {
+        Order first = order();
+        Order second = order();
+        Order third = order();
+        queue.enqueue(first, DispatchPriority.STANDARD, NOW.plusSeconds(1000));
+        queue.enqueue(second, DispatchPriority.STANDARD, NOW.plusSeconds(1000));
+        queue.enqueue(third, DispatchPriority.STANDARD, NOW.plusSeconds(1000));
+
+        queue.requeue(queue.poll(2));
+
+        assertEquals(List.of(first, second, third), orders(queue.poll(10)));
+    }
+
+    @Test
+    void poll_OrderAssignedWhileQueued_DropsIt() {
+        Order assigned = order();
+        Order waiting = order();
+        queue.enqueue(assigned, DispatchPriority.EXPRESS, NOW.plusSeconds(1));
+        queue.enqueue(waiting, DispatchPriority.STANDARD, NOW.plusSeconds(2));
+
+        assigned.assignToCourier(new Courier("John", "Car", 2, Location.of(1, 1)));
+
+        assertEquals(List.of(waiting), orders(queue.poll(10)));
+        assertFalse(queue.contains(assigned.getId()));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void relocate_QueuedOrder_KeepsPlaceAndReturnsNewLocation() {
+        Order order = order();
+        queue.enqueue(order, DispatchPriority.STANDARD, NOW.plusSeconds(1));
+
+        order.relocate(Location.of(9, 9));
+
+        assertEquals(Location.of(9, 9), queue.poll(1).getFirst().order().getLocation());
+    }
+
+    @Test
+    void poll_GrowingBacklog_MissesFewerDeadlinesThanArrivalOrder() {
+        Random random = new Random(7);
+        MutableClock clock = new MutableClock(NOW);
+        DispatchQueue backlog = new DispatchQueue(Duration.ofMinutes(1), 128, clock);
+        ArrayDeque<QueuedOrder> arrivalOrder = new ArrayDeque<>();
+
+        int lateInArrivalOrder = 0;
+        int lateByUrgency = 0;
+        for (int minute = 0; minute < 400; minute++) {
+            clock.instant = NOW.plus(Duration.ofMinutes(minute));
+            for (int i = 0; minute < 240 && i < 22; i++) {
+                DispatchPriority priority = DispatchPriority.values()[random.nextInt(3)];
+                Order order = order();
+                backlog.enqueue(order, priority);
+                arrivalOrder.add(new QueuedOrder(order, priority, clock.instant.plus(priority.getSla())));
+            }
+            for (int i = 0; i < 20 && !arrivalOrder.isEmpty(); i++) {
+                if (arrivalOrder.poll().deadline().isBefore(clock.instant)) {
+                    lateInArrivalOrder++;
+                }
+            }
+            for (QueuedOrder queued : backlog.poll(20)) {
+                if (queued.deadline().isBefore(clock.instant)) {
+                    lateByUrgency++;
+                }
+            }
+        }
+
+        assertTrue(backlog.isEmpty());
+        assertEquals(969, lateInArrivalOrder);
+        assertEquals(0, lateByUrgency);
+    }
+
+    @Test
+    void poll_ClockAdvancesPastEmptyBuckets_KeepsDeadlineOrder() {
+        MutableClock clock = new MutableClock(NOW);
+        DispatchQueue wheel = new DispatchQueue(Duration.ofSeconds(1), 8, clock);
+        Order later = order();
+        Order sooner = order();
+        Order overdue = order();
+        wheel.enqueue(later, DispatchPriority.STANDARD, NOW.plusSeconds(40));
+        wheel.enqueue(sooner, DispatchPriority.STANDARD, NOW.plusSeconds(35));
+
+        clock.instant = NOW.plusSeconds(30);
+        wheel.enqueue(overdue, DispatchPriority.ECONOMY, NOW.plusSeconds(10));
+
+        assertEquals(List.of(overdue, sooner, later), orders(wheel.poll(3)));
+    }
+
+    @Test
+    void enqueue_QueuedTwice_ThrowsIllegalArgumentException() {
+        Order order = order();
+        queue.enqueue(order, DispatchPriority.STANDARD);
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> queue.enqueue(order, DispatchPriority.EXPRESS));
+        assertEquals("Order is already queued", exception.getMessage());
+    }
+
+    @Test
+    void enqueue_AssignedOrder_ThrowsIllegalArgumentException() {
+        Order order = order();
+        order.assignToCourier(new Courier("John", "Car", 2, Location.of(1, 1)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> queue.enqueue(order, DispatchPriority.STANDARD));
+        assertEquals("To be queued, the order must have the CREATED status", exception.getMessage());
+    }
+
+    @Test
+    void constructor_ZeroBucketWidth_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new DispatchQueue(Duration.ZERO, 64, Clock.systemUTC()));
+        assertEquals("Bucket width must be at least one millisecond", exception.getMessage());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static Order order() {
+        return new Order(UUID.randomUUID(), Location.random());
+    }
+
+    private static List<Order> orders(List<QueuedOrder> queued) {
+        return queued.stream().map(QueuedOrder::order).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchServiceTest {
+    private FreeCourierIndex index;
+    private DispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() {
+        index = new FreeCourierIndex();
+        dispatchService = new DispatchService(index);
+    }
+
+    @Test
+    void dispatch_FreeCourierAvailable_AssignsNearestCourier() {
+        Courier far = new Courier("Far", "Bike", 1, Location.of(10, 10));
+        Courier near = new Courier("Near", "Bike", 1, Location.of(2, 2));
+        dispatchService.register(far);
+        dispatchService.register(near);
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        Optional<Courier> assigned = dispatchService.dispatch(order);
+
+        assertEquals(Optional.of(near), assigned);
+        assertEquals(CourierStatus.BUSY, near.getStatus());
+        assertEquals(order.getId(), near.getOrderId());
+        assertEquals(OrderStatus.ASSIGNED, order.getStatus());
+        assertEquals(near.getId(), order.getCourierId());
+        assertFalse(index.contains(near));
+    }
+
+    @Test
+    void dispatch_NearestCourierTakenByAnotherDispatcher_AssignsNextNearest() {
+        AssignmentGuard guard = new AssignmentGuard();
+        DispatchService dispatch = new DispatchService(index, DispatchMetrics.NOOP, guard);
+        Courier near = new Courier("Near", "Bike", 1, Location.of(2, 2));
+        Courier far = new Courier("Far", "Bike", 1, Location.of(10, 10));
+        dispatch.register(near);
+        dispatch.register(far);
+        assertTrue(guard.tryAssign(near, new Order(UUID.randomUUID(), Location.of(3, 3))));
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        Optional<Courier> assigned = dispatch.dispatch(order);
+
+        assertEquals(Optional.of(far), assigned);
+        assertEquals(far.getId(), order.getCourierId());
+        assertFalse(index.contains(near));
+        assertFalse(index.contains(far));
+    }
+
+    @Test
+    void dispatch_WithMetrics_RecordsTransitionsAndTravelTicks() {
+        List<OrderStatus> transitions = new ArrayList<>();
+        List<Integer> ticks = new ArrayList<>();
+        DispatchService service = new DispatchService(index, new DispatchMetrics() {
+            @Override
+            public void orderTransitioned(OrderStatus status) {
+                transitions.add(status);
+            }
+
+            @Override
+            public void courierTravelTicks(int travelTicks) {
+                ticks.add(travelTicks);
+            }
+        });
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        service.register(courier);
+        Order order = new Order(UUID.randomUUID(), Location.of(4, 4));
+
+        service.dispatch(order);
+        service.completeOrder(courier, order);
+
+        assertEquals(List.of(OrderStatus.ASSIGNED, OrderStatus.COMPLETED), transitions);
+        assertEquals(List.of(3), ticks);
+    }
+
+    @Test
+    void dispatch_NoFreeCourier_ReturnsEmpty() {
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        assertTrue(dispatchService.dispatch(order).isEmpty());
+        assertEquals(OrderStatus.CREATED, order.getStatus());
+    }
+
+    @Test
+    void dispatch_AssignedOrder_ThrowsIllegalArgumentException() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        dispatchService.register(courier);
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+        order.assignToCourier(courier);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> dispatchService.dispatch(order));
+        assertEquals("To be assigned, the order must have the CREATED status", exception.getMessage());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+    }
+
+    @Test
+    void completeOrder_AssignedOrder_ReturnsCourierToIndex() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        dispatchService.register(courier);
+        Order order = new Order(UUID.randomUUID(), Location.of(3, 1));
+        dispatchService.dispatch(order);
+
+        dispatchService.moveCourier(courier, order.getLocation());
+        dispatchService.completeOrder(courier, order);
+
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+        assertTrue(index.contains(courier));
+        assertEquals(courier, dispatchService.findNearestFreeCouriers(Location.of(3, 1), 1).getFirst());
+    }
+
+    @Test
+    void completeOrder_OrderOfAnotherCourier_ThrowsIllegalStateException() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        dispatchService.register(courier);
+        dispatchService.dispatch(new Order(UUID.randomUUID(), Location.of(3, 1)));
+        Order other = new Order(UUID.randomUUID(), Location.of(3, 1));
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> dispatchService.completeOrder(courier, other));
+        assertEquals("Order is not assigned to this courier", exception.getMessage());
+    }
+}
@@ -0,0 +1,214 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeCourierIndexTest {
+    private FreeCourierIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FreeCourierIndex();
+    }
+
+    @Test
+    void refresh_FreeCourier_AddsToIndex() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(3, 3));
+        index.refresh(courier);
+
+        assertTrue(index.contains(courier));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void refresh_BusyCourier_RemovesFromIndex() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(3, 3));
+        index.refresh(courier);
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        index.refresh(courier);
+
+        assertFalse(index.contains(courier));
+        assertTrue(index.findNearest(Location.of(3, 3), 1).isEmpty());
+    }
+
+    @Test
+    void refresh_MovedCourier_FoundAtNewLocation() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        index.refresh(courier);
+        courier.moveTo(Location.of(10, 10));
+        index.refresh(courier);
+
+        Courier near = new Courier("Jane", "Car", 3, Location.of(3, 1));
+        index.refresh(near);
+
+        assertEquals(List.of(near, courier), index.findNearest(Location.of(1, 1), 2));
+    }
+
+    @Test
+    void refresh_NullCourier_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> index.refresh(null));
+        assertEquals("Courier cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void remove_IndexedCourier_RemovesFromIndex() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(3, 3));
+        index.refresh(courier);
+        index.remove(courier);
+
+        assertFalse(index.contains(courier));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void refresh_CourierOutsideBoundedArea_ThrowsIllegalArgumentException() {
+        FreeCourierIndex bounded = new FreeCourierIndex(1, 1, 5, 5);
+        Courier courier = new Courier("John", "Bike", 1, Location.of(6, 3));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> bounded.refresh(courier));
+        assertEquals("Courier is outside the indexed area", exception.getMessage());
+    }
+
+    @Test
+    void constructor_AreaOutsideGrid_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new FreeCourierIndex(1, 1, Location.MAX_VALUE + 1, 5));
+        assertEquals("Indexed area must be a non-empty rectangle inside the grid", exception.getMessage());
+    }
+
+    @Test
+    void findNearest_TargetOutsideBoundedArea_ReturnsCouriersInsideByTicks() {
+        FreeCourierIndex bounded = new FreeCourierIndex(6, 1, 10, 5);
+        Courier far = new Courier("Far", "Bike", 1, Location.of(10, 5));
+        Courier near = new Courier("Near", "Bike", 1, Location.of(6, 2));
+        bounded.refresh(far);
+        bounded.refresh(near);
+
+        assertEquals(List.of(near, far), bounded.findNearest(Location.of(1, 10), 2));
+    }
+
+    @Test
+    void findNearest_FasterCourierFurtherAway_PrefersFewerTicks() {
+        Courier slow = new Courier("Slow", "Bike", 1, Location.of(1, 4));
+        Courier fast = new Courier("Fast", "Car", 3, Location.of(1, 7));
+        index.refresh(slow);
+        index.refresh(fast);
+
+        List<Courier> nearest = index.findNearest(Location.of(1, 1), 2);
+
+        assertEquals(List.of(fast, slow), nearest);
+    }
+
+    @Test
+    void findNearest_LimitSmallerThanFleet_ReturnsLimit() {
+        for (int i = 0; i < 10; i++) {
+            index.refresh(new Courier("John", "Car", 2, Location.of(5, 5)));
+        }
+
+        assertEquals(3, index.findNearest(Location.of(5, 5), 3).size());
+    }
+
+    @Test
+    void findNearest_EmptyIndex_ReturnsEmptyList() {
+        assertTrue(index.findNearest(Location.of(5, 5), 3).isEmpty());
+    }
+
+    @Test
+    void findNearest_InvalidLimit_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> index.findNearest(Location.of(5, 5), 0));
+        assertEquals("Limit must be positive", exception.getMessage());
+    }
+
+    @Test
+    void findNearest_RandomFleet_MatchesFullScan() {
+        Random random = new Random(42);
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Courier courier = new Courier("Courier " + i, "Transport", random.nextInt(3) + 1,
+                    Location.of(random.nextInt(10) + 1, random.nextInt(10) + 1));
+            couriers.add(courier);
+            index.refresh(courier);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            Location target = Location.of(random.nextInt(10) + 1, random.nextInt(10) + 1);
+            List<Courier> nearest = index.findNearest(target, 20);
+
+            List<Integer> expected = couriers.stream()
+                    .map(courier -> ticks(courier, target))
+                    .sorted(Comparator.naturalOrder())
+                    .limit(20)
+                    .toList();
+            assertEquals(expected, nearest.stream().map(courier -> ticks(courier, target)).toList());
+        }
+    }
+
+    @Test
+    void findNearest_DenseBoundedFleet_MatchesFullScan() {
+        Random random = new Random(7);
+        FreeCourierIndex bounded = new FreeCourierIndex(1, 1, 6, 6);
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Courier courier = new Courier("Courier " + i, "Transport", random.nextInt(3) + 1,
+                    Location.of(random.nextInt(6) + 1, random.nextInt(6) + 1));
+            couriers.add(courier);
+            bounded.refresh(courier);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            Location target = Location.of(random.nextInt(6) + 1, random.nextInt(6) + 1);
+            List<Courier> nearest = bounded.findNearest(target, 5);
+
+            List<Integer> expected = couriers.stream()
+                    .map(courier -> ticks(courier, target))
+                    .sorted(Comparator.naturalOrder())
+                    .limit(5)
+                    .toList();
+            assertEquals(expected, nearest.stream().map(courier -> ticks(courier, target)).toList());
+        }
+    }
+
+    @Test
+    void findNearest_SparseFleet_MatchesFullScan() {
+        Random random = new Random(11);
+        for (int round = 0; round < 50; round++) {
+            FreeCourierIndex sparse = new FreeCourierIndex();
+            List<Courier> couriers = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                Courier courier = new Courier("Courier " + i, "Transport", random.nextInt(3) + 1,
+                        Location.of(random.nextInt(10) + 1, random.nextInt(10) + 1));
+                couriers.add(courier);
+                sparse.refresh(courier);
+            }
+            Location target = Location.of(random.nextInt(10) + 1, random.nextInt(10) + 1);
+
+            List<Integer> expected = couriers.stream()
+                    .map(courier -> ticks(courier, target))
+                    .sorted(Comparator.naturalOrder())
+                    .limit(4)
+                    .toList();
+            assertEquals(expected, sparse.findNearest(target, 4).stream().map(courier -> ticks(courier, target)).toList());
+        }
+    }
+
+    private static int ticks(Courier courier, Location target) {
+        int ticks = 0;
+        Location current = courier.getLocation();
+        while (!current.equals(target)) {
+            current = courier.getTransport().move(current, target);
+            ticks++;
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,141 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIntakeTest {
+    private final Map<UUID, Order> saved = new LinkedHashMap<>();
+    private final List<OrderStatus> transitions = new ArrayList<>();
+    private final DispatchQueue queue = new DispatchQueue();
+    private boolean failSaves;
+    private OrderIntake intake;
+    private OrderIntake queueingIntake;
+
+    @BeforeEach
+    void setUp() {
+        OrderRepository repository = new OrderRepository() {
+            @Override
+            public Optional<Order> findById(UUID id) {
+                return Optional.ofNullable(saved.get(id));
+            }
+
+            @Override
+            public List<Order> findAllById(Collection<UUID> ids) {
+                return ids.stream().map(saved::get).filter(order -> order != null).toList();
+            }
+
+            @Override
+            public List<Order> findAllCreated() {
+                return List.copyOf(saved.values());
+            }
+
+            @Override
+            public Stream<Order> streamActive() {
+                return saved.values().stream();
+            }
+
+            @Override
+            public void saveAll(Collection<Order> orders) {
+                if (failSaves) {
+                    throw new IllegalStateException("Database is down");
+                }
+                orders.forEach(order -> saved.put(order.getId(), order));
+            }
+        };
+        DispatchMetrics metrics = new DispatchMetrics() {
+            @Override
+            public void orderTransitioned(OrderStatus status) {
+                transitions.add(status);
+            }
+        };
+        intake = new OrderIntake(repository, metrics);
+        queueingIntake = new OrderIntake(repository, metrics, queue);
+    }
+
+    @Test
+    void create_NewOrder_SavesAndCountsIt() {
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        intake.create(order);
+
+        assertSame(order, saved.get(order.getId()));
+        assertEquals(List.of(OrderStatus.CREATED), transitions);
+    }
+
+    @Test
+    void createAll_Batch_CountsEveryOrder() {
+        intake.createAll(List.of(new Order(UUID.randomUUID(), Location.of(1, 1)),
+                new Order(UUID.randomUUID(), Location.of(2, 2))));
+
+        assertEquals(2, saved.size());
+        assertEquals(List.of(OrderStatus.CREATED, OrderStatus.CREATED), transitions);
+    }
+
+    @Test
+    void createAll_FailedSave_CountsNothing() {
+        failSaves = true;
+
+        assertThrows(IllegalStateException.class,
+                () -> intake.createAll(List.of(new Order(UUID.randomUUID(), Location.of(1, 1)))));
+        assertTrue(transitions.isEmpty());
+    }
+
+    @Test
+    void create_WithQueue_QueuesSavedOrderWithDefaultPriority() {
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        queueingIntake.create(order);
+
+        QueuedOrder queued = queue.peek().orElseThrow();
+        assertSame(order, queued.order());
+        assertEquals(OrderIntake.DEFAULT_PRIORITY, queued.priority());
+    }
+
+    @Test
+    void createAll_WithQueue_QueuesEveryOrderOnce() {
+        Order first = new Order(UUID.randomUUID(), Location.of(1, 1));
+        Order second = new Order(UUID.randomUUID(), Location.of(2, 2));
+        queue.enqueue(first, DispatchPriority.EXPRESS);
+
+        queueingIntake.createAll(List.of(first, second));
+
+        assertEquals(2, queue.size());
+        assertEquals(DispatchPriority.EXPRESS, queue.peek().orElseThrow().priority());
+    }
+
+    @Test
+    void createAll_WithQueueAndFailedSave_QueuesNothing() {
+        failSaves = true;
+
+        assertThrows(IllegalStateException.class,
+                () -> queueingIntake.createAll(List.of(new Order(UUID.randomUUID(), Location.of(1, 1)))));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void create_AssignedOrder_ThrowsIllegalArgumentException() {
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+        order.assignToCourier(new Courier("John", "Car", 2, Location.of(1, 1)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> intake.create(order));
+        assertEquals("To be created, the order must have the CREATED status", exception.getMessage());
+        assertTrue(saved.isEmpty());
+    }
+}
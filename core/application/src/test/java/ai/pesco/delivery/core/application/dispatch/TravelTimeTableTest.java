@@ -0,0 +1,51 @@
+package ai.pesco.delivery.core.application.dispatch;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TravelTimeTableTest {
+    private final TravelTimeTable table = TravelTimeTable.shared();
+
+    @Test
+    void distance_EveryPair_MatchesCalculateDistance() {
+        for (int from = 0; from < Location.COUNT; from++) {
+            for (int to = 0; to < Location.COUNT; to++) {
+                int expected = Location.unpack(from).calculateDistance(Location.unpack(to));
+
+                assertEquals(expected, table.distance(from, to));
+                assertEquals(expected, DirectTravelTimeEstimator.INSTANCE.distance(from, to));
+            }
+        }
+    }
+
+    @Test
+    void ticks_EveryPairAndSpeed_MatchesTransportEstimate() {
+        for (int speed = Transport.MIN_SPEED; speed <= Transport.MAX_SPEED; speed++) {
+            Transport transport = new Transport("Transport", speed);
+            for (int from = 0; from < Location.COUNT; from++) {
+                for (int to = 0; to < Location.COUNT; to++) {
+                    int expected = transport.estimateTicks(Location.unpack(from), Location.unpack(to));
+
+                    assertEquals(expected, table.ticks(speed, from, to));
+                    assertEquals(expected, DirectTravelTimeEstimator.INSTANCE.ticks(speed, from, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    void ticks_Courier_MatchesEstimateTicksTo() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+
+        assertEquals(courier.estimateTicksTo(Location.of(10, 10)), table.ticks(courier, Location.of(10, 10)));
+    }
+
+    @Test
+    void forGrid_DefaultGrid_ReturnsSharedTable() {
+        assertSame(TravelTimeTable.shared(), TravelTimeEstimator.forGrid());
+    }
+}
@@ -0,0 +1,196 @@
+package ai.pesco.delivery.core.application.fleet;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetStoreTest {
+    private FleetStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FleetStore(2);
+    }
+
+    @Test
+    void add_FreeCourier_StoresAllFields() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+
+        int slot = store.add(courier);
+
+        assertEquals(slot, store.slotOf(courier.getId()));
+        assertEquals(courier.getId(), store.getId(slot));
+        assertEquals(3, store.getX(slot));
+        assertEquals(4, store.getY(slot));
+        assertEquals(2, store.getSpeed(slot));
+        assertEquals(CourierStatus.FREE, store.getStatus(slot));
+        assertNull(store.getOrderId(slot));
+    }
+
+    @Test
+    void add_SameCourierTwice_ThrowsIllegalArgumentException() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+        store.add(courier);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> store.add(courier));
+        assertEquals("Courier is already in the fleet", exception.getMessage());
+    }
+
+    @Test
+    void add_BeyondCapacity_GrowsAndKeepsLookups() {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Courier courier = new Courier("Courier " + i, "Bike", 1, Location.of(1, 1));
+            couriers.add(courier);
+            store.add(courier);
+        }
+
+        assertEquals(1000, store.size());
+        for (Courier courier : couriers) {
+            assertEquals(courier.getId(), store.getId(store.slotOf(courier.getId())));
+        }
+    }
+
+    @Test
+    void toCourier_StoredCourier_ReturnsEqualSnapshot() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+        int slot = store.add(courier);
+        Order order = new Order(UUID.randomUUID(), Location.of(9, 9));
+        store.assignOrder(slot, order);
+
+        Courier view = store.toCourier(slot);
+
+        assertEquals(courier, view);
+        assertEquals("John", view.getName());
+        assertEquals(courier.getTransport(), view.getTransport());
+        assertEquals("Car", view.getTransport().getName());
+        assertEquals(Location.of(3, 4), view.getLocation());
+        assertEquals(CourierStatus.BUSY, view.getStatus());
+        assertEquals(order.getId(), view.getOrderId());
+    }
+
+    @Test
+    void assignOrder_BusyCourier_ThrowsIllegalStateException() {
+        int slot = store.add(new Courier("John", "Car", 2, Location.of(3, 4)));
+        store.assignOrder(slot, new Order(UUID.randomUUID(), Location.of(9, 9)));
+
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> store.assignOrder(slot, new Order(UUID.randomUUID(), Location.of(9, 9))));
+        assertEquals("Cannot assign order to a not free courier", exception.getMessage());
+    }
+
+    @Test
+    void assignOrder_NullOrder_ThrowsIllegalArgumentException() {
+        int slot = store.add(new Courier("John", "Car", 2, Location.of(3, 4)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> store.assignOrder(slot, null));
+        assertEquals("Order cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void completeOrder_FreeCourier_ThrowsIllegalStateException() {
+        int slot = store.add(new Courier("John", "Car", 2, Location.of(3, 4)));
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> store.completeOrder(slot));
+        assertEquals("Courier is not busy", exception.getMessage());
+    }
+
+    @Test
+    void moveTo_ValidDestination_MatchesCourierMove() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        int slot = store.add(courier);
+
+        store.moveTo(slot, Location.of(2, 8));
+        courier.moveTo(Location.of(2, 8));
+
+        assertEquals(courier.getLocation(), store.toCourier(slot).getLocation());
+    }
+
+    @Test
+    void moveTo_NullDestination_ThrowsIllegalArgumentException() {
+        int slot = store.add(new Courier("John", "Car", 3, Location.of(1, 1)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> store.moveTo(slot, null));
+        assertEquals("Location cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void advance_BusyCouriers_ReportArrivalsAfterEstimatedTicks() {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(3);
+        int[] expected = new int[500];
+        for (int i = 0; i < expected.length; i++) {
+            Courier courier = new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next());
+            int slot = store.add(courier);
+            Order order = new Order(UUID.randomUUID(), generator.next());
+            store.assignOrder(slot, order);
+            expected[slot] = Math.max(1, courier.estimateTicksTo(order.getLocation()));
+        }
+
+        int[] arrivedAt = new int[expected.length];
+        for (int tick = 1; tick <= 18; tick++) {
+            int current = tick;
+            store.advance(slot -> {
+                arrivedAt[slot] = current;
+                store.completeOrder(slot);
+            });
+        }
+
+        assertArrayEquals(expected, arrivedAt);
+    }
+
+    @Test
+    void findNearestFree_MixedFleet_ReturnsFewestTicks() {
+        int slow = store.add(new Courier("Slow", "Bike", 1, Location.of(1, 4)));
+        int fast = store.add(new Courier("Fast", "Car", 3, Location.of(1, 7)));
+        int busy = store.add(new Courier("Busy", "Car", 3, Location.of(1, 1)));
+        store.assignOrder(busy, new Order(UUID.randomUUID(), Location.of(5, 5)));
+
+        assertEquals(fast, store.findNearestFree(Location.of(1, 1)));
+        assertNotEquals(slow, store.findNearestFree(Location.of(1, 1)));
+    }
+
+    @Test
+    void findNearestFree_NoFreeCourier_ReturnsMinusOne() {
+        assertEquals(-1, store.findNearestFree(Location.of(1, 1)));
+    }
+
+    @Test
+    void remove_MiddleCourier_KeepsOtherCouriersAddressable() {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Courier courier = new Courier("Courier " + i, "Bike", 1, Location.of(i % 10 + 1, i / 10 + 1));
+            couriers.add(courier);
+            store.add(courier);
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            store.remove(couriers.get(i).getId());
+        }
+
+        assertEquals(50, store.size());
+        for (int i = 0; i < 100; i++) {
+            Courier courier = couriers.get(i);
+            if (i % 2 == 0) {
+                assertEquals(-1, store.slotOf(courier.getId()));
+                assertNull(store.get(courier.getId()));
+            } else {
+                assertEquals(courier.getLocation(), store.get(courier.getId()).getLocation());
+            }
+        }
+    }
+
+    @Test
+    void getStatus_SlotOutOfBounds_ThrowsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getStatus(0));
+    }
+}
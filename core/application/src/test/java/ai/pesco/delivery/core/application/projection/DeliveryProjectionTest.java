@@ -0,0 +1,146 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryProjectionTest {
+    private DeliveryProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        projection = new DeliveryProjection();
+    }
+
+    @Test
+    void apply_CourierChangesStatus_MovesBetweenStatusSets() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        projection.apply(courier);
+        assertEquals(1, projection.countCouriers(CourierStatus.FREE));
+
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        courier.moveTo(Location.of(5, 5));
+        projection.apply(courier);
+
+        assertEquals(0, projection.countCouriers(CourierStatus.FREE));
+        assertEquals(List.of(CourierView.from(courier)), projection.findCouriers(CourierStatus.BUSY));
+        assertEquals(Optional.of(Location.of(3, 1)), projection.findCourierLocation(courier.getId()));
+    }
+
+    @Test
+    void apply_OrderLifecycle_TracksEveryStatus() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(2, 2));
+        projection.apply(order);
+        assertEquals(List.of(OrderView.from(order)), projection.findOrders(OrderStatus.CREATED));
+
+        order.assignToCourier(courier);
+        projection.apply(order);
+        order.complete();
+        projection.apply(order);
+
+        assertTrue(projection.findOrders(OrderStatus.CREATED).isEmpty());
+        assertTrue(projection.findOrders(OrderStatus.ASSIGNED).isEmpty());
+        assertEquals(1, projection.countOrders(OrderStatus.COMPLETED));
+        assertEquals(courier.getId(), projection.findOrder(order.getId()).orElseThrow().courierId());
+    }
+
+    @Test
+    void apply_CompletedOrdersBeyondLimit_EvictsOldestCompleted() {
+        DeliveryProjection limited = new DeliveryProjection(2);
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        List<Order> completed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = new Order(UUID.randomUUID(), Location.of(i + 1, 1));
+            order.assignToCourier(courier);
+            order.complete();
+            completed.add(order);
+            limited.apply(order);
+        }
+        Order open = new Order(UUID.randomUUID(), Location.of(5, 5));
+        limited.apply(open);
+        limited.apply(completed.getLast());
+
+        assertEquals(2, limited.countOrders(OrderStatus.COMPLETED));
+        assertTrue(limited.findOrder(completed.getFirst().getId()).isEmpty());
+        assertTrue(limited.findOrder(completed.get(1).getId()).isPresent());
+        assertTrue(limited.findOrder(completed.getLast().getId()).isPresent());
+        assertEquals(List.of(OrderView.from(open)), limited.findOrders(OrderStatus.CREATED));
+    }
+
+    @Test
+    void findCouriers_ReturnedList_IsDetachedFromLaterUpdates() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        projection.apply(courier);
+        List<CourierView> free = projection.findCouriers(CourierStatus.FREE);
+
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        projection.apply(courier);
+
+        assertEquals(CourierStatus.FREE, free.getFirst().status());
+    }
+
+    @Test
+    void findCouriers_ConcurrentStatusChanges_NeverReturnsStaleOrDuplicateViews() throws Exception {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Courier courier = new Courier("Courier " + i, "Bike", 1, Location.of(i % 10 + 1, 1));
+            couriers.add(courier);
+            projection.apply(courier);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (int round = 0; round < 200; round++) {
+                for (Courier courier : couriers) {
+                    if (courier.getStatus() == CourierStatus.FREE) {
+                        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+                    } else {
+                        courier.completeOrder();
+                    }
+                    projection.apply(courier);
+                }
+            }
+            running.set(false);
+        });
+        while (running.get()) {
+            try {
+                Set<UUID> seen = new HashSet<>();
+                for (CourierView view : projection.findCouriers(CourierStatus.BUSY)) {
+                    assertEquals(CourierStatus.BUSY, view.status());
+                    assertTrue(seen.add(view.id()));
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+                break;
+            }
+        }
+        writer.join();
+
+        assertNull(failure.get());
+        assertEquals(200, projection.countCouriers(CourierStatus.FREE));
+        assertEquals(0, projection.countCouriers(CourierStatus.BUSY));
+    }
+
+    @Test
+    void findCouriers_NullStatus_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> projection.findCouriers(null));
+        assertEquals("Status cannot be null", exception.getMessage());
+    }
+}
@@ -0,0 +1,105 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectingCourierRepositoryTest {
+    private StubCourierRepository delegate;
+    private DeliveryProjection projection;
+    private ProjectingCourierRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new StubCourierRepository();
+        projection = new DeliveryProjection();
+        repository = new ProjectingCourierRepository(delegate, projection);
+    }
+
+    @Test
+    void saveAll_SavedCouriers_AppliedToProjection() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+
+        repository.save(courier);
+
+        assertTrue(delegate.couriers.containsKey(courier.getId()));
+        assertEquals(1, repository.countByStatus(CourierStatus.FREE));
+    }
+
+    @Test
+    void saveAll_DelegateFails_LeavesProjectionUntouched() {
+        delegate.failure = new IllegalStateException("Courier was changed concurrently");
+
+        assertThrows(IllegalStateException.class,
+                () -> repository.save(new Courier("John", "Car", 2, Location.of(1, 1))));
+        assertEquals(0, projection.countCouriers(CourierStatus.FREE));
+    }
+
+    @Test
+    void warmUp_StoredCouriers_LoadsProjection() {
+        delegate.saveAll(List.of(new Courier("John", "Car", 2, Location.of(1, 1)),
+                new Courier("Jane", "Car", 2, Location.of(2, 2))));
+
+        repository.warmUp();
+
+        assertEquals(2, projection.findAllCouriers().size());
+    }
+
+    @Test
+    void constructor_NullProjection_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new ProjectingCourierRepository(delegate, null));
+        assertEquals("Projection cannot be null", exception.getMessage());
+    }
+
+    private static final class StubCourierRepository implements CourierRepository {
+        final Map<UUID, Courier> couriers = new LinkedHashMap<>();
+        RuntimeException failure;
+
+        @Override
+        public Optional<Courier> findById(UUID id) {
+            return Optional.ofNullable(couriers.get(id));
+        }
+
+        @Override
+        public List<Courier> findAllById(Collection<UUID> ids) {
+            return ids.stream().map(couriers::get).filter(courier -> courier != null).toList();
+        }
+
+        @Override
+        public List<Courier> findAllFree() {
+            return couriers.values().stream().filter(courier -> courier.getStatus() == CourierStatus.FREE).toList();
+        }
+
+        @Override
+        public long countByStatus(CourierStatus status) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<Courier> streamAll() {
+            return couriers.values().stream();
+        }
+
+        @Override
+        public void saveAll(Collection<Courier> batch) {
+            if (failure != null) {
+                throw failure;
+            }
+            batch.forEach(courier -> couriers.put(courier.getId(), courier));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ai.pesco.delivery.core.application.projection;
+
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectingOrderRepositoryTest {
+    private StubOrderRepository delegate;
+    private DeliveryProjection projection;
+    private ProjectingOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new StubOrderRepository();
+        projection = new DeliveryProjection();
+        repository = new ProjectingOrderRepository(delegate, projection);
+    }
+
+    @Test
+    void warmUp_StoredOrders_LoadsEveryOrderNotCompleted() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order created = new Order(UUID.randomUUID(), Location.of(2, 2));
+        Order assigned = new Order(UUID.randomUUID(), Location.of(3, 3));
+        assigned.assignToCourier(courier);
+        Order completed = new Order(UUID.randomUUID(), Location.of(4, 4));
+        completed.assignToCourier(courier);
+        completed.complete();
+        delegate.saveAll(List.of(created, assigned, completed));
+
+        repository.warmUp();
+
+        assertEquals(1, projection.countOrders(OrderStatus.CREATED));
+        assertEquals(1, projection.countOrders(OrderStatus.ASSIGNED));
+        assertEquals(0, projection.countOrders(OrderStatus.COMPLETED));
+        assertTrue(delegate.streamClosed);
+    }
+
+    @Test
+    void saveAll_SavedOrders_AppliedToProjection() {
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        repository.save(order);
+
+        assertTrue(delegate.orders.containsKey(order.getId()));
+        assertEquals(OrderStatus.CREATED, projection.findOrder(order.getId()).orElseThrow().status());
+    }
+
+    private static final class StubOrderRepository implements OrderRepository {
+        final Map<UUID, Order> orders = new LinkedHashMap<>();
+        boolean streamClosed;
+
+        @Override
+        public Optional<Order> findById(UUID id) {
+            return Optional.ofNullable(orders.get(id));
+        }
+
+        @Override
+        public List<Order> findAllById(Collection<UUID> ids) {
+            return ids.stream().map(orders::get).filter(order -> order != null).toList();
+        }
+
+        @Override
+        public List<Order> findAllCreated() {
+            return orders.values().stream().filter(order -> order.getStatus() == OrderStatus.CREATED).toList();
+        }
+
+        @Override
+        public Stream<Order> streamActive() {
+            return orders.values().stream()
+                    .filter(order -> order.getStatus() != OrderStatus.COMPLETED)
+                    .onClose(() -> streamClosed = true);
+        }
+
+        @Override
+        public void saveAll(Collection<Order> batch) {
+            batch.forEach(order -> orders.put(order.getId(), order));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package ai.pesco.delivery.core.application.routing;
+
+import ai.pesco.delivery.core.application.simulation.TickEngine;
+import ai.pesco.delivery.core.application.simulation.TickResult;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteOptimizerTest {
+    private final RouteOptimizer optimizer = new RouteOptimizer(Duration.ofSeconds(1));
+    private final Map<UUID, Order> orders = new HashMap<>();
+    private final Function<UUID, Location> locations = id -> {
+        Order order = orders.get(id);
+        return order == null ? null : order.getLocation();
+    };
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void findInsertion_OrderOnTheWay_InsertsBetweenStops() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(1, 1));
+        courier.assignOrder(order(Location.of(9, 1)));
+        Courier free = new Courier("Jane", "Bike", 1, Location.of(9, 9));
+
+        RouteInsertion insertion = optimizer.findInsertion(order(Location.of(5, 1)), List.of(courier, free), locations)
+                .orElseThrow();
+
+        assertSame(courier, insertion.courier());
+        assertEquals(0, insertion.position());
+        assertEquals(0, insertion.addedTicks());
+    }
+
+    @Test
+    void findInsertion_NoSpareCapacity_ReturnsEmpty() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(1, 1));
+        courier.addToRoute(order(Location.of(2, 2)), 0);
+        courier.addToRoute(order(Location.of(3, 3)), 1);
+
+        assertTrue(optimizer.findInsertion(order(Location.of(5, 5)), List.of(courier), locations).isEmpty());
+    }
+
+    @Test
+    void assign_BestCourier_AddsOrderToRouteAndAssignsOrder() {
+        Courier near = new Courier("John", "Car", 3, Location.of(2, 2));
+        Courier far = new Courier("Jane", "Car", 3, Location.of(9, 9));
+        Order order = order(Location.of(3, 3));
+
+        Optional<Courier> assigned = optimizer.assign(order, List.of(far, near), locations);
+
+        assertEquals(Optional.of(near), assigned);
+        assertEquals(List.of(order.getId()), near.getRoute());
+        assertEquals(OrderStatus.ASSIGNED, order.getStatus());
+        assertEquals(near.getId(), order.getCourierId());
+    }
+
+    @Test
+    void assign_AssignedOrder_ThrowsAndLeavesCourierUntouched() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(2, 2));
+        Order order = order(Location.of(3, 3));
+        order.assignToCourier(new Courier("Jane", "Car", 3, Location.of(9, 9)));
+
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> optimizer.assign(order, List.of(courier), locations));
+        assertEquals("To be assigned, the order must have the CREATED status", exception.getMessage());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+        assertTrue(courier.getRoute().isEmpty());
+    }
+
+    @Test
+    void assign_NullOrder_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> optimizer.assign(null, List.of(), id -> null));
+        assertEquals("Order cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void improve_CrossingRoute_UncrossesIt() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order far = order(Location.of(9, 9));
+        Order middle = order(Location.of(5, 5));
+        Order near = order(Location.of(2, 2));
+        courier.addToRoute(far, 0);
+        courier.addToRoute(near, 1);
+        courier.addToRoute(middle, 2);
+        int before = RouteOptimizer.routeTicks(courier, locations);
+
+        assertTrue(optimizer.improve(courier, locations));
+
+        assertEquals(List.of(near.getId(), middle.getId(), far.getId()), courier.getRoute());
+        assertTrue(RouteOptimizer.routeTicks(courier, locations) < before);
+        assertFalse(optimizer.improve(courier, locations));
+    }
+
+    @Test
+    void improve_UnknownOrderLocation_ThrowsIllegalStateException() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        courier.addToRoute(new Order(UUID.randomUUID(), Location.of(2, 2)), 0);
+        courier.addToRoute(new Order(UUID.randomUUID(), Location.of(3, 3)), 1);
+
+        assertThrows(IllegalStateException.class, () -> optimizer.improve(courier, locations));
+    }
+
+    @Test
+    void constructor_ZeroBudget_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new RouteOptimizer(Duration.ZERO));
+        assertEquals("Budget must be positive", exception.getMessage());
+    }
+
+    @Test
+    void assign_PeakLoad_NeedsFewerCourierTicksPerOrderThanSingleOrderDispatch() {
+        double single = courierTicksPerOrder(false);
+        double batched = courierTicksPerOrder(true);
+
+        assertTrue(batched < single * 0.75, "single: " + single + ", batched: " + batched);
+    }
+
+    private double courierTicksPerOrder(boolean batched) {
+        orders.clear();
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(5);
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            couriers.add(new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next()));
+        }
+
+        TickEngine engine = new TickEngine(pool, 8);
+        Deque<Order> waiting = new ArrayDeque<>();
+        long courierTicks = 0;
+        int delivered = 0;
+        int created = 0;
+        while (delivered < 600) {
+            for (int i = 0; i < 12 && created < 600; i++, created++) {
+                waiting.add(order(generator.next()));
+            }
+            for (Iterator<Order> iterator = waiting.iterator(); iterator.hasNext(); ) {
+                Order order = iterator.next();
+                if ((batched ? optimizer.assign(order, couriers, locations) : assignNearestFree(order, couriers)).isPresent()) {
+                    iterator.remove();
+                }
+            }
+
+            TickResult result = engine.tick(couriers, orders);
+            courierTicks += result.moved();
+            delivered += result.deliveries().size();
+            assertTrue(result.tick() < 10_000);
+        }
+        return (double) courierTicks / delivered;
+    }
+
+    private static Optional<Courier> assignNearestFree(Order order, List<Courier> couriers) {
+        Optional<Courier> nearest = couriers.stream()
+                .filter(courier -> courier.getStatus() == CourierStatus.FREE)
+                .min(Comparator.comparingInt(courier -> courier.estimateTicksTo(order.getLocation())));
+        nearest.ifPresent(courier -> {
+            order.assignToCourier(courier);
+            courier.assignOrder(order);
+        });
+        return nearest;
+    }
+
+    private Order order(Location location) {
+        Order order = new Order(UUID.randomUUID(), location);
+        orders.put(order.getId(), order);
+        return order;
+    }
+}
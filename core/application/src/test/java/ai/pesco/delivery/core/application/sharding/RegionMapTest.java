@@ -0,0 +1,50 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionMapTest {
+
+    @Test
+    void constructor_ThreeByThree_SplitsGridIntoNearEqualRegions() {
+        RegionMap map = new RegionMap(3, 3);
+
+        assertEquals(9, map.size());
+        assertEquals(new Region(0, 1, 1, 4, 4), map.regions().get(0));
+        assertEquals(new Region(4, 5, 5, 7, 7), map.regions().get(4));
+        assertEquals(new Region(8, 8, 8, 10, 10), map.regions().get(8));
+    }
+
+    @Test
+    void regionOf_EveryCell_ReturnsTheOnlyRegionContainingIt() {
+        for (RegionMap map : List.of(new RegionMap(1, 1), new RegionMap(2, 1), new RegionMap(3, 4),
+                new RegionMap(Location.SIZE, Location.SIZE))) {
+            for (int x = Location.MIN_VALUE; x <= Location.MAX_VALUE; x++) {
+                for (int y = Location.MIN_VALUE; y <= Location.MAX_VALUE; y++) {
+                    Location location = Location.of(x, y);
+                    Region region = map.regionOf(location);
+
+                    assertTrue(region.contains(location));
+                    assertEquals(1, map.regions().stream().filter(r -> r.contains(location)).count());
+                }
+            }
+        }
+    }
+
+    @Test
+    void constructor_MoreColumnsThanCells_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new RegionMap(Location.SIZE + 1, 1));
+        assertEquals("Columns and rows must be between 1 and " + Location.SIZE, exception.getMessage());
+    }
+
+    @Test
+    void regionOf_NullLocation_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new RegionMap(2, 2).regionOf(null));
+        assertEquals("Location cannot be null", exception.getMessage());
+    }
+}
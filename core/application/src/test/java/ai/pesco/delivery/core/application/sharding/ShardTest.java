@@ -0,0 +1,159 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardTest {
+    private final List<Courier> handedOff = new ArrayList<>();
+    private final List<Order> handedOffOrders = new ArrayList<>();
+    private Shard shard;
+
+    @BeforeEach
+    void setUp() {
+        shard = new Shard(new Region(0, 1, 1, 5, 10), (courier, order) -> {
+            handedOff.add(courier);
+            handedOffOrders.add(order);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        shard.close();
+    }
+
+    @Test
+    void submitOrder_FreeCourierInRegion_AssignsNearest() {
+        Courier near = new Courier("Near", "Bike", 1, Location.of(2, 2));
+        Courier far = new Courier("Far", "Bike", 1, Location.of(5, 10));
+        shard.addCourier(near).join();
+        shard.addCourier(far).join();
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
+
+        assertEquals(Optional.of(near), shard.submitOrder(order).join());
+        assertEquals(OrderStatus.ASSIGNED, order.getStatus());
+    }
+
+    @Test
+    void submitOrder_NoFreeCourier_KeepsOrderPendingUntilCourierIsFreed() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        shard.addCourier(courier).join();
+        Order first = new Order(UUID.randomUUID(), Location.of(2, 2));
+        Order second = new Order(UUID.randomUUID(), Location.of(3, 3));
+        shard.submitOrder(first).join();
+
+        assertEquals(Optional.empty(), shard.submitOrder(second).join());
+        assertEquals(List.of(second), shard.pendingOrders().join());
+
+        assertEquals(Optional.of(first), shard.completeOrder(courier.getId()).join());
+        assertEquals(List.of(), shard.pendingOrders().join());
+        assertEquals(second.getId(), courier.getOrderId());
+    }
+
+    @Test
+    void completeOrder_PendingOrderAssigned_RecordsWaitTime() {
+        List<Long> waits = new ArrayList<>();
+        try (Shard measured = new Shard(new Region(1, 1, 1, 5, 5), (courier, order) -> {
+        }, new DispatchMetrics() {
+            @Override
+            public void orderWaited(long nanos) {
+                waits.add(nanos);
+            }
+        })) {
+            Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+            measured.addCourier(courier).join();
+            measured.submitOrder(new Order(UUID.randomUUID(), Location.of(2, 2))).join();
+            measured.submitOrder(new Order(UUID.randomUUID(), Location.of(3, 3))).join();
+            assertEquals(1, measured.couriers().thenApply(couriers -> waits.size()).join());
+
+            measured.completeOrder(courier.getId()).join();
+
+            assertEquals(2, measured.couriers().thenApply(couriers -> waits.size()).join());
+            assertTrue(waits.get(1) >= waits.get(0));
+        }
+    }
+
+    @Test
+    void moveCourier_InsideRegion_KeepsCourier() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        shard.addCourier(courier).join();
+
+        assertEquals(Optional.of(courier), shard.moveCourier(courier.getId(), Location.of(3, 1)).join());
+        assertEquals(List.of(courier), shard.couriers().join());
+        assertTrue(handedOff.isEmpty());
+    }
+
+    @Test
+    void moveCourier_AcrossBorder_HandsOffCourierWithItsOrder() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(4, 1));
+        shard.addCourier(courier).join();
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 1));
+        shard.submitOrder(order).join();
+
+        shard.moveCourier(courier.getId(), Location.of(10, 1)).join();
+
+        assertEquals(Location.of(7, 1), courier.getLocation());
+        assertEquals(List.of(courier), handedOff);
+        assertEquals(List.of(order), handedOffOrders);
+        assertEquals(List.of(), shard.couriers().join());
+    }
+
+    @Test
+    void moveCourier_UnknownCourier_ReturnsEmpty() {
+        assertEquals(Optional.empty(), shard.moveCourier(UUID.randomUUID(), Location.of(1, 1)).join());
+    }
+
+    @Test
+    void accept_HandedOffFreeCourier_TakesPendingOrder() {
+        Order order = new Order(UUID.randomUUID(), Location.of(2, 2));
+        shard.submitOrder(order).join();
+        Courier courier = new Courier("John", "Car", 3, Location.of(5, 5));
+
+        shard.accept(courier, null).join();
+
+        assertEquals(CourierStatus.BUSY, courier.getStatus());
+        assertEquals(order.getId(), courier.getOrderId());
+    }
+
+    @Test
+    void addCourier_OutsideRegion_CompletesExceptionally() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(6, 1));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> shard.addCourier(courier).join());
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("Courier is outside the shard region", exception.getCause().getMessage());
+    }
+
+    @Test
+    void completeOrder_FreeCourier_CompletesExceptionally() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        shard.addCourier(courier).join();
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> shard.completeOrder(courier.getId()).join());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Courier is not busy", exception.getCause().getMessage());
+    }
+
+    @Test
+    void constructor_NullHandoff_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new Shard(new Region(0, 1, 1, 5, 5), null));
+        assertEquals("Handoff cannot be null", exception.getMessage());
+    }
+}
@@ -0,0 +1,129 @@
+package ai.pesco.delivery.core.application.sharding;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedDispatchTest {
+    private ShardedDispatch dispatch;
+    private Region west;
+    private Region east;
+
+    @BeforeEach
+    void setUp() {
+        dispatch = new ShardedDispatch(new RegionMap(2, 1));
+        west = dispatch.getRegionMap().regions().get(0);
+        east = dispatch.getRegionMap().regions().get(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatch.close();
+    }
+
+    @Test
+    void submitOrder_EachRegion_DispatchesToLocalCourierOnly() {
+        Courier westCourier = new Courier("West", "Car", 3, Location.of(5, 5));
+        Courier eastCourier = new Courier("East", "Car", 3, Location.of(10, 10));
+        dispatch.addCourier(westCourier).join();
+        dispatch.addCourier(eastCourier).join();
+
+        Order westOrder = new Order(UUID.randomUUID(), Location.of(1, 1));
+        Order eastOrder = new Order(UUID.randomUUID(), Location.of(6, 5));
+
+        assertEquals(Optional.of(westCourier), dispatch.submitOrder(westOrder).join());
+        assertEquals(Optional.of(eastCourier), dispatch.submitOrder(eastOrder).join());
+    }
+
+    @Test
+    void moveCourier_AcrossBorder_NewShardOwnsCourier() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(4, 1));
+        dispatch.addCourier(courier).join();
+        assertEquals(Optional.of(west), dispatch.regionOfCourier(courier.getId()));
+
+        dispatch.moveCourier(courier.getId(), Location.of(10, 1)).join();
+
+        assertEquals(Optional.of(east), dispatch.regionOfCourier(courier.getId()));
+        assertEquals(List.of(), dispatch.shards().get(0).couriers().join());
+        assertEquals(List.of(courier), dispatch.shards().get(1).couriers().join());
+        Order order = new Order(UUID.randomUUID(), Location.of(9, 1));
+        assertEquals(Optional.of(courier), dispatch.submitOrder(order).join());
+    }
+
+    @Test
+    void moveCourier_BusyCourierAcrossBorder_CompletesOrderInNewShard() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        dispatch.addCourier(courier).join();
+        Order order = new Order(UUID.randomUUID(), Location.of(3, 1));
+        dispatch.submitOrder(order).join();
+
+        dispatch.moveCourier(courier.getId(), Location.of(8, 1)).join();
+        dispatch.moveCourier(courier.getId(), Location.of(8, 1)).join();
+
+        assertEquals(Optional.of(east), dispatch.regionOfCourier(courier.getId()));
+        assertEquals(order, dispatch.completeOrder(courier.getId()).join());
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+    }
+
+    @Test
+    void moveCourier_ConcurrentCrossings_EveryCourierOwnedByExactlyOneShard() {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Courier courier = new Courier("Courier " + i, "Car", 3, Location.of(i % 10 + 1, i / 20 + 1));
+            couriers.add(courier);
+            dispatch.addCourier(courier).join();
+        }
+
+        List<CompletableFuture<Courier>> moves = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (Courier courier : couriers) {
+                Location destination = round % 2 == 0
+                        ? Location.of(Location.MAX_VALUE, courier.getLocation().getY())
+                        : Location.of(Location.MIN_VALUE, courier.getLocation().getY());
+                moves.add(dispatch.moveCourier(courier.getId(), destination));
+            }
+        }
+        CompletableFuture.allOf(moves.toArray(CompletableFuture[]::new)).join();
+
+        List<Courier> owned = new ArrayList<>();
+        for (Shard shard : dispatch.shards()) {
+            for (Courier courier : shard.couriers().join()) {
+                assertTrue(shard.getRegion().contains(courier.getLocation()));
+                assertEquals(Optional.of(shard.getRegion()), dispatch.regionOfCourier(courier.getId()));
+                owned.add(courier);
+            }
+        }
+        assertEquals(couriers.size(), owned.size());
+        assertTrue(owned.containsAll(couriers));
+    }
+
+    @Test
+    void moveCourier_UnknownCourier_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> dispatch.moveCourier(UUID.randomUUID(), Location.of(1, 1)));
+        assertEquals("Courier not found", exception.getMessage());
+    }
+
+    @Test
+    void addCourier_SameCourierTwice_ThrowsIllegalArgumentException() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        dispatch.addCourier(courier).join();
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> dispatch.addCourier(courier));
+        assertEquals("Courier is already registered", exception.getMessage());
+    }
+}
@@ -0,0 +1,200 @@
+package ai.pesco.delivery.core.application.simulation;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierMovedDomainEvent;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderCompletedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.core.domain.model.sharedKernel.RandomLocationGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickEngineTest {
+    private ForkJoinPool pool;
+    private TickEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        engine = new TickEngine(pool, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void tick_BusyCourier_MovesTowardsOrder() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order order = assign(courier, Location.of(5, 1));
+
+        TickResult result = engine.tick(List.of(courier), Map.of(order.getId(), order));
+
+        assertEquals(1, result.tick());
+        assertEquals(1, result.moved());
+        assertTrue(result.deliveries().isEmpty());
+        assertEquals(Location.of(3, 1), courier.getLocation());
+        assertEquals(CourierStatus.BUSY, courier.getStatus());
+    }
+
+    @Test
+    void tick_CourierReachesOrder_CompletesDelivery() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order order = assign(courier, Location.of(2, 2));
+
+        TickResult result = engine.tick(List.of(courier), Map.of(order.getId(), order));
+
+        assertEquals(List.of(new Delivery(courier, order)), result.deliveries());
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+        assertNull(courier.getOrderId());
+    }
+
+    @Test
+    void tick_CourierWithRoute_DeliversOrdersInRouteOrder() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order first = route(courier, Location.of(2, 2));
+        Order second = route(courier, Location.of(5, 2));
+        Map<UUID, Order> orders = Map.of(first.getId(), first, second.getId(), second);
+
+        TickResult firstTick = engine.tick(List.of(courier), orders);
+        assertEquals(List.of(new Delivery(courier, first)), firstTick.deliveries());
+        assertEquals(CourierStatus.BUSY, courier.getStatus());
+        assertEquals(second.getId(), courier.getOrderId());
+
+        TickResult secondTick = engine.tick(List.of(courier), orders);
+        assertEquals(List.of(new Delivery(courier, second)), secondTick.deliveries());
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+    }
+
+    @Test
+    void tick_FreeCourier_StaysInPlace() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(4, 4));
+
+        TickResult result = engine.tick(List.of(courier), Map.of());
+
+        assertEquals(0, result.moved());
+        assertEquals(Location.of(4, 4), courier.getLocation());
+    }
+
+    @Test
+    void tick_LargeFleet_EveryCourierArrivesAfterEstimatedTicks() {
+        RandomLocationGenerator generator = RandomLocationGenerator.seeded(11);
+        List<Courier> couriers = new ArrayList<>();
+        Map<UUID, Order> orders = new HashMap<>();
+        Map<UUID, Integer> expectedTick = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            Courier courier = new Courier("Courier " + i, "Transport", i % 3 + 1, generator.next());
+            Order order = assign(courier, generator.next());
+            couriers.add(courier);
+            orders.put(order.getId(), order);
+            expectedTick.put(order.getId(), Math.max(1, courier.estimateTicksTo(order.getLocation())));
+        }
+
+        int delivered = 0;
+        while (delivered < couriers.size()) {
+            TickResult result = engine.tick(couriers, orders);
+            for (Delivery delivery : result.deliveries()) {
+                assertEquals(expectedTick.get(delivery.order().getId()), (int) result.tick());
+            }
+            delivered += result.deliveries().size();
+            assertTrue(result.tick() <= 18);
+        }
+
+        couriers.forEach(courier -> assertEquals(CourierStatus.FREE, courier.getStatus()));
+        orders.values().forEach(order -> assertEquals(OrderStatus.COMPLETED, order.getStatus()));
+    }
+
+    @Test
+    void tick_WithPublisherAndMetrics_PublishesEventsAndCountsCompletions() {
+        List<DomainEvent> published = new ArrayList<>();
+        List<OrderStatus> transitions = new ArrayList<>();
+        TickEngine publishing = new TickEngine(pool, 64, new DispatchMetrics() {
+            @Override
+            public void orderTransitioned(OrderStatus status) {
+                transitions.add(status);
+            }
+        }, published::add);
+        Courier arriving = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order delivered = assign(arriving, Location.of(2, 2));
+        Courier travelling = new Courier("Jane", "Bike", 1, Location.of(1, 1));
+        Order pending = assign(travelling, Location.of(9, 9));
+        delivered.clearDomainEvents();
+        pending.clearDomainEvents();
+
+        publishing.tick(List.of(arriving, travelling), Map.of(delivered.getId(), delivered, pending.getId(), pending));
+
+        assertEquals(List.of(OrderStatus.COMPLETED), transitions);
+        assertEquals(3, published.size());
+        assertTrue(published.stream().anyMatch(event -> event instanceof OrderCompletedDomainEvent completed
+                && completed.aggregateId().equals(delivered.getId())));
+        assertEquals(2, published.stream().filter(CourierMovedDomainEvent.class::isInstance).count());
+        assertFalse(arriving.hasDomainEvents());
+        assertFalse(travelling.hasDomainEvents());
+        assertFalse(delivered.hasDomainEvents());
+    }
+
+    @Test
+    void tick_NoPublisher_LeavesEventsOnAggregates() {
+        Courier courier = new Courier("John", "Bike", 1, Location.of(1, 1));
+        Order order = assign(courier, Location.of(3, 1));
+        order.clearDomainEvents();
+
+        for (int i = 0; i < 2; i++) {
+            engine.tick(List.of(courier), Map.of(order.getId(), order));
+        }
+
+        assertEquals(1, courier.getDomainEvents().size());
+        assertInstanceOf(CourierMovedDomainEvent.class, courier.getDomainEvents().getFirst());
+        assertEquals(List.of(OrderCompletedDomainEvent.class),
+                order.getDomainEvents().stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    void tick_DiscardEvents_DrainsEventsOfMovedCouriers() {
+        TickEngine discarding = new TickEngine(pool, 64, DispatchMetrics.NOOP, TickEngine.DISCARD_EVENTS);
+        Courier courier = new Courier("John", "Bike", 1, Location.of(1, 1));
+        Order order = assign(courier, Location.of(9, 9));
+
+        for (int i = 0; i < 5; i++) {
+            discarding.tick(List.of(courier), Map.of(order.getId(), order));
+        }
+
+        assertFalse(courier.hasDomainEvents());
+    }
+
+    @Test
+    void constructor_InvalidBatchSize_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new TickEngine(pool, 0));
+        assertEquals("Batch size must be positive", exception.getMessage());
+    }
+
+    private static Order route(Courier courier, Location location) {
+        Order order = new Order(UUID.randomUUID(), location);
+        order.assignToCourier(courier);
+        courier.addToRoute(order, courier.getRouteSize());
+        return order;
+    }
+
+    private static Order assign(Courier courier, Location location) {
+        Order order = new Order(UUID.randomUUID(), location);
+        order.assignToCourier(courier);
+        courier.assignOrder(order);
+        return order;
+    }
+}
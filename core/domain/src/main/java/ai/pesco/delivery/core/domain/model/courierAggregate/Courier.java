@@ -1,21 +1,27 @@
 package ai.pesco.delivery.core.domain.model.courierAggregate;
 
 import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Aggregate;
 import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
-@EqualsAndHashCode(of = "id")
-public class Courier {
+@EqualsAndHashCode(of = "id", callSuper = false)
+public class Courier extends Aggregate {
     private final UUID id;
     private String name;
     private Transport transport;
     private Location location;
     private CourierStatus status;
-    private UUID orderId;
+    private List<UUID> route;
 
     public Courier(String name, String transportName, int transportSpeed, Location location) {
         checkName(name);
@@ -28,23 +34,147 @@ public class Courier {
         status = CourierStatus.FREE;
     }
 
+    private Courier(UUID id, String name, Transport transport, Location location, List<UUID> route) {
+        this.id = id;
+        this.name = name;
+        this.transport = transport;
+        this.location = location;
+        if (route.isEmpty()) {
+            status = CourierStatus.FREE;
+        } else {
+            this.route = new ArrayList<>(route);
+            status = CourierStatus.BUSY;
+        }
+    }
+
+    public static Courier restore(UUID id, String name, Transport transport, Location location,
+                                  CourierStatus status, UUID orderId) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if ((status == CourierStatus.BUSY) != (orderId != null)) {
+            throw new IllegalArgumentException("Only a busy courier has an order");
+        }
+
+        return restore(id, name, transport, location, orderId == null ? List.of() : List.of(orderId));
+    }
+
+    /**
+     * Restores a courier carrying the given orders in delivery order. The courier is BUSY
+     * exactly when the route is not empty.
+     */
+    public static Courier restore(UUID id, String name, Transport transport, Location location, List<UUID> route) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+        if (route == null || route.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Route cannot be null or contain null orders");
+        }
+        if (route.size() > transport.getCapacity()) {
+            throw new IllegalArgumentException("Route exceeds transport capacity");
+        }
+        if (new HashSet<>(route).size() != route.size()) {
+            throw new IllegalArgumentException("Route cannot contain an order twice");
+        }
+
+        return new Courier(id, name, transport, location, route);
+    }
+
+    /**
+     * Orders the courier carries, starting with the one it is heading to.
+     */
+    public List<UUID> getRoute() {
+        return route == null ? List.of() : List.copyOf(route);
+    }
+
+    /**
+     * The order the courier is heading to, or null when it is FREE.
+     */
+    public UUID getOrderId() {
+        return route == null || route.isEmpty() ? null : route.getFirst();
+    }
+
+    public int getRouteSize() {
+        return route == null ? 0 : route.size();
+    }
+
+    public int getFreeCapacity() {
+        return transport.getCapacity() - getRouteSize();
+    }
+
     public void assignOrder(Order order) {
         checkOrder(order);
         if (status != CourierStatus.FREE) {
             throw new IllegalStateException("Cannot assign order to a not free courier");
         }
 
-        orderId = order.getId();
+        route = new ArrayList<>(transport.getCapacity());
+        route.add(order.getId());
+        status = CourierStatus.BUSY;
+    }
+
+    /**
+     * Inserts an order into the route before the stop at {@code position}; position 0
+     * makes it the next order to deliver. A FREE courier becomes BUSY.
+     */
+    public void addToRoute(Order order, int position) {
+        checkOrder(order);
+        int size = getRouteSize();
+        if (position < 0 || position > size) {
+            throw new IllegalArgumentException("Position is outside the route");
+        }
+        if (size >= transport.getCapacity()) {
+            throw new IllegalStateException("Route is full");
+        }
+        if (size > 0 && route.contains(order.getId())) {
+            throw new IllegalStateException("Order is already on the route");
+        }
+
+        if (route == null) {
+            route = new ArrayList<>(transport.getCapacity());
+        }
+        route.add(position, order.getId());
         status = CourierStatus.BUSY;
     }
 
+    /**
+     * Replaces the delivery order of the route with a permutation of the same orders.
+     */
+    public void replanRoute(List<UUID> orderIds) {
+        if (orderIds == null || orderIds.size() != getRouteSize()
+                || orderIds.stream().anyMatch(Objects::isNull) || !new HashSet<>(orderIds).equals(new HashSet<>(getRoute()))) {
+            throw new IllegalArgumentException("Route must contain exactly the assigned orders");
+        }
+        if (route == null) {
+            return;
+        }
+
+        route.clear();
+        route.addAll(orderIds);
+    }
+
+    /**
+     * Completes the order the courier is heading to. The courier stays BUSY while
+     * orders remain on its route.
+     */
     public void completeOrder() {
         if (status != CourierStatus.BUSY) {
             throw new IllegalStateException("Courier is not busy");
         }
 
-        orderId = null;
-        status = CourierStatus.FREE;
+        route.removeFirst();
+        if (route.isEmpty()) {
+            status = CourierStatus.FREE;
+        }
     }
 
     public int estimateStepsTo(Location destination) {
@@ -54,9 +184,24 @@ public class Courier {
         return Math.abs(move.getX()) + Math.abs(move.getY());
     }
 
+    public int estimateTicksTo(Location destination) {
+        checkLocation(destination);
+        return transport.estimateTicks(location, destination);
+    }
+
+    /**
+     * Moves one step towards the destination. Until the events are cleared, consecutive moves
+     * leave a single pending moved event with the latest location, so a courier that keeps
+     * moving without being saved holds one event, not one per move.
+     */
     public void moveTo(Location destination) {
         checkLocation(destination);
-        location = transport.move(location, destination);
+
+        Location moved = transport.move(location, destination);
+        if (!moved.equals(location)) {
+            location = moved;
+            raiseLatest(new CourierMovedDomainEvent(id, location, Instant.now()));
+        }
     }
 
     private void checkName(String name) {
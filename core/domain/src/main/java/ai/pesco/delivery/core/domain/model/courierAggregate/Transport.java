@@ -13,6 +13,7 @@ import static java.lang.Math.clamp;
 public class Transport {
     public static final int MIN_SPEED = 1;
     public static final int MAX_SPEED = 3;
+    public static final int MAX_CAPACITY = MAX_SPEED + 1;
     private final UUID id;
     private String name;
     private final int speed;
@@ -26,6 +27,22 @@ public class Transport {
         this.speed = speed;
     }
 
+    private Transport(UUID id, String name, int speed) {
+        checkName(name);
+        checkSpeed(speed);
+
+        this.id = id;
+        this.name = name;
+        this.speed = speed;
+    }
+
+    public static Transport restore(UUID id, String name, int speed) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        return new Transport(id, name, speed);
+    }
+
     private void checkName(String name) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Name cannot be null or empty");
@@ -37,6 +54,13 @@ public class Transport {
         this.name = name.trim();
     }
 
+    /**
+     * Number of orders a courier can carry at once; faster transports carry more.
+     */
+    public int getCapacity() {
+        return speed + 1;
+    }
+
     private void checkSpeed(int speed) {
         if (speed < MIN_SPEED || speed > MAX_SPEED) {
             throw new IllegalArgumentException("Speed must be between 1 and 3");
@@ -56,6 +80,47 @@ public class Transport {
 
         int moveY = clamp(difY, -cruisingRange, cruisingRange);
 
-        return new Location(current.getX() + moveX, current.getY() + moveY);
+        return Location.of(current.getX() + moveX, current.getY() + moveY);
+    }
+
+    public static int move(int speed, int currentPacked, int targetPacked) {
+        int currentX = Location.unpackX(currentPacked);
+        int currentY = Location.unpackY(currentPacked);
+        var cruisingRange = speed;
+
+        int moveX = clamp(Location.unpackX(targetPacked) - currentX, -cruisingRange, cruisingRange);
+        cruisingRange -= Math.abs(moveX);
+
+        int moveY = clamp(Location.unpackY(targetPacked) - currentY, -cruisingRange, cruisingRange);
+
+        return Location.pack(currentX + moveX, currentY + moveY);
+    }
+
+    public int estimateTicks(Location current, Location target) {
+        if (current == null) throw new IllegalArgumentException("Current location cannot be null");
+        if (target == null) throw new IllegalArgumentException("Target location cannot be null");
+
+        return estimateTicks(target.getX() - current.getX(), target.getY() - current.getY(), speed);
+    }
+
+    public int estimateTicks(int deltaX, int deltaY) {
+        return estimateTicks(deltaX, deltaY, speed);
+    }
+
+    public static int estimateTicks(int deltaX, int deltaY, int speed) {
+        int distance = Math.abs(deltaX) + Math.abs(deltaY);
+        return (distance + speed - 1) / speed;
+    }
+
+    public static void estimateTicks(int[] fromX, int[] fromY, int[] speeds, int toX, int toY, int[] ticks) {
+        int count = ticks.length;
+        if (fromX.length < count || fromY.length < count || speeds.length < count) {
+            throw new IllegalArgumentException("Coordinate and speed arrays must not be shorter than the result array");
+        }
+
+        for (int i = 0; i < count; i++) {
+            int distance = Math.abs(toX - fromX[i]) + Math.abs(toY - fromY[i]);
+            ticks[i] = (distance + speeds[i] - 1) / speeds[i];
+        }
     }
 }
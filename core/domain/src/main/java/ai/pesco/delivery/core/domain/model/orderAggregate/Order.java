@@ -1,15 +1,17 @@
 package ai.pesco.delivery.core.domain.model.orderAggregate;
 
 import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Aggregate;
 import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
-@EqualsAndHashCode(of = "id")
-public class Order {
+@EqualsAndHashCode(of = "id", callSuper = false)
+public class Order extends Aggregate {
     private final UUID id;
     private Location location;
     private OrderStatus status;
@@ -22,6 +24,31 @@ public class Order {
         this.id = id;
         this.location = location;
         status = OrderStatus.CREATED;
+        raise(new OrderCreatedDomainEvent(id, location, Instant.now()));
+    }
+
+    private Order(UUID id, Location location, OrderStatus status, UUID courierId) {
+        this.id = id;
+        this.location = location;
+        this.status = status;
+        this.courierId = courierId;
+    }
+
+    public static Order restore(UUID id, Location location, OrderStatus status, UUID courierId) {
+        if (id == null) {
+            throw new NullPointerException("id is null");
+        }
+        if (location == null) {
+            throw new NullPointerException("location is null");
+        }
+        if (status == null) {
+            throw new NullPointerException("status is null");
+        }
+        if ((status == OrderStatus.CREATED) != (courierId == null)) {
+            throw new IllegalArgumentException("Only an assigned or completed order has a courier");
+        }
+
+        return new Order(id, location, status, courierId);
     }
 
     public void assignToCourier(Courier courier) {
@@ -32,11 +59,13 @@ public class Order {
 
         courierId = courier.getId();
         status = OrderStatus.ASSIGNED;
+        raise(new OrderAssignedDomainEvent(id, courierId, Instant.now()));
     }
 
     public void relocate(Location location) {
         checkLocation(location);
         this.location = location;
+        raise(new OrderRelocatedDomainEvent(id, location, Instant.now()));
     }
 
     public void complete() {
@@ -44,6 +73,7 @@ public class Order {
             throw new IllegalStateException("Only assigned orders can be completed");
         }
         status = OrderStatus.COMPLETED;
+        raise(new OrderCompletedDomainEvent(id, courierId, Instant.now()));
     }
 
     private void checkId(UUID id) {
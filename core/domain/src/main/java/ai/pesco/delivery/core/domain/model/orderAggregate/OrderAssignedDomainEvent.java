@@ -0,0 +1,9 @@
+package ai.pesco.delivery.core.domain.model.orderAggregate;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OrderAssignedDomainEvent(UUID aggregateId, UUID courierId, Instant occurredAt) implements DomainEvent {
+}
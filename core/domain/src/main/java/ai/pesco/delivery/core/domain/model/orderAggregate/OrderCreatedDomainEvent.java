@@ -0,0 +1,10 @@
+package ai.pesco.delivery.core.domain.model.orderAggregate;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OrderCreatedDomainEvent(UUID aggregateId, Location location, Instant occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,89 @@
+package ai.pesco.delivery.core.domain.model.sharedKernel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base for aggregates that record domain events. Events are kept until they are cleared,
+ * normally by the repository that persists them to the outbox. The aggregate also carries the
+ * version of the stored state it was loaded from or last saved as, which repositories use for
+ * optimistic locking; an aggregate that was never stored has no version.
+ */
+public abstract class Aggregate {
+    public static final long NO_VERSION = -1;
+
+    private List<DomainEvent> domainEvents;
+    private long version = NO_VERSION;
+
+    protected void raise(DomainEvent event) {
+        if (domainEvents == null) {
+            domainEvents = new ArrayList<>(2);
+        }
+        domainEvents.add(event);
+    }
+
+    /**
+     * Raises an event that supersedes a pending event of the same type when that one is the last
+     * raised, so aggregates that change often hold one pending event for the latest state.
+     */
+    protected void raiseLatest(DomainEvent event) {
+        if (domainEvents != null && !domainEvents.isEmpty() && domainEvents.getLast().getClass() == event.getClass()) {
+            domainEvents.set(domainEvents.size() - 1, event);
+        } else {
+            raise(event);
+        }
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return domainEvents == null ? List.of() : List.copyOf(domainEvents);
+    }
+
+    public boolean hasDomainEvents() {
+        return domainEvents != null && !domainEvents.isEmpty();
+    }
+
+    /**
+     * Moves the pending events of {@code source}, another instance of the same aggregate, in
+     * front of the events of this instance, so that saving this instance also persists them.
+     * The source is left without events.
+     */
+    public void takeDomainEventsFrom(Aggregate source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        if (source == this || !source.hasDomainEvents()) {
+            return;
+        }
+
+        List<DomainEvent> merged = new ArrayList<>(source.domainEvents);
+        if (hasDomainEvents()) {
+            merged.addAll(domainEvents);
+        }
+        domainEvents = merged;
+        source.domainEvents.clear();
+    }
+
+    public void clearDomainEvents() {
+        if (domainEvents != null) {
+            domainEvents.clear();
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isNew() {
+        return version == NO_VERSION;
+    }
+
+    /**
+     * Records the stored version of this instance; called by repositories after a load or a save.
+     */
+    public void setVersion(long version) {
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative");
+        }
+        this.version = version;
+    }
+}
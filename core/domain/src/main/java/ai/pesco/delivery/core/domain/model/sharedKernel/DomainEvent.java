@@ -0,0 +1,11 @@
+package ai.pesco.delivery.core.domain.model.sharedKernel;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface DomainEvent {
+
+    UUID aggregateId();
+
+    Instant occurredAt();
+}
@@ -1,38 +1,86 @@
 package ai.pesco.delivery.core.domain.model.sharedKernel;
 
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * A cell of the square city grid. The grid spans {@code 1..MAX_VALUE} on both axes, where
+ * {@code MAX_VALUE} is read once from the {@value #GRID_SIZE_PROPERTY} system property
+ * (10 by default). Grids of up to about a million cells share one instance per cell, created
+ * on first use; use {@link #of} or {@link #unpack} to obtain one.
+ */
 @Getter
-@EqualsAndHashCode
 public class Location {
-    private static final int MIN_VALUE = 1;
-    private static final int MAX_VALUE = 10;
+    public static final String GRID_SIZE_PROPERTY = "delivery.grid.size";
+    public static final int MIN_VALUE = 1;
+    public static final int MAX_VALUE = gridSize();
+    public static final int SIZE = MAX_VALUE - MIN_VALUE + 1;
+    public static final int COUNT = SIZE * SIZE;
 
-    private int x;
-    private int y;
+    private static final int CACHE_LIMIT = 1 << 20;
+    private static final AtomicReferenceArray<Location> CACHE =
+            COUNT <= CACHE_LIMIT ? new AtomicReferenceArray<>(COUNT) : null;
 
-    private Location() {
-    }
+    private final int x;
+    private final int y;
 
-    public Location(int x, int y) {
-        setX(x);
-        setY(y);
+    private Location(int x, int y) {
+        this.x = x;
+        this.y = y;
     }
 
-    private void setX(int x) {
+    public static Location of(int x, int y) {
         checkBoundaryConditions(x);
-        this.x = x;
+        checkBoundaryConditions(y);
+        return CACHE != null ? cached(pack(x, y)) : new Location(x, y);
     }
 
-    private void setY(int y) {
-        checkBoundaryConditions(y);
-        this.y = y;
+    public static Location unpack(int packed) {
+        if (packed < 0 || packed >= COUNT) {
+            throw new IllegalArgumentException("Packed location must be between 0 and " + (COUNT - 1));
+        }
+        return CACHE != null ? cached(packed) : new Location(unpackX(packed), unpackY(packed));
+    }
+
+    /**
+     * Packs valid coordinates into a dense index in [0, COUNT); the coordinates are not checked.
+     */
+    public static int pack(int x, int y) {
+        return (x - MIN_VALUE) * SIZE + (y - MIN_VALUE);
+    }
+
+    public static int unpackX(int packed) {
+        return packed / SIZE + MIN_VALUE;
+    }
+
+    public static int unpackY(int packed) {
+        return packed % SIZE + MIN_VALUE;
     }
 
-    private void checkBoundaryConditions(int value) {
+    public int pack() {
+        return pack(x, y);
+    }
+
+    private static Location cached(int packed) {
+        Location location = CACHE.getPlain(packed);
+        if (location != null) {
+            return location;
+        }
+        Location created = new Location(unpackX(packed), unpackY(packed));
+        Location witness = CACHE.compareAndExchange(packed, null, created);
+        return witness == null ? created : witness;
+    }
+
+    private static int gridSize() {
+        int size = Integer.getInteger(GRID_SIZE_PROPERTY, 10);
+        if (size < 1 || size > 46_340) {
+            throw new IllegalStateException(GRID_SIZE_PROPERTY + " must be between 1 and 46340");
+        }
+        return size;
+    }
+
+    private static void checkBoundaryConditions(int value) {
         if (value < MIN_VALUE) {
             throw new IllegalArgumentException("Value must be greater than or equal to " + MIN_VALUE);
         }
@@ -46,9 +94,22 @@ public class Location {
     }
 
     public static Location random() {
-        Random random = new Random();
-        int x = random.nextInt(MAX_VALUE - MIN_VALUE + 1) + MIN_VALUE;
-        int y = random.nextInt(MAX_VALUE - MIN_VALUE + 1) + MIN_VALUE;
-        return new Location(x, y);
+        return RandomLocationGenerator.threadLocal().next();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Location other)) {
+            return false;
+        }
+        return x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return pack();
     }
 }
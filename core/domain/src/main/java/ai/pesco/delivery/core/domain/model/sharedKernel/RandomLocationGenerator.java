@@ -0,0 +1,74 @@
+package ai.pesco.delivery.core.domain.model.sharedKernel;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Uniform random locations for order generation.
+ * The shared {@link #threadLocal()} instance is contention-free and safe to use from any thread.
+ * {@link #seeded(long)} instances are deterministic and must be confined to one thread;
+ * use {@link #split()} to hand out independent reproducible streams to workers.
+ */
+public final class RandomLocationGenerator {
+    private static final RandomLocationGenerator THREAD_LOCAL = new RandomLocationGenerator(null);
+
+    private final SplittableRandom random;
+
+    private RandomLocationGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public static RandomLocationGenerator threadLocal() {
+        return THREAD_LOCAL;
+    }
+
+    public static RandomLocationGenerator seeded(long seed) {
+        return new RandomLocationGenerator(new SplittableRandom(seed));
+    }
+
+    public boolean isSeeded() {
+        return random != null;
+    }
+
+    public RandomLocationGenerator split() {
+        if (random == null) {
+            return this;
+        }
+        return new RandomLocationGenerator(random.split());
+    }
+
+    public Location next() {
+        return Location.unpack(nextPacked());
+    }
+
+    public int nextPacked() {
+        return random == null ? ThreadLocalRandom.current().nextInt(Location.COUNT) : random.nextInt(Location.COUNT);
+    }
+
+    public void fill(int[] packed) {
+        if (packed == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        fill(packed, 0, packed.length);
+    }
+
+    public void fill(int[] packed, int offset, int length) {
+        if (packed == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset + length > packed.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") is out of buffer bounds");
+        }
+
+        if (random == null) {
+            ThreadLocalRandom current = ThreadLocalRandom.current();
+            for (int i = offset; i < offset + length; i++) {
+                packed[i] = current.nextInt(Location.COUNT);
+            }
+        } else {
+            for (int i = offset; i < offset + length; i++) {
+                packed[i] = random.nextInt(Location.COUNT);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ai.pesco.delivery.core.domain.model.courierAggregate;
 
 import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
 import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,7 +20,7 @@ class CourierTest {
     private final String validName = "John";
     private final String validTransportName = "Car";
     private final int validTransportSpeed = 2;
-    private final Location validLocation = new Location(1, 1);
+    private final Location validLocation = Location.of(1, 1);
 
     @BeforeEach
     void setUp() {
@@ -68,7 +71,7 @@ class CourierTest {
 
     @Test
     void assignOrder_ValidOrder_AssignsCorrectly() {
-        Order order = new Order(UUID.randomUUID(), new Location(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
         courier.assignOrder(order);
 
         assertEquals(order.getId(), courier.getOrderId());
@@ -83,7 +86,7 @@ class CourierTest {
 
     @Test
     void assignOrder_NonFreeCourier_ThrowsIllegalStateException() {
-        Order order = new Order(UUID.randomUUID(), new Location(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
         courier.assignOrder(order); // Sets status to BUSY
         Exception exception = assertThrows(IllegalStateException.class, () -> courier.assignOrder(order));
         assertEquals("Cannot assign order to a not free courier", exception.getMessage());
@@ -91,7 +94,7 @@ class CourierTest {
 
     @Test
     void completeOrder_BusyCourier_CompletesOrder() {
-        Order order = new Order(UUID.randomUUID(), new Location(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(1, 1));
         courier.assignOrder(order);
         courier.completeOrder();
 
@@ -107,7 +110,7 @@ class CourierTest {
 
     @Test
     void estimateStepsTo_ValidDestination_ReturnsCorrectSteps() {
-        Location destination = new Location(2, 1);
+        Location destination = Location.of(2, 1);
         int steps = courier.estimateStepsTo(destination);
         assertEquals(3, steps); // Move to (2,1) takes 3 steps (speed = 2)
     }
@@ -118,9 +121,21 @@ class CourierTest {
         assertEquals("Location cannot be null", exception.getMessage());
     }
 
+    @Test
+    void estimateTicksTo_ValidDestination_ReturnsTicksToArrive() {
+        Location destination = Location.of(4, 3);
+        assertEquals(3, courier.estimateTicksTo(destination)); // 5 cells at speed 2
+    }
+
+    @Test
+    void estimateTicksTo_NullDestination_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> courier.estimateTicksTo(null));
+        assertEquals("Location cannot be null", exception.getMessage());
+    }
+
     @Test
     void moveTo_ValidDestination_UpdatesLocation() {
-        Location destination = new Location(1, 1);
+        Location destination = Location.of(1, 1);
         courier.moveTo(destination);
         Location newLocation = courier.getLocation();
 
@@ -128,21 +143,206 @@ class CourierTest {
         assertEquals(1, newLocation.getY());
     }
 
+    @Test
+    void moveTo_NewLocation_RaisesMovedEvent() {
+        courier.moveTo(Location.of(5, 1));
+
+        assertEquals(1, courier.getDomainEvents().size());
+        CourierMovedDomainEvent event = assertInstanceOf(CourierMovedDomainEvent.class, courier.getDomainEvents().getFirst());
+        assertEquals(courier.getId(), event.aggregateId());
+        assertEquals(Location.of(3, 1), event.location());
+    }
+
+    @Test
+    void moveTo_RepeatedMoves_KeepsOnlyLatestMovedEvent() {
+        for (int i = 0; i < 100; i++) {
+            courier.moveTo(Location.of(i % 2 == 0 ? 10 : 1, 1));
+        }
+
+        assertEquals(1, courier.getDomainEvents().size());
+        CourierMovedDomainEvent event = assertInstanceOf(CourierMovedDomainEvent.class, courier.getDomainEvents().getFirst());
+        assertEquals(courier.getLocation(), event.location());
+    }
+
+    @Test
+    void takeDomainEventsFrom_OtherInstance_PutsItsEventsFirstAndClearsIt() {
+        Courier earlier = Courier.restore(courier.getId(), courier.getName(), courier.getTransport(),
+                courier.getLocation(), List.of());
+        earlier.moveTo(Location.of(10, 1));
+        courier.moveTo(Location.of(1, 10));
+        List<DomainEvent> expected = new ArrayList<>(earlier.getDomainEvents());
+        expected.addAll(courier.getDomainEvents());
+
+        courier.takeDomainEventsFrom(earlier);
+
+        assertEquals(expected, courier.getDomainEvents());
+        assertFalse(earlier.hasDomainEvents());
+    }
+
+    @Test
+    void moveTo_CurrentLocation_RaisesNoEvent() {
+        courier.moveTo(validLocation);
+
+        assertFalse(courier.hasDomainEvents());
+    }
+
     @Test
     void moveTo_NullDestination_ThrowsIllegalArgumentException() {
         Exception exception = assertThrows(IllegalArgumentException.class, () -> courier.moveTo(null));
         assertEquals("Location cannot be null", exception.getMessage());
     }
 
+    @Test
+    void addToRoute_FreeCourier_BecomesBusyWithOrder() {
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+
+        courier.addToRoute(order, 0);
+
+        assertEquals(CourierStatus.BUSY, courier.getStatus());
+        assertEquals(order.getId(), courier.getOrderId());
+        assertEquals(List.of(order.getId()), courier.getRoute());
+    }
+
+    @Test
+    void addToRoute_AtFront_ChangesCurrentOrder() {
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        Order second = new Order(UUID.randomUUID(), Location.of(2, 2));
+        courier.assignOrder(first);
+
+        courier.addToRoute(second, 0);
+
+        assertEquals(second.getId(), courier.getOrderId());
+        assertEquals(List.of(second.getId(), first.getId()), courier.getRoute());
+        assertEquals(1, courier.getFreeCapacity());
+    }
+
+    @Test
+    void addToRoute_FullRoute_ThrowsIllegalStateException() {
+        for (int i = 0; i < courier.getTransport().getCapacity(); i++) {
+            courier.addToRoute(new Order(UUID.randomUUID(), Location.of(5, 5)), i);
+        }
+
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> courier.addToRoute(new Order(UUID.randomUUID(), Location.of(5, 5)), 0));
+        assertEquals("Route is full", exception.getMessage());
+    }
+
+    @Test
+    void addToRoute_SameOrderTwice_ThrowsIllegalStateException() {
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        courier.addToRoute(order, 0);
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> courier.addToRoute(order, 1));
+        assertEquals("Order is already on the route", exception.getMessage());
+    }
+
+    @Test
+    void addToRoute_PositionOutsideRoute_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> courier.addToRoute(new Order(UUID.randomUUID(), Location.of(5, 5)), 1));
+        assertEquals("Position is outside the route", exception.getMessage());
+    }
+
+    @Test
+    void completeOrder_RouteWithSeveralOrders_MovesToNextOrder() {
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        Order second = new Order(UUID.randomUUID(), Location.of(2, 2));
+        courier.addToRoute(first, 0);
+        courier.addToRoute(second, 1);
+
+        courier.completeOrder();
+
+        assertEquals(CourierStatus.BUSY, courier.getStatus());
+        assertEquals(second.getId(), courier.getOrderId());
+        courier.completeOrder();
+        assertEquals(CourierStatus.FREE, courier.getStatus());
+        assertTrue(courier.getRoute().isEmpty());
+    }
+
+    @Test
+    void replanRoute_Permutation_ReordersRoute() {
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        Order second = new Order(UUID.randomUUID(), Location.of(2, 2));
+        courier.addToRoute(first, 0);
+        courier.addToRoute(second, 1);
+
+        courier.replanRoute(List.of(second.getId(), first.getId()));
+
+        assertEquals(List.of(second.getId(), first.getId()), courier.getRoute());
+        assertEquals(second.getId(), courier.getOrderId());
+    }
+
+    @Test
+    void replanRoute_DifferentOrders_ThrowsIllegalArgumentException() {
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> courier.replanRoute(List.of(UUID.randomUUID())));
+        assertEquals("Route must contain exactly the assigned orders", exception.getMessage());
+    }
+
+    @Test
+    void restore_Route_RestoresBusyCourierHeadingToFirstOrder() {
+        List<UUID> route = List.of(UUID.randomUUID(), UUID.randomUUID());
+        Transport transport = Transport.restore(UUID.randomUUID(), "Car", 2);
+
+        Courier restored = Courier.restore(UUID.randomUUID(), "John", transport, Location.of(4, 5), route);
+
+        assertEquals(CourierStatus.BUSY, restored.getStatus());
+        assertEquals(route.getFirst(), restored.getOrderId());
+        assertEquals(route, restored.getRoute());
+    }
+
+    @Test
+    void restore_RouteOverCapacity_ThrowsIllegalArgumentException() {
+        Transport transport = new Transport("Bike", 1);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Courier.restore(
+                UUID.randomUUID(), "John", transport, validLocation,
+                List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID())));
+        assertEquals("Route exceeds transport capacity", exception.getMessage());
+    }
+
+    @Test
+    void restore_BusyCourier_RestoresAllFields() {
+        UUID id = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
+        Transport transport = Transport.restore(UUID.randomUUID(), "Car", 2);
+
+        Courier restored = Courier.restore(id, "John", transport, Location.of(4, 5), CourierStatus.BUSY, orderId);
+
+        assertEquals(id, restored.getId());
+        assertEquals("John", restored.getName());
+        assertEquals(transport, restored.getTransport());
+        assertEquals(Location.of(4, 5), restored.getLocation());
+        assertEquals(CourierStatus.BUSY, restored.getStatus());
+        assertEquals(orderId, restored.getOrderId());
+    }
+
+    @Test
+    void restore_FreeCourierWithOrder_ThrowsIllegalArgumentException() {
+        Transport transport = new Transport("Car", 2);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Courier.restore(
+                UUID.randomUUID(), "John", transport, validLocation, CourierStatus.FREE, UUID.randomUUID()));
+        assertEquals("Only a busy courier has an order", exception.getMessage());
+    }
+
+    @Test
+    void restore_NullId_ThrowsIllegalArgumentException() {
+        Transport transport = new Transport("Car", 2);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Courier.restore(
+                null, "John", transport, validLocation, CourierStatus.FREE, null));
+        assertEquals("Id cannot be null", exception.getMessage());
+    }
+
     @Test
     void equals_SameId_ReturnsTrue() {
-        Courier courier1 = new Courier("John", "Car", 2, new Location(2, 2)) {
+        Courier courier1 = new Courier("John", "Car", 2, Location.of(2, 2)) {
             @Override
             public UUID getId() {
                 return UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
             }
         };
-        Courier courier2 = new Courier("Jane", "Bike", 3, new Location(1, 1)) {
+        Courier courier2 = new Courier("Jane", "Bike", 3, Location.of(1, 1)) {
             @Override
             public UUID getId() {
                 return UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
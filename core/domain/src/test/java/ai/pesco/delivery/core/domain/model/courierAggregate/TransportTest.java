@@ -28,6 +28,13 @@ class TransportTest {
         assertEquals(validSpeed, transport.getSpeed());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void getCapacity_AnySpeed_GrowsWithSpeed(int speed) {
+        assertEquals(speed + 1, new Transport(validName, speed).getCapacity());
+        assertTrue(new Transport(validName, speed).getCapacity() <= Transport.MAX_CAPACITY);
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @ValueSource(strings = {" ", "\t", "\n"})
@@ -60,22 +67,22 @@ class TransportTest {
 
     @Test
     void move_NullCurrentLocation_ThrowsIllegalArgumentException() {
-        Location target = new Location(10, 10);
+        Location target = Location.of(10, 10);
         Exception exception = assertThrows(IllegalArgumentException.class, () -> transport.move(null, target));
         assertEquals("Current location cannot be null", exception.getMessage());
     }
 
     @Test
     void move_NullTargetLocation_ThrowsIllegalArgumentException() {
-        Location current = new Location(1, 1);
+        Location current = Location.of(1, 1);
         Exception exception = assertThrows(IllegalArgumentException.class, () -> transport.move(current, null));
         assertEquals("Target location cannot be null", exception.getMessage());
     }
 
     @Test
     void move_WithinSpeedRange_ReturnsNewLocation() {
-        Location current = new Location(1, 1);
-        Location target = new Location(2, 3);
+        Location current = Location.of(1, 1);
+        Location target = Location.of(2, 3);
         Location newLocation = transport.move(current, target);
 
         assertEquals(2, newLocation.getX());
@@ -84,14 +91,106 @@ class TransportTest {
 
     @Test
     void move_ExceedsSpeedRange_ClampsMovement() {
-        Location current = new Location(1, 1);
-        Location target = new Location(5, 5);
+        Location current = Location.of(1, 1);
+        Location target = Location.of(5, 5);
         Location newLocation = transport.move(current, target);
 
         assertEquals(3, newLocation.getX()); // Clamped to speed (2)
         assertEquals(1, newLocation.getY()); // No range left after moving X
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void move_PackedLocations_MatchesLocationMove(int speed) {
+        Transport transport = new Transport("Transport", speed);
+        for (int from = 0; from < Location.COUNT; from++) {
+            for (int to = 0; to < Location.COUNT; to++) {
+                Location expected = transport.move(Location.unpack(from), Location.unpack(to));
+                assertEquals(expected.pack(), Transport.move(speed, from, to));
+            }
+        }
+    }
+
+    @Test
+    void restore_ValidParameters_KeepsId() {
+        UUID id = UUID.randomUUID();
+        Transport restored = Transport.restore(id, "Bike", 1);
+
+        assertEquals(id, restored.getId());
+        assertEquals("Bike", restored.getName());
+        assertEquals(1, restored.getSpeed());
+    }
+
+    @Test
+    void restore_NullId_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Transport.restore(null, "Bike", 1));
+        assertEquals("Id cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void estimateTicks_NullCurrentLocation_ThrowsIllegalArgumentException() {
+        Location target = Location.of(10, 10);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> transport.estimateTicks(null, target));
+        assertEquals("Current location cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void estimateTicks_NullTargetLocation_ThrowsIllegalArgumentException() {
+        Location current = Location.of(1, 1);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> transport.estimateTicks(current, null));
+        assertEquals("Target location cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void estimateTicks_SameLocation_ReturnsZero() {
+        Location location = Location.of(4, 4);
+        assertEquals(0, transport.estimateTicks(location, location));
+    }
+
+    @Test
+    void estimateTicks_UnevenDistance_RoundsUp() {
+        assertEquals(4, transport.estimateTicks(Location.of(1, 1), Location.of(5, 4))); // 7 cells at speed 2
+        assertEquals(4, transport.estimateTicks(-3, 4));
+        assertEquals(3, Transport.estimateTicks(5, -4, 3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void estimateTicks_AllLocations_MatchesStepByStepMove(int speed) {
+        Transport transport = new Transport("Transport", speed);
+        for (int from = 0; from < 100; from++) {
+            for (int to = 0; to < 100; to++) {
+                Location current = Location.of(from / 10 + 1, from % 10 + 1);
+                Location target = Location.of(to / 10 + 1, to % 10 + 1);
+
+                int ticks = 0;
+                for (Location location = current; !location.equals(target); location = transport.move(location, target)) {
+                    ticks++;
+                }
+                assertEquals(ticks, transport.estimateTicks(current, target));
+            }
+        }
+    }
+
+    @Test
+    void estimateTicks_Bulk_FillsResultForEveryCourier() {
+        int[] fromX = {1, 10, 5, 3};
+        int[] fromY = {1, 10, 5, 7};
+        int[] speeds = {1, 2, 3, 2};
+        int[] ticks = new int[4];
+
+        Transport.estimateTicks(fromX, fromY, speeds, 5, 5, ticks);
+
+        assertArrayEquals(new int[]{8, 5, 0, 2}, ticks);
+    }
+
+    @Test
+    void estimateTicks_BulkWithShortInput_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                Transport.estimateTicks(new int[1], new int[2], new int[2], 5, 5, new int[2]));
+        assertEquals("Coordinate and speed arrays must not be shorter than the result array", exception.getMessage());
+    }
+
     @Test
     void equals_SameId_ReturnsTrue() {
         Transport transport1 = new Transport("Car", 2) {
@@ -17,7 +17,7 @@ class OrderTest {
     @BeforeEach
     void setUp() {
         validId = UUID.randomUUID();
-        validLocation = new Location(1, 1);
+        validLocation = Location.of(1, 1);
         order = new Order(validId, validLocation);
     }
 
@@ -43,7 +43,7 @@ class OrderTest {
 
     @Test
     void assignToCourier_ValidCourier_AssignsCorrectly() {
-        Courier courier = new Courier("John", "Car", 2, new Location(1, 1));
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
         order.assignToCourier(courier);
 
         assertEquals(courier.getId(), order.getCourierId());
@@ -58,7 +58,7 @@ class OrderTest {
 
     @Test
     void assignToCourier_NonCreatedStatus_ThrowsIllegalArgumentException() {
-        Courier courier = new Courier("John", "Car", 2, new Location(1, 1));
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
         order.assignToCourier(courier); // Sets status to ASSIGNED
         Exception exception = assertThrows(IllegalArgumentException.class, () -> order.assignToCourier(courier));
         assertEquals("To be assigned, the order must have the CREATED status", exception.getMessage());
@@ -66,7 +66,7 @@ class OrderTest {
 
     @Test
     void relocate_ValidLocation_UpdatesLocation() {
-        Location newLocation = new Location(10, 10);
+        Location newLocation = Location.of(10, 10);
         order.relocate(newLocation);
         assertEquals(newLocation, order.getLocation());
     }
@@ -79,7 +79,7 @@ class OrderTest {
 
     @Test
     void complete_AssignedOrder_CompletesOrder() {
-        Courier courier = new Courier("John", "Car", 2, new Location(1, 1));
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
         order.assignToCourier(courier);
         order.complete();
         assertEquals(OrderStatus.COMPLETED, order.getStatus());
@@ -91,10 +91,84 @@ class OrderTest {
         assertEquals("Only assigned orders can be completed", exception.getMessage());
     }
 
+    @Test
+    void constructor_ValidParameters_RaisesCreatedEvent() {
+        assertEquals(1, order.getDomainEvents().size());
+        OrderCreatedDomainEvent event = assertInstanceOf(OrderCreatedDomainEvent.class, order.getDomainEvents().getFirst());
+        assertEquals(validId, event.aggregateId());
+        assertEquals(validLocation, event.location());
+        assertNotNull(event.occurredAt());
+    }
+
+    @Test
+    void assignToCourier_ValidCourier_RaisesAssignedEvent() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        order.clearDomainEvents();
+        order.assignToCourier(courier);
+
+        OrderAssignedDomainEvent event = assertInstanceOf(OrderAssignedDomainEvent.class, order.getDomainEvents().getFirst());
+        assertEquals(validId, event.aggregateId());
+        assertEquals(courier.getId(), event.courierId());
+    }
+
+    @Test
+    void relocate_ValidLocation_RaisesRelocatedEvent() {
+        order.clearDomainEvents();
+        order.relocate(Location.of(4, 4));
+
+        OrderRelocatedDomainEvent event = assertInstanceOf(OrderRelocatedDomainEvent.class, order.getDomainEvents().getFirst());
+        assertEquals(Location.of(4, 4), event.location());
+    }
+
+    @Test
+    void complete_AssignedOrder_RaisesCompletedEvent() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        order.assignToCourier(courier);
+        order.complete();
+
+        assertEquals(3, order.getDomainEvents().size());
+        OrderCompletedDomainEvent event = assertInstanceOf(OrderCompletedDomainEvent.class, order.getDomainEvents().getLast());
+        assertEquals(courier.getId(), event.courierId());
+    }
+
+    @Test
+    void clearDomainEvents_RaisedEvents_RemovesAll() {
+        order.clearDomainEvents();
+
+        assertFalse(order.hasDomainEvents());
+        assertTrue(order.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    void restore_AssignedOrder_RestoresAllFields() {
+        UUID courierId = UUID.randomUUID();
+        Order restored = Order.restore(validId, validLocation, OrderStatus.ASSIGNED, courierId);
+
+        assertEquals(validId, restored.getId());
+        assertEquals(validLocation, restored.getLocation());
+        assertEquals(OrderStatus.ASSIGNED, restored.getStatus());
+        assertEquals(courierId, restored.getCourierId());
+        assertFalse(restored.hasDomainEvents());
+    }
+
+    @Test
+    void restore_CreatedOrderWithCourier_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> Order.restore(validId, validLocation, OrderStatus.CREATED, UUID.randomUUID()));
+        assertEquals("Only an assigned or completed order has a courier", exception.getMessage());
+    }
+
+    @Test
+    void restore_NullStatus_ThrowsNullPointerException() {
+        Exception exception = assertThrows(NullPointerException.class,
+                () -> Order.restore(validId, validLocation, null, null));
+        assertEquals("status is null", exception.getMessage());
+    }
+
     @Test
     void equals_SameId_ReturnsTrue() {
-        Order order1 = new Order(validId, new Location(1, 1));
-        Order order2 = new Order(validId, new Location(5, 2));
+        Order order1 = new Order(validId, Location.of(1, 1));
+        Order order2 = new Order(validId, Location.of(5, 2));
         assertEquals(order1, order2);
     }
 
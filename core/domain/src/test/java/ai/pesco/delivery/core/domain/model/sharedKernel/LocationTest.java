@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,39 +13,46 @@ public class LocationTest {
 
     @Test
     void shouldExceptionWhenCreateLocationWithZeroValues() {
-        assertThrows(IllegalArgumentException.class, () -> new Location(0, 0));
-        assertThrows(IllegalArgumentException.class, () -> new Location(0, 1));
-        assertThrows(IllegalArgumentException.class, () -> new Location(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Location.of(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Location.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Location.of(1, 0));
+    }
+
+    @Test
+    void shouldReadGridSizeFromSystemProperty() {
+        assertEquals(Integer.getInteger(Location.GRID_SIZE_PROPERTY, 10), Location.MAX_VALUE);
+        assertEquals(Location.SIZE * Location.SIZE, Location.COUNT);
+        assertThrows(IllegalArgumentException.class, () -> Location.of(Location.MAX_VALUE + 1, 1));
     }
 
     @Test
     void shouldCreateLocationWithValidCoordinates() {
-        Location location = new Location(1, 2);
+        Location location = Location.of(1, 2);
         assertEquals(1, location.getX());
         assertEquals(2, location.getY());
     }
 
     @Test
     void shouldCalculateDistance() {
-        Location a = new Location(2, 3);
-        Location b = new Location(8, 4);
+        Location a = Location.of(2, 3);
+        Location b = Location.of(8, 4);
         assertEquals(7, a.calculateDistance(b));
     }
 
     @Test
     void shouldEquals() {
-        Location loc1 = new Location(1, 2);
-        Location loc2 = new Location(1, 1);
-        Location loc3 = new Location(1, 2);
+        Location loc1 = Location.of(1, 2);
+        Location loc2 = Location.of(1, 1);
+        Location loc3 = Location.of(1, 2);
 
         assertEquals(loc1, loc3);
     }
 
     @Test
     void shouldNotEquals() {
-        Location loc1 = new Location(1, 2);
-        Location loc2 = new Location(1, 1);
-        Location loc3 = new Location(1, 2);
+        Location loc1 = Location.of(1, 2);
+        Location loc2 = Location.of(1, 1);
+        Location loc3 = Location.of(1, 2);
 
         assertNotEquals(loc1, loc2);
     }
@@ -57,4 +65,45 @@ public class LocationTest {
             assertTrue(randomLocation.getY() >= 1 && randomLocation.getY() <= 10);
         }
     }
+
+    @Test
+    void shouldReturnCanonicalInstanceFromFactory() {
+        Location location = Location.of(3, 7);
+
+        assertSame(location, Location.of(3, 7));
+        assertEquals(Location.of(3, 7), location);
+        assertEquals(Location.of(3, 7).hashCode(), location.hashCode());
+    }
+
+    @Test
+    void shouldExceptionWhenFactoryReceivesOutOfRangeValues() {
+        assertThrows(IllegalArgumentException.class, () -> Location.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Location.of(1, 11));
+    }
+
+    @Test
+    void shouldPackAndUnpackEveryLocation() {
+        for (int x = Location.MIN_VALUE; x <= Location.MAX_VALUE; x++) {
+            for (int y = Location.MIN_VALUE; y <= Location.MAX_VALUE; y++) {
+                int packed = Location.of(x, y).pack();
+
+                assertTrue(packed >= 0 && packed < Location.COUNT);
+                assertSame(Location.of(x, y), Location.unpack(packed));
+                assertEquals(x, Location.unpackX(packed));
+                assertEquals(y, Location.unpackY(packed));
+            }
+        }
+    }
+
+    @Test
+    void shouldExceptionWhenUnpackOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> Location.unpack(-1));
+        assertThrows(IllegalArgumentException.class, () -> Location.unpack(Location.COUNT));
+    }
+
+    @Test
+    void shouldRandomReturnCanonicalInstance() {
+        Location randomLocation = Location.random();
+        assertSame(Location.of(randomLocation.getX(), randomLocation.getY()), randomLocation);
+    }
 }
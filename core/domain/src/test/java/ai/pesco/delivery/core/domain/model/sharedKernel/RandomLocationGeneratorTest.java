@@ -0,0 +1,99 @@
+package ai.pesco.delivery.core.domain.model.sharedKernel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomLocationGeneratorTest {
+
+    @Test
+    void next_ThreadLocal_ReturnsLocationsWithinBounds() {
+        RandomLocationGenerator generator = RandomLocationGenerator.threadLocal();
+        for (int i = 0; i < 1000; i++) {
+            Location location = generator.next();
+            assertTrue(location.getX() >= Location.MIN_VALUE && location.getX() <= Location.MAX_VALUE);
+            assertTrue(location.getY() >= Location.MIN_VALUE && location.getY() <= Location.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void next_SameSeed_ProducesSameSequence() {
+        RandomLocationGenerator first = RandomLocationGenerator.seeded(42);
+        RandomLocationGenerator second = RandomLocationGenerator.seeded(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(first.next(), second.next());
+        }
+    }
+
+    @Test
+    void split_SameSeed_ProducesSameChildSequence() {
+        RandomLocationGenerator first = RandomLocationGenerator.seeded(7).split();
+        RandomLocationGenerator second = RandomLocationGenerator.seeded(7).split();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextPacked(), second.nextPacked());
+        }
+        assertTrue(first.isSeeded());
+        assertSame(RandomLocationGenerator.threadLocal(), RandomLocationGenerator.threadLocal().split());
+    }
+
+    @Test
+    void fill_SeededGenerator_MatchesSequentialDraws() {
+        int[] buffer = new int[64];
+        RandomLocationGenerator.seeded(5).fill(buffer);
+
+        RandomLocationGenerator sequential = RandomLocationGenerator.seeded(5);
+        for (int packed : buffer) {
+            assertEquals(sequential.nextPacked(), packed);
+        }
+    }
+
+    @Test
+    void fill_Range_LeavesRestOfBufferUntouched() {
+        int[] buffer = new int[10];
+        Arrays.fill(buffer, -1);
+
+        RandomLocationGenerator.threadLocal().fill(buffer, 2, 5);
+
+        for (int i = 0; i < buffer.length; i++) {
+            if (i >= 2 && i < 7) {
+                assertTrue(buffer[i] >= 0 && buffer[i] < Location.COUNT);
+            } else {
+                assertEquals(-1, buffer[i]);
+            }
+        }
+    }
+
+    @Test
+    void fill_RangeOutOfBounds_ThrowsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> RandomLocationGenerator.threadLocal().fill(new int[4], 2, 3));
+    }
+
+    @Test
+    void fill_NullBuffer_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> RandomLocationGenerator.threadLocal().fill(null));
+        assertEquals("Buffer cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void next_ThreadLocalFromManyThreads_CoversWholeGrid() {
+        Set<Location> seen = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        IntStream.range(0, 4).forEach(i -> threads.add(Thread.ofVirtual().start(() -> {
+            for (int j = 0; j < 10_000; j++) {
+                seen.add(Location.random());
+            }
+        })));
+        threads.forEach(thread -> assertDoesNotThrow(() -> thread.join()));
+
+        assertEquals(Location.COUNT, seen.size());
+    }
+}
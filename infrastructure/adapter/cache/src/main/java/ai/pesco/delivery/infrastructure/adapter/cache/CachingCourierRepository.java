@@ -0,0 +1,341 @@
+package ai.pesco.delivery.infrastructure.adapter.cache;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Courier repository decorator that keeps hot couriers in a bounded Caffeine cache.
+ * A save that only changes a cached courier's location is written behind: the latest
+ * location of every courier is kept and flushed to the delegate in one batch per delay.
+ * Any other save, including every status or route change and every courier the cache does not
+ * know, is written through before it returns and supersedes a pending location.
+ * Callers always get detached copies that carry the stored version. A location-only save is
+ * written behind only if the courier has the version of the cached one, so stale copies go to
+ * the delegate and fail its version check; a flush counts as a write and bumps the version.
+ * The domain events of a location-only save move to the pending snapshot, after the events it
+ * already holds, and reach the delegate with the flush; a save written through takes over the
+ * events of the pending snapshot it supersedes. Saves and flushes are serialised.
+ * <p>
+ * A flush that fails on a courier changed by another writer reloads the pending couriers;
+ * each conflicting one is rebased onto its stored state, keeping the pending location and
+ * events, and the batch is retried once, so one conflict does not hold back the others.
+ * A courier that is no longer stored is dropped. Failed background flushes are logged and
+ * counted in {@link #flushFailures()}.
+ */
+@Slf4j
+public class CachingCourierRepository implements CourierRepository, AutoCloseable {
+    public static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+    public static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_WRITE_BEHIND_DELAY = Duration.ofSeconds(1);
+
+    private final CourierRepository delegate;
+    private final Cache<UUID, Courier> cache;
+    private final Map<UUID, Courier> dirty = new ConcurrentHashMap<>();
+    private final Duration writeBehindDelay;
+    private final Object writeLock = new Object();
+    private final LongAdder flushFailures = new LongAdder();
+    private ScheduledExecutorService scheduler;
+
+    public CachingCourierRepository(CourierRepository delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_ACCESS, DEFAULT_WRITE_BEHIND_DELAY);
+    }
+
+    public CachingCourierRepository(CourierRepository delegate, long maximumSize, Duration expireAfterAccess,
+                                    Duration writeBehindDelay) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate cannot be null");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (expireAfterAccess == null || expireAfterAccess.isNegative() || expireAfterAccess.isZero()) {
+            throw new IllegalArgumentException("Expiry must be positive");
+        }
+        if (writeBehindDelay == null || writeBehindDelay.isNegative() || writeBehindDelay.isZero()) {
+            throw new IllegalArgumentException("Write-behind delay must be positive");
+        }
+
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.writeBehindDelay = writeBehindDelay;
+    }
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        Courier pending = dirty.get(id);
+        if (pending != null) {
+            return Optional.of(copy(pending));
+        }
+        return Optional.ofNullable(copy(cache.get(id, key -> delegate.findById(key).map(CachingCourierRepository::copy).orElse(null))));
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+
+        Map<UUID, Courier> found = cache.getAll(ids, missing -> delegate.findAllById(new ArrayList<>(missing)).stream()
+                .collect(Collectors.toMap(Courier::getId, CachingCourierRepository::copy)));
+        List<Courier> result = new ArrayList<>(found.size());
+        for (UUID id : ids) {
+            Courier courier = dirty.getOrDefault(id, found.get(id));
+            if (courier != null) {
+                result.add(copy(courier));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return delegate.findAllFree().stream()
+                .map(this::overlay)
+                .filter(courier -> courier.getStatus() == CourierStatus.FREE)
+                .toList();
+    }
+
+    /**
+     * Answered by the delegate, which always has the current status since status changes are written through.
+     */
+    @Override
+    public long countByStatus(CourierStatus status) {
+        return delegate.countByStatus(status);
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return delegate.streamAll().map(this::overlay);
+    }
+
+    @Override
+    public void saveAll(Collection<Courier> couriers) {
+        if (couriers == null) {
+            throw new IllegalArgumentException("Couriers cannot be null");
+        }
+
+        synchronized (writeLock) {
+            List<Courier> through = new ArrayList<>();
+            for (Courier courier : couriers) {
+                Courier known = latest(courier.getId());
+                if (known != null && known.getVersion() == courier.getVersion() && onlyLocationDiffers(known, courier)) {
+                    writeBehind(courier);
+                } else {
+                    through.add(courier);
+                }
+            }
+            if (through.isEmpty()) {
+                return;
+            }
+
+            for (Courier courier : through) {
+                Courier pending = dirty.get(courier.getId());
+                if (pending != null) {
+                    courier.takeDomainEventsFrom(pending);
+                }
+            }
+            try {
+                delegate.saveAll(through);
+            } catch (RuntimeException e) {
+                through.forEach(courier -> cache.invalidate(courier.getId()));
+                throw e;
+            }
+            for (Courier courier : through) {
+                dirty.remove(courier.getId());
+                cache.put(courier.getId(), copy(courier));
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return dirty.size();
+    }
+
+    /**
+     * Writes every pending location to the delegate in one batch and returns the number of
+     * couriers written. If the batch fails, conflicting couriers are rebased and the batch is
+     * retried once; if that fails as well, the drained couriers are put back unless a newer
+     * state has been saved meanwhile.
+     */
+    public int flush() {
+        synchronized (writeLock) {
+            Map<UUID, Courier> batch = new HashMap<>();
+            for (UUID id : dirty.keySet()) {
+                Courier courier = dirty.remove(id);
+                if (courier != null) {
+                    batch.put(id, courier);
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                delegate.saveAll(batch.values());
+            } catch (RuntimeException e) {
+                retryRebased(batch, e);
+            }
+            return batch.size();
+        }
+    }
+
+    /**
+     * Number of background flushes that failed since the repository was created.
+     */
+    public long flushFailures() {
+        return flushFailures.sum();
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Write-behind is already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("courier-write-behind").daemon().unstarted(runnable));
+        long period = writeBehindDelay.toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes what is still pending.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current != null) {
+            current.shutdown();
+            current.awaitTermination(writeBehindDelay.toMillis() + 10_000, TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.warn("Courier write-behind flush failed, retrying in {}", writeBehindDelay, e);
+        }
+    }
+
+    private void retryRebased(Map<UUID, Courier> batch, RuntimeException failure) {
+        try {
+            if (rebaseConflicts(batch) == 0) {
+                throw failure;
+            }
+            if (!batch.isEmpty()) {
+                delegate.saveAll(batch.values());
+            }
+        } catch (RuntimeException e) {
+            if (e != failure) {
+                e.addSuppressed(failure);
+            }
+            batch.forEach(dirty::putIfAbsent);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces every pending courier whose stored version moved on with its stored state at the
+     * pending location, and removes the ones that are no longer stored. Returns the number of
+     * couriers replaced or removed.
+     */
+    private int rebaseConflicts(Map<UUID, Courier> batch) {
+        Map<UUID, Courier> stored = delegate.findAllById(new ArrayList<>(batch.keySet())).stream()
+                .collect(Collectors.toMap(Courier::getId, courier -> courier));
+        int changed = 0;
+        for (UUID id : new ArrayList<>(batch.keySet())) {
+            Courier pending = batch.get(id);
+            Courier current = stored.get(id);
+            if (current == null) {
+                log.warn("Dropping the pending location of courier {}, which is no longer stored", id);
+                batch.remove(id);
+                cache.invalidate(id);
+                changed++;
+            } else if (current.getVersion() != pending.getVersion()) {
+                Courier rebased = Courier.restore(id, current.getName(), current.getTransport(),
+                        pending.getLocation(), current.getRoute());
+                rebased.setVersion(current.getVersion());
+                rebased.takeDomainEventsFrom(pending);
+                batch.put(id, rebased);
+                cache.put(id, rebased);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private void writeBehind(Courier courier) {
+        Courier snapshot = copy(courier);
+        snapshot.takeDomainEventsFrom(courier);
+        Courier pending = dirty.get(courier.getId());
+        if (pending != null) {
+            snapshot.takeDomainEventsFrom(pending);
+        }
+        dirty.put(courier.getId(), snapshot);
+        cache.put(courier.getId(), snapshot);
+    }
+
+    private Courier latest(UUID id) {
+        Courier pending = dirty.get(id);
+        return pending != null ? pending : cache.getIfPresent(id);
+    }
+
+    private Courier overlay(Courier stored) {
+        Courier known = latest(stored.getId());
+        return known == null ? stored : copy(known);
+    }
+
+    private static boolean onlyLocationDiffers(Courier known, Courier courier) {
+        return known.getStatus() == courier.getStatus()
+                && known.getRoute().equals(courier.getRoute())
+                && known.getName().equals(courier.getName())
+                && known.getTransport().getId().equals(courier.getTransport().getId())
+                && known.getTransport().getName().equals(courier.getTransport().getName());
+    }
+
+    private static Courier copy(Courier courier) {
+        if (courier == null) {
+            return null;
+        }
+        Transport transport = courier.getTransport();
+        Courier copy = Courier.restore(courier.getId(), courier.getName(),
+                Transport.restore(transport.getId(), transport.getName(), transport.getSpeed()),
+                courier.getLocation(), courier.getRoute());
+        if (!courier.isNew()) {
+            copy.setVersion(courier.getVersion());
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,309 @@
+package ai.pesco.delivery.infrastructure.adapter.cache;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierMovedDomainEvent;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingCourierRepositoryTest {
+    private InMemoryCourierRepository delegate;
+    private CachingCourierRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemoryCourierRepository();
+        repository = new CachingCourierRepository(delegate, 1000, Duration.ofMinutes(1), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.close();
+    }
+
+    @Test
+    void saveAll_NewCourier_WritesThrough() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+
+        repository.save(courier);
+
+        assertEquals(1, delegate.rowsWritten.get());
+        assertEquals(0, repository.pendingCount());
+        assertTrue(delegate.couriers.containsKey(courier.getId()));
+    }
+
+    @Test
+    void saveAll_LocationChurn_CutsDelegateReadsAndWritesByOverNinetyPercent() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Courier courier = new Courier("Courier " + i, "Car", 3, Location.of(1, 1));
+            repository.save(courier);
+            ids.add(courier.getId());
+        }
+        int writesBefore = delegate.rowsWritten.get();
+        int loadsBefore = delegate.loads.get();
+
+        int updates = 0;
+        for (int round = 1; round <= 40; round++) {
+            for (UUID id : ids) {
+                Courier courier = repository.findById(id).orElseThrow();
+                courier.moveTo(Location.of(round % 10 + 1, round / 10 + 1));
+                repository.save(courier);
+                updates++;
+            }
+            if (round % 20 == 0) {
+                repository.flush();
+            }
+        }
+
+        int writes = delegate.rowsWritten.get() - writesBefore;
+        int loads = delegate.loads.get() - loadsBefore;
+        assertTrue(writes * 10 < updates, "writes: " + writes);
+        assertTrue(loads * 10 < updates, "loads: " + loads);
+        for (UUID id : ids) {
+            assertEquals(repository.findById(id).orElseThrow().getLocation(), delegate.couriers.get(id).getLocation());
+        }
+    }
+
+    @Test
+    void saveAll_LocationOnlyChange_IsVisibleBeforeFlush() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+
+        assertEquals(1, repository.pendingCount());
+        assertEquals(Location.of(1, 1), delegate.couriers.get(courier.getId()).getLocation());
+        assertEquals(Location.of(3, 1), repository.findById(courier.getId()).orElseThrow().getLocation());
+        assertEquals(Location.of(3, 1), repository.findAllFree().getFirst().getLocation());
+        try (Stream<Courier> stream = repository.streamAll()) {
+            assertEquals(Location.of(3, 1), stream.findFirst().orElseThrow().getLocation());
+        }
+        assertTrue(courier.getDomainEvents().isEmpty());
+        assertTrue(delegate.events.isEmpty());
+    }
+
+    @Test
+    void flush_PendingLocationSaves_HandsTheirMovedEventsToDelegate() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(5, 1));
+        repository.save(courier);
+
+        repository.flush();
+
+        assertEquals(List.of(Location.of(3, 1), Location.of(5, 1)), delegate.events.stream()
+                .map(event -> ((CourierMovedDomainEvent) event).location())
+                .toList());
+        assertTrue(courier.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    void saveAll_StatusChangeAfterPendingLocation_WritesPendingEventsFirst() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        courier.moveTo(Location.of(5, 1));
+
+        repository.save(courier);
+        repository.flush();
+
+        assertEquals(List.of(Location.of(3, 1), Location.of(5, 1)), delegate.events.stream()
+                .map(event -> ((CourierMovedDomainEvent) event).location())
+                .toList());
+    }
+
+    @Test
+    void saveAll_StatusChange_WritesThroughWithPendingLocation() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        repository.save(courier);
+
+        Courier stored = delegate.couriers.get(courier.getId());
+        assertEquals(CourierStatus.BUSY, stored.getStatus());
+        assertEquals(courier.getOrderId(), stored.getOrderId());
+        assertEquals(Location.of(3, 1), stored.getLocation());
+        assertEquals(0, repository.pendingCount());
+        assertEquals(0, repository.findAllFree().size());
+    }
+
+    @Test
+    void saveAll_WriteThroughFails_KeepsPreviousState() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        delegate.saveFailure = new IllegalStateException("Conflict");
+
+        assertThrows(IllegalStateException.class, () -> repository.save(courier));
+
+        assertEquals(CourierStatus.FREE, repository.findById(courier.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void saveAll_StaleCopyWithLocationOnlyChange_IsRejectedByDelegate() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        Courier stale = repository.findById(courier.getId()).orElseThrow();
+        Courier fresh = repository.findById(courier.getId()).orElseThrow();
+        fresh.moveTo(Location.of(3, 1));
+        repository.save(fresh);
+        repository.flush();
+
+        stale.moveTo(Location.of(9, 9));
+
+        assertThrows(IllegalStateException.class, () -> repository.save(stale));
+        assertEquals(0, repository.pendingCount());
+        assertEquals(Location.of(3, 1), repository.findById(courier.getId()).orElseThrow().getLocation());
+        assertEquals(1, repository.findById(courier.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void findById_ReturnedCourier_IsDetachedFromCache() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+
+        repository.findById(courier.getId()).orElseThrow().moveTo(Location.of(3, 1));
+
+        assertEquals(Location.of(1, 1), repository.findById(courier.getId()).orElseThrow().getLocation());
+    }
+
+    @Test
+    void findById_UnknownCourier_ReturnsEmpty() {
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void findAllById_PartlyCached_LoadsOnlyMissing() {
+        Courier cached = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(cached);
+        Courier stored = new Courier("Jane", "Bike", 1, Location.of(2, 2));
+        stored.setVersion(0);
+        delegate.couriers.put(stored.getId(), stored);
+
+        List<Courier> found = repository.findAllById(List.of(stored.getId(), cached.getId()));
+
+        assertEquals(List.of(stored.getId(), cached.getId()), found.stream().map(Courier::getId).toList());
+        assertEquals(1, delegate.loads.get());
+    }
+
+    @Test
+    void flush_DelegateFails_RequeuesPendingLocations() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+        delegate.saveFailure = new IllegalStateException("Database is down");
+
+        assertThrows(IllegalStateException.class, () -> repository.flush());
+
+        assertEquals(1, repository.pendingCount());
+        assertEquals(1, repository.flush());
+        assertEquals(Location.of(3, 1), delegate.couriers.get(courier.getId()).getLocation());
+    }
+
+    @Test
+    void flush_CourierChangedByAnotherWriter_RebasesItAndWritesTheRest() {
+        Courier changed = new Courier("John", "Car", 2, Location.of(1, 1));
+        Courier other = new Courier("Jane", "Bike", 1, Location.of(1, 1));
+        repository.saveAll(List.of(changed, other));
+        changed.moveTo(Location.of(3, 1));
+        other.moveTo(Location.of(2, 1));
+        repository.saveAll(List.of(changed, other));
+        Courier elsewhere = delegate.findById(changed.getId()).orElseThrow();
+        elsewhere.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        delegate.save(elsewhere);
+
+        assertEquals(2, repository.flush());
+
+        Courier stored = delegate.couriers.get(changed.getId());
+        assertEquals(Location.of(3, 1), stored.getLocation());
+        assertEquals(CourierStatus.BUSY, stored.getStatus());
+        assertEquals(2, stored.getVersion());
+        assertEquals(Location.of(2, 1), delegate.couriers.get(other.getId()).getLocation());
+        assertEquals(0, repository.pendingCount());
+        assertEquals(CourierStatus.BUSY, repository.findById(changed.getId()).orElseThrow().getStatus());
+        assertTrue(delegate.events.stream().anyMatch(event -> event instanceof CourierMovedDomainEvent moved
+                && moved.aggregateId().equals(changed.getId()) && moved.location().equals(Location.of(3, 1))));
+    }
+
+    @Test
+    void start_FailingFlushes_CountsThem() throws InterruptedException {
+        repository = new CachingCourierRepository(delegate, 1000, Duration.ofMinutes(1), Duration.ofMillis(5));
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+        delegate.saveFailure = new IllegalStateException("Database is down");
+
+        repository.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (repository.flushFailures() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(1, repository.flushFailures());
+    }
+
+    @Test
+    void flush_AfterEviction_StillWritesPendingLocation() {
+        repository = new CachingCourierRepository(delegate, 1, Duration.ofMinutes(1), Duration.ofHours(1));
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+        for (int i = 0; i < 100; i++) {
+            repository.save(new Courier("Courier " + i, "Bike", 1, Location.of(1, 1)));
+        }
+
+        assertEquals(Location.of(3, 1), repository.findById(courier.getId()).orElseThrow().getLocation());
+        repository.flush();
+        assertEquals(Location.of(3, 1), delegate.couriers.get(courier.getId()).getLocation());
+    }
+
+    @Test
+    void close_StartedRepository_FlushesPendingLocations() throws InterruptedException {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+        repository.start();
+        courier.moveTo(Location.of(3, 1));
+        repository.save(courier);
+
+        repository.close();
+
+        assertEquals(Location.of(3, 1), delegate.couriers.get(courier.getId()).getLocation());
+    }
+
+    @Test
+    void start_AlreadyStarted_ThrowsIllegalStateException() {
+        repository.start();
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> repository.start());
+        assertEquals("Write-behind is already started", exception.getMessage());
+    }
+
+    @Test
+    void constructor_NullDelegate_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new CachingCourierRepository(null));
+        assertEquals("Delegate cannot be null", exception.getMessage());
+    }
+}
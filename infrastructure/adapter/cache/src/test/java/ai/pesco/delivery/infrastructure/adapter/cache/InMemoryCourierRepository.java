@@ -0,0 +1,99 @@
+package ai.pesco.delivery.infrastructure.adapter.cache;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+final class InMemoryCourierRepository implements CourierRepository {
+    final Map<UUID, Courier> couriers = new ConcurrentHashMap<>();
+    final AtomicInteger loads = new AtomicInteger();
+    final AtomicInteger saves = new AtomicInteger();
+    final AtomicInteger rowsWritten = new AtomicInteger();
+    final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+    volatile RuntimeException saveFailure;
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(copy(couriers.get(id)));
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        loads.incrementAndGet();
+        List<Courier> result = new ArrayList<>();
+        for (UUID id : ids) {
+            Courier courier = couriers.get(id);
+            if (courier != null) {
+                result.add(copy(courier));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return couriers.values().stream()
+                .filter(courier -> courier.getStatus() == CourierStatus.FREE)
+                .map(InMemoryCourierRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public long countByStatus(CourierStatus status) {
+        return couriers.values().stream().filter(courier -> courier.getStatus() == status).count();
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return couriers.values().stream().map(InMemoryCourierRepository::copy);
+    }
+
+    @Override
+    public void saveAll(Collection<Courier> batch) {
+        saves.incrementAndGet();
+        if (saveFailure != null) {
+            RuntimeException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+        for (Courier courier : batch) {
+            Courier stored = couriers.get(courier.getId());
+            long version = stored == null ? Courier.NO_VERSION : stored.getVersion();
+            if (courier.getVersion() != version) {
+                throw new IllegalStateException("Courier was changed concurrently: " + courier.getId());
+            }
+        }
+        rowsWritten.addAndGet(batch.size());
+        for (Courier courier : batch) {
+            courier.setVersion(courier.getVersion() + 1);
+            couriers.put(courier.getId(), copy(courier));
+            events.addAll(courier.getDomainEvents());
+            courier.clearDomainEvents();
+        }
+    }
+
+    private static Courier copy(Courier courier) {
+        if (courier == null) {
+            return null;
+        }
+        Courier copy = Courier.restore(courier.getId(), courier.getName(), courier.getTransport(),
+                courier.getLocation(), courier.getStatus(), courier.getOrderId());
+        if (!courier.isNew()) {
+            copy.setVersion(courier.getVersion());
+        }
+        return copy;
+    }
+}
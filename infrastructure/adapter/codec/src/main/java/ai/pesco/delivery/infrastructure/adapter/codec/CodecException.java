@@ -0,0 +1,11 @@
+package ai.pesco.delivery.infrastructure.adapter.codec;
+
+/**
+ * Thrown when bytes being decoded are not a valid message.
+ */
+public class CodecException extends IllegalArgumentException {
+
+    public CodecException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,166 @@
+package ai.pesco.delivery.infrastructure.adapter.codec;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierMovedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderAssignedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderCompletedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderCreatedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderRelocatedDomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Compact binary wire format of the domain events the adapters exchange. Every message starts
+ * with a one byte tag, followed by fixed width fields in big-endian order:
+ * <ul>
+ *     <li>UUIDs as two longs,</li>
+ *     <li>locations as x and y, each an unsigned short, whatever the grid size,</li>
+ *     <li>timestamps as nanoseconds since the epoch.</li>
+ * </ul>
+ * Writers and readers work on the caller's buffer from its position and advance it; nothing
+ * is allocated besides the decoded message. The field helpers are shared with the event
+ * store's state format. Bytes that are not a valid message fail with a {@link CodecException}.
+ */
+public final class WireCodec {
+    public static final int LOCATION_BYTES = 2 * Short.BYTES;
+    /** Upper bound of the encoded size of any message. */
+    public static final int MAX_MESSAGE_SIZE = 1 + 16 + Long.BYTES + 16;
+
+    private static final byte ORDER_CREATED = 1;
+    private static final byte ORDER_ASSIGNED = 2;
+    private static final byte ORDER_RELOCATED = 3;
+    private static final byte ORDER_COMPLETED = 4;
+    private static final byte COURIER_MOVED = 5;
+
+    private static final int UUID_BYTES = 16;
+    private static final int EVENT_HEADER_BYTES = 1 + UUID_BYTES + Long.BYTES;
+
+    private WireCodec() {
+    }
+
+    public static int sizeOf(DomainEvent event) {
+        return switch (event) {
+            case OrderCreatedDomainEvent ignored -> EVENT_HEADER_BYTES + LOCATION_BYTES;
+            case OrderRelocatedDomainEvent ignored -> EVENT_HEADER_BYTES + LOCATION_BYTES;
+            case CourierMovedDomainEvent ignored -> EVENT_HEADER_BYTES + LOCATION_BYTES;
+            case OrderAssignedDomainEvent ignored -> EVENT_HEADER_BYTES + UUID_BYTES;
+            case OrderCompletedDomainEvent ignored -> EVENT_HEADER_BYTES + UUID_BYTES;
+            case null -> throw new IllegalArgumentException("Event cannot be null");
+            default -> throw unsupported(event);
+        };
+    }
+
+    public static byte[] encode(DomainEvent event) {
+        byte[] bytes = new byte[sizeOf(event)];
+        write(event, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    public static void write(DomainEvent event, ByteBuffer buffer) {
+        switch (event) {
+            case OrderCreatedDomainEvent created -> {
+                putEventHeader(buffer, ORDER_CREATED, event);
+                putLocation(buffer, created.location());
+            }
+            case OrderRelocatedDomainEvent relocated -> {
+                putEventHeader(buffer, ORDER_RELOCATED, event);
+                putLocation(buffer, relocated.location());
+            }
+            case CourierMovedDomainEvent moved -> {
+                putEventHeader(buffer, COURIER_MOVED, event);
+                putLocation(buffer, moved.location());
+            }
+            case OrderAssignedDomainEvent assigned -> {
+                putEventHeader(buffer, ORDER_ASSIGNED, event);
+                putUuid(buffer, assigned.courierId());
+            }
+            case OrderCompletedDomainEvent completed -> {
+                putEventHeader(buffer, ORDER_COMPLETED, event);
+                putUuid(buffer, completed.courierId());
+            }
+            case null -> throw new IllegalArgumentException("Event cannot be null");
+            default -> throw unsupported(event);
+        }
+    }
+
+    public static DomainEvent readEvent(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            throw new CodecException("Message is empty");
+        }
+        byte tag = buffer.get(buffer.position());
+        int size = EVENT_HEADER_BYTES + switch (tag) {
+            case ORDER_CREATED, ORDER_RELOCATED, COURIER_MOVED -> LOCATION_BYTES;
+            case ORDER_ASSIGNED, ORDER_COMPLETED -> UUID_BYTES;
+            default -> throw new CodecException("Unknown event tag " + tag);
+        };
+        if (buffer.remaining() < size) {
+            throw new CodecException("Message with tag " + tag + " is truncated to " + buffer.remaining() + " of " + size + " bytes");
+        }
+
+        buffer.get();
+        UUID aggregateId = getUuid(buffer);
+        Instant occurredAt = getInstant(buffer);
+        return switch (tag) {
+            case ORDER_CREATED -> new OrderCreatedDomainEvent(aggregateId, getLocation(buffer), occurredAt);
+            case ORDER_RELOCATED -> new OrderRelocatedDomainEvent(aggregateId, getLocation(buffer), occurredAt);
+            case COURIER_MOVED -> new CourierMovedDomainEvent(aggregateId, getLocation(buffer), occurredAt);
+            case ORDER_ASSIGNED -> new OrderAssignedDomainEvent(aggregateId, getUuid(buffer), occurredAt);
+            case ORDER_COMPLETED -> new OrderCompletedDomainEvent(aggregateId, getUuid(buffer), occurredAt);
+            default -> throw new CodecException("Unknown event tag " + tag);
+        };
+    }
+
+    public static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    public static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static void putLocation(ByteBuffer buffer, Location location) {
+        buffer.putShort((short) location.getX()).putShort((short) location.getY());
+    }
+
+    public static Location getLocation(ByteBuffer buffer) {
+        int x = Short.toUnsignedInt(buffer.getShort());
+        int y = Short.toUnsignedInt(buffer.getShort());
+        if (x < Location.MIN_VALUE || x > Location.MAX_VALUE || y < Location.MIN_VALUE || y > Location.MAX_VALUE) {
+            throw new CodecException("Location " + x + "," + y + " is outside the grid");
+        }
+        return Location.of(x, y);
+    }
+
+    public static void putStatus(ByteBuffer buffer, Enum<?> status) {
+        buffer.put((byte) status.ordinal());
+    }
+
+    /**
+     * Reads a status written by {@link #putStatus}, one of {@code statuses}.
+     */
+    public static <E extends Enum<E>> E getStatus(ByteBuffer buffer, E[] statuses) {
+        int ordinal = Byte.toUnsignedInt(buffer.get());
+        if (ordinal >= statuses.length) {
+            throw new CodecException("Unknown status " + ordinal);
+        }
+        return statuses[ordinal];
+    }
+
+    private static void putEventHeader(ByteBuffer buffer, byte tag, DomainEvent event) {
+        buffer.put(tag);
+        putUuid(buffer, event.aggregateId());
+        Instant occurredAt = event.occurredAt();
+        buffer.putLong(Math.addExact(Math.multiplyExact(occurredAt.getEpochSecond(), 1_000_000_000L), occurredAt.getNano()));
+    }
+
+    private static Instant getInstant(ByteBuffer buffer) {
+        return Instant.ofEpochSecond(0, buffer.getLong());
+    }
+
+    private static IllegalArgumentException unsupported(DomainEvent event) {
+        return new IllegalArgumentException("Unsupported event type " + event.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,122 @@
+package ai.pesco.delivery.infrastructure.adapter.codec;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierMovedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderAssignedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderCompletedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderCreatedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderRelocatedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireCodecTest {
+    private static final Instant OCCURRED_AT = Instant.parse("2026-10-18T12:34:56.123456789Z");
+
+    @Test
+    void write_EveryEventType_ReadsBackEqualEvent() {
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        List<DomainEvent> events = List.of(
+                new OrderCreatedDomainEvent(id, Location.of(3, 4), OCCURRED_AT),
+                new OrderAssignedDomainEvent(id, other, OCCURRED_AT),
+                new OrderRelocatedDomainEvent(id, Location.of(10, 10), OCCURRED_AT),
+                new OrderCompletedDomainEvent(id, other, OCCURRED_AT),
+                new CourierMovedDomainEvent(id, Location.of(1, 1), OCCURRED_AT));
+        ByteBuffer buffer = ByteBuffer.allocate(events.size() * WireCodec.MAX_MESSAGE_SIZE);
+
+        for (DomainEvent event : events) {
+            int start = buffer.position();
+            WireCodec.write(event, buffer);
+            assertEquals(WireCodec.sizeOf(event), buffer.position() - start);
+        }
+        buffer.flip();
+
+        for (DomainEvent event : events) {
+            assertEquals(event, WireCodec.readEvent(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void encode_LocationEvent_WritesFixedWidthCoordinates() {
+        byte[] bytes = WireCodec.encode(new CourierMovedDomainEvent(UUID.randomUUID(), Location.of(10, 3), OCCURRED_AT));
+
+        assertEquals(1 + 16 + 8 + WireCodec.LOCATION_BYTES, bytes.length);
+        ByteBuffer location = ByteBuffer.wrap(bytes, bytes.length - WireCodec.LOCATION_BYTES, WireCodec.LOCATION_BYTES);
+        assertEquals(10, location.getShort());
+        assertEquals(3, location.getShort());
+    }
+
+    @Test
+    void readEvent_UnknownTag_ThrowsCodecException() {
+        ByteBuffer buffer = ByteBuffer.allocate(WireCodec.MAX_MESSAGE_SIZE);
+        buffer.put((byte) 99).putLong(1).putLong(2).putLong(3).put((byte) 0).flip();
+
+        Exception exception = assertThrows(CodecException.class, () -> WireCodec.readEvent(buffer));
+        assertEquals("Unknown event tag 99", exception.getMessage());
+    }
+
+    @Test
+    void readEvent_TruncatedMessage_ThrowsCodecExceptionAndKeepsPosition() {
+        byte[] bytes = WireCodec.encode(new OrderAssignedDomainEvent(UUID.randomUUID(), UUID.randomUUID(), OCCURRED_AT));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+
+        Exception exception = assertThrows(CodecException.class, () -> WireCodec.readEvent(buffer));
+        assertEquals("Message with tag 2 is truncated to " + (bytes.length - 1) + " of " + bytes.length + " bytes",
+                exception.getMessage());
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void readEvent_EmptyBuffer_ThrowsCodecException() {
+        Exception exception = assertThrows(CodecException.class, () -> WireCodec.readEvent(ByteBuffer.allocate(0)));
+        assertEquals("Message is empty", exception.getMessage());
+    }
+
+    @Test
+    void readEvent_LocationOutsideGrid_ThrowsCodecException() {
+        ByteBuffer buffer = ByteBuffer.wrap(WireCodec.encode(new CourierMovedDomainEvent(UUID.randomUUID(), Location.of(1, 1), OCCURRED_AT)));
+        buffer.putShort(buffer.limit() - WireCodec.LOCATION_BYTES, (short) (Location.MAX_VALUE + 1));
+
+        Exception exception = assertThrows(CodecException.class, () -> WireCodec.readEvent(buffer));
+        assertEquals("Location " + (Location.MAX_VALUE + 1) + ",1 is outside the grid", exception.getMessage());
+    }
+
+    @Test
+    void getStatus_UnknownOrdinal_ThrowsCodecException() {
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        WireCodec.putStatus(buffer, OrderStatus.COMPLETED);
+        buffer.put((byte) 0xFF).flip();
+
+        assertEquals(OrderStatus.COMPLETED, WireCodec.getStatus(buffer, OrderStatus.values()));
+        Exception exception = assertThrows(CodecException.class, () -> WireCodec.getStatus(buffer, OrderStatus.values()));
+        assertEquals("Unknown status 255", exception.getMessage());
+    }
+
+    @Test
+    void write_UnsupportedEvent_ThrowsIllegalArgumentException() {
+        DomainEvent event = new UnknownEvent(UUID.randomUUID(), OCCURRED_AT);
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> WireCodec.write(event, ByteBuffer.allocate(WireCodec.MAX_MESSAGE_SIZE)));
+        assertEquals("Unsupported event type UnknownEvent", exception.getMessage());
+    }
+
+    @Test
+    void write_NullEvent_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> WireCodec.write((DomainEvent) null, ByteBuffer.allocate(WireCodec.MAX_MESSAGE_SIZE)));
+        assertEquals("Event cannot be null", exception.getMessage());
+    }
+
+    private record UnknownEvent(UUID aggregateId, Instant occurredAt) implements DomainEvent {
+    }
+}
@@ -0,0 +1,119 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.infrastructure.adapter.codec.WireCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary form of the aggregate state recorded in the event log and in snapshots, built from
+ * the {@link WireCodec} field encodings. Every payload starts with the aggregate id, the version
+ * the state was saved as and the status, so the store can check versions and index statuses
+ * without decoding.
+ */
+final class AggregateCodec {
+    private static final int VERSION_OFFSET = 16;
+    private static final int STATUS_OFFSET = VERSION_OFFSET + Long.BYTES;
+    private static final int HEADER_BYTES = STATUS_OFFSET + 1;
+    private static final CourierStatus[] COURIER_STATUSES = CourierStatus.values();
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    private AggregateCodec() {
+    }
+
+    static UUID idOf(byte[] payload) {
+        return WireCodec.getUuid(ByteBuffer.wrap(payload));
+    }
+
+    static long versionOf(byte[] payload) {
+        return ByteBuffer.wrap(payload).getLong(VERSION_OFFSET);
+    }
+
+    static int statusOf(byte[] payload) {
+        return payload[STATUS_OFFSET];
+    }
+
+    static byte[] encode(Courier courier, long version) {
+        byte[] name = courier.getName().getBytes(StandardCharsets.UTF_8);
+        Transport transport = courier.getTransport();
+        byte[] transportName = transport.getName().getBytes(StandardCharsets.UTF_8);
+        List<UUID> route = courier.getRoute();
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 4 + name.length + 16 + 4 + transportName.length + 1
+                + WireCodec.LOCATION_BYTES + 1 + 16 * route.size());
+        putHeader(buffer, courier.getId(), version, courier.getStatus());
+        buffer.putInt(name.length).put(name);
+        WireCodec.putUuid(buffer, transport.getId());
+        buffer.putInt(transportName.length).put(transportName);
+        buffer.put((byte) transport.getSpeed());
+        WireCodec.putLocation(buffer, courier.getLocation());
+        buffer.put((byte) route.size());
+        route.forEach(orderId -> WireCodec.putUuid(buffer, orderId));
+        return buffer.array();
+    }
+
+    static Courier decodeCourier(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID id = WireCodec.getUuid(buffer);
+        long version = buffer.getLong();
+        WireCodec.getStatus(buffer, COURIER_STATUSES);
+        String name = getString(buffer);
+        Transport transport = Transport.restore(WireCodec.getUuid(buffer), getString(buffer), buffer.get());
+        Location location = WireCodec.getLocation(buffer);
+        int routeSize = buffer.get();
+        List<UUID> route = new ArrayList<>(routeSize);
+        for (int i = 0; i < routeSize; i++) {
+            route.add(WireCodec.getUuid(buffer));
+        }
+        Courier courier = Courier.restore(id, name, transport, location, route);
+        courier.setVersion(version);
+        return courier;
+    }
+
+    static byte[] encode(Order order, long version) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + WireCodec.LOCATION_BYTES + 1
+                + (order.getCourierId() == null ? 0 : 16));
+        putHeader(buffer, order.getId(), version, order.getStatus());
+        WireCodec.putLocation(buffer, order.getLocation());
+        if (order.getCourierId() == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1);
+            WireCodec.putUuid(buffer, order.getCourierId());
+        }
+        return buffer.array();
+    }
+
+    static Order decodeOrder(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID id = WireCodec.getUuid(buffer);
+        long version = buffer.getLong();
+        OrderStatus status = WireCodec.getStatus(buffer, ORDER_STATUSES);
+        Location location = WireCodec.getLocation(buffer);
+        UUID courierId = buffer.get() == 0 ? null : WireCodec.getUuid(buffer);
+        Order order = Order.restore(id, location, status, courierId);
+        order.setVersion(version);
+        return order;
+    }
+
+    private static void putHeader(ByteBuffer buffer, UUID id, long version, Enum<?> status) {
+        WireCodec.putUuid(buffer, id);
+        buffer.putLong(version);
+        WireCodec.putStatus(buffer, status);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
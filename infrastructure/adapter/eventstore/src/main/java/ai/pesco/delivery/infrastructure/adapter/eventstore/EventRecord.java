@@ -0,0 +1,9 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import java.util.UUID;
+
+/**
+ * One entry of a {@link SegmentedEventLog}. {@code timestamp} is epoch milliseconds.
+ */
+public record EventRecord(long sequence, long timestamp, byte type, UUID aggregateId, byte[] payload) {
+}
@@ -0,0 +1,62 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class EventSourcedCourierRepository implements CourierRepository {
+    private final EventStore store;
+
+    public EventSourcedCourierRepository(EventStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        this.store = store;
+    }
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        return store.findCourier(id);
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+        return ids.stream().map(store::findCourier).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return store.couriers(CourierStatus.FREE).toList();
+    }
+
+    @Override
+    public long countByStatus(CourierStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        return store.countCouriers(status);
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return store.couriers();
+    }
+
+    /**
+     * Appends the couriers and their domain events to the event log. A courier whose version
+     * is not the stored one fails the whole batch with an {@link IllegalStateException}.
+     */
+    @Override
+    public void saveAll(Collection<Courier> couriers) {
+        store.saveCouriers(couriers);
+    }
+}
@@ -0,0 +1,54 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class EventSourcedOrderRepository implements OrderRepository {
+    private final EventStore store;
+
+    public EventSourcedOrderRepository(EventStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        this.store = store;
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        return store.findOrder(id);
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+        return ids.stream().map(store::findOrder).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public List<Order> findAllCreated() {
+        return store.orders(OrderStatus.CREATED).toList();
+    }
+
+    @Override
+    public Stream<Order> streamActive() {
+        return Stream.concat(store.orders(OrderStatus.CREATED), store.orders(OrderStatus.ASSIGNED));
+    }
+
+    /**
+     * Appends the orders and their domain events to the event log. An order whose version
+     * is not the stored one fails the whole batch with an {@link IllegalStateException}.
+     */
+    @Override
+    public void saveAll(Collection<Order> orders) {
+        store.saveOrders(orders);
+    }
+}
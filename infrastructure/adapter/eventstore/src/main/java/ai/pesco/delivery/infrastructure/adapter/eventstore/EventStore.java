@@ -0,0 +1,456 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Aggregate;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.infrastructure.adapter.codec.WireCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Event-sourced store of couriers and orders. Aggregates are spread over shards by id;
+ * every save appends the pending domain events of each aggregate to the shard's
+ * {@link SegmentedEventLog}, encoded with {@link WireCodec}, followed by the state they
+ * produced. The events are the history of the aggregate; the state record is kept as well
+ * because not every change raises an event (route changes of a courier raise none), and it
+ * is the only record recovery has to read. The log is never truncated. Each shard is
+ * snapshotted once {@code snapshotInterval} records have been appended since the previous
+ * snapshot, and opening the store loads the latest snapshots and replays only the records
+ * after them, all shards in parallel.
+ * <p>
+ * Saves use optimistic locking on the aggregate version, like the database repositories:
+ * an aggregate is saved only if its version is the one of the stored state, and a batch
+ * with a stale aggregate fails without appending anything. The current state is kept in
+ * memory in its encoded form, indexed by status, so status queries decode only the
+ * aggregates they return.
+ * <p>
+ * Background maintenance handles each shard on its own: a flush or snapshot that fails, for
+ * example on a full disk, is logged, counted in {@link #maintenanceFailures()} and retried
+ * with the next run.
+ */
+@Slf4j
+public class EventStore implements AutoCloseable {
+    public static final long DEFAULT_SNAPSHOT_INTERVAL = 1_000_000;
+    public static final Duration DEFAULT_MAINTENANCE_DELAY = Duration.ofSeconds(1);
+    static final byte COURIER_SAVED = 1;
+    static final byte ORDER_SAVED = 2;
+    static final byte DOMAIN_EVENT = 3;
+    private static final String SHARD_PREFIX = "shard-";
+
+    private final Shard[] shards;
+    private final long snapshotInterval;
+    private final Recovery recovery;
+    private final LongAdder maintenanceFailures = new LongAdder();
+    private ScheduledExecutorService maintenance;
+
+    private EventStore(Shard[] shards, long snapshotInterval, Recovery recovery) {
+        this.shards = shards;
+        this.snapshotInterval = snapshotInterval;
+        this.recovery = recovery;
+    }
+
+    public static EventStore open(Path directory, int shardCount) {
+        return open(directory, shardCount, SegmentedEventLog.DEFAULT_SEGMENT_SIZE, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public static EventStore open(Path directory, int shardCount, int segmentSize, long snapshotInterval) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        int existing = countShards(directory);
+        if (existing != 0 && existing != shardCount) {
+            throw new IllegalStateException("Event store was created with " + existing + " shards");
+        }
+
+        long started = System.nanoTime();
+        AtomicLong snapshotAggregates = new AtomicLong();
+        AtomicLong replayedEvents = new AtomicLong();
+        Shard[] shards = IntStream.range(0, shardCount).parallel()
+                .mapToObj(index -> {
+                    Shard shard = new Shard(index, directory.resolve(SHARD_PREFIX + index), segmentSize);
+                    snapshotAggregates.addAndGet(shard.loadSnapshot());
+                    replayedEvents.addAndGet(shard.replayTail());
+                    return shard;
+                })
+                .toArray(Shard[]::new);
+        Recovery recovery = new Recovery(snapshotAggregates.get(), replayedEvents.get(),
+                Duration.ofNanos(System.nanoTime() - started));
+        return new EventStore(shards, snapshotInterval, recovery);
+    }
+
+    public Recovery getRecovery() {
+        return recovery;
+    }
+
+    public Optional<Courier> findCourier(UUID id) {
+        return Optional.ofNullable(shardOf(id).couriers.get(id)).map(AggregateCodec::decodeCourier);
+    }
+
+    public Optional<Order> findOrder(UUID id) {
+        return Optional.ofNullable(shardOf(id).orders.get(id)).map(AggregateCodec::decodeOrder);
+    }
+
+    public Stream<Courier> couriers() {
+        return Stream.of(shards).flatMap(shard -> shard.couriers.values().stream()).map(AggregateCodec::decodeCourier);
+    }
+
+    public Stream<Order> orders() {
+        return Stream.of(shards).flatMap(shard -> shard.orders.values().stream()).map(AggregateCodec::decodeOrder);
+    }
+
+    public Stream<Courier> couriers(CourierStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        return Stream.of(shards).flatMap(shard -> shard.couriers.withStatus(status.ordinal())).map(AggregateCodec::decodeCourier);
+    }
+
+    public Stream<Order> orders(OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        return Stream.of(shards).flatMap(shard -> shard.orders.withStatus(status.ordinal())).map(AggregateCodec::decodeOrder);
+    }
+
+    public long countCouriers(CourierStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        return Stream.of(shards).mapToLong(shard -> shard.couriers.count(status.ordinal())).sum();
+    }
+
+    /**
+     * Saves the couriers and clears their domain events. Throws {@link IllegalStateException}
+     * and saves none of them if one of them is stale.
+     */
+    public void saveCouriers(Collection<Courier> couriers) {
+        if (couriers == null) {
+            throw new IllegalArgumentException("Couriers cannot be null");
+        }
+        save(couriers, Courier::getId, COURIER_SAVED, AggregateCodec::encode);
+    }
+
+    /**
+     * Saves the orders and clears their domain events. Throws {@link IllegalStateException}
+     * and saves none of them if one of them is stale.
+     */
+    public void saveOrders(Collection<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        save(orders, Order::getId, ORDER_SAVED, AggregateCodec::encode);
+    }
+
+    /**
+     * Passes the recorded history of every shard to the consumer, one shard after another.
+     */
+    public void replayHistory(Consumer<EventRecord> consumer) {
+        for (Shard shard : shards) {
+            shard.log.replay(0, consumer);
+        }
+    }
+
+    /**
+     * Passes every recorded domain event to the consumer, one shard after another.
+     */
+    public void replayEvents(Consumer<DomainEvent> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        replayHistory(record -> {
+            if (record.type() == DOMAIN_EVENT) {
+                consumer.accept(WireCodec.readEvent(ByteBuffer.wrap(record.payload())));
+            }
+        });
+    }
+
+    /**
+     * Snapshots every shard with events since its last snapshot.
+     */
+    public void snapshot() {
+        for (Shard shard : shards) {
+            shard.snapshot();
+        }
+    }
+
+    public void flush() {
+        for (Shard shard : shards) {
+            shard.log.flush();
+        }
+    }
+
+    /**
+     * Number of shard flushes or snapshots that failed in the background since the store was opened.
+     */
+    public long maintenanceFailures() {
+        return maintenanceFailures.sum();
+    }
+
+    /**
+     * Starts a background thread that flushes the logs and snapshots shards that are due.
+     */
+    public synchronized void start(Duration delay) {
+        if (delay == null || delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Delay must be positive");
+        }
+        if (maintenance != null) {
+            throw new IllegalStateException("Maintenance is already started");
+        }
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("event-store-maintenance").daemon().unstarted(runnable));
+        maintenance.scheduleWithFixedDelay(this::maintain, delay.toNanos(), delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = maintenance;
+            maintenance = null;
+        }
+        if (current != null) {
+            current.shutdown();
+            current.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        for (Shard shard : shards) {
+            shard.log.close();
+        }
+    }
+
+    private void maintain() {
+        for (Shard shard : shards) {
+            try {
+                shard.log.flush();
+                if (shard.log.getLastSequence() - shard.snapshotSequence >= snapshotInterval) {
+                    shard.snapshot();
+                }
+            } catch (RuntimeException e) {
+                maintenanceFailures.increment();
+                log.warn("Maintenance of event store shard {} failed, retrying with the next run", shard.index, e);
+            }
+        }
+    }
+
+    private <T extends Aggregate> void save(Collection<T> aggregates, Function<T, UUID> idOf, byte type,
+                                            BiFunction<T, Long, byte[]> encode) {
+        Map<UUID, T> unique = new LinkedHashMap<>();
+        for (T aggregate : aggregates) {
+            unique.put(idOf.apply(aggregate), aggregate);
+        }
+        Map<Shard, List<T>> byShard = new TreeMap<>(Comparator.comparingInt(shard -> shard.index));
+        unique.forEach((id, aggregate) -> byShard.computeIfAbsent(shardOf(id), shard -> new ArrayList<>()).add(aggregate));
+
+        List<Shard> locked = new ArrayList<>(byShard.size());
+        try {
+            for (Shard shard : byShard.keySet()) {
+                shard.lock.lock();
+                locked.add(shard);
+            }
+            checkVersions(byShard, idOf, type);
+
+            long timestamp = System.currentTimeMillis();
+            byShard.forEach((shard, batch) -> {
+                AggregateStates states = shard.states(type);
+                for (T aggregate : batch) {
+                    UUID id = idOf.apply(aggregate);
+                    for (DomainEvent event : aggregate.getDomainEvents()) {
+                        shard.log.append(DOMAIN_EVENT, id, timestamp, WireCodec.encode(event));
+                    }
+                    byte[] payload = encode.apply(aggregate, aggregate.getVersion() + 1);
+                    shard.log.append(type, id, timestamp, payload);
+                    states.put(id, payload);
+                }
+            });
+        } finally {
+            locked.forEach(shard -> shard.lock.unlock());
+        }
+
+        for (T aggregate : unique.values()) {
+            aggregate.clearDomainEvents();
+            aggregate.setVersion(aggregate.getVersion() + 1);
+        }
+    }
+
+    private static <T extends Aggregate> void checkVersions(Map<Shard, List<T>> byShard, Function<T, UUID> idOf, byte type) {
+        List<UUID> conflicts = new ArrayList<>();
+        byShard.forEach((shard, batch) -> {
+            AggregateStates states = shard.states(type);
+            for (T aggregate : batch) {
+                UUID id = idOf.apply(aggregate);
+                byte[] stored = states.get(id);
+                long version = stored == null ? Aggregate.NO_VERSION : AggregateCodec.versionOf(stored);
+                if (aggregate.getVersion() != version) {
+                    conflicts.add(id);
+                }
+            }
+        });
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException("Aggregates were changed concurrently: " + conflicts);
+        }
+    }
+
+    private Shard shardOf(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        return shards[Math.floorMod(id.hashCode(), shards.length)];
+    }
+
+    private static int countShards(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return (int) files.filter(path -> path.getFileName().toString().startsWith(SHARD_PREFIX)).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final SegmentedEventLog log;
+        private final SnapshotStore snapshots;
+        private final AggregateStates couriers = new AggregateStates(CourierStatus.values().length);
+        private final AggregateStates orders = new AggregateStates(OrderStatus.values().length);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Object snapshotLock = new Object();
+        private volatile long snapshotSequence;
+
+        private Shard(int index, Path directory, int segmentSize) {
+            this.index = index;
+            log = new SegmentedEventLog(directory, segmentSize);
+            snapshots = new SnapshotStore(directory);
+        }
+
+        private AggregateStates states(byte type) {
+            return type == COURIER_SAVED ? couriers : orders;
+        }
+
+        private long loadSnapshot() {
+            snapshotSequence = snapshots.load(
+                    payload -> couriers.put(AggregateCodec.idOf(payload), payload),
+                    payload -> orders.put(AggregateCodec.idOf(payload), payload));
+            if (snapshotSequence > log.getLastSequence()) {
+                throw new IllegalStateException("Snapshot is ahead of the event log");
+            }
+            return couriers.size() + orders.size();
+        }
+
+        private long replayTail() {
+            return log.replay(snapshotSequence, record -> {
+                if (record.type() == COURIER_SAVED) {
+                    couriers.put(record.aggregateId(), record.payload());
+                } else if (record.type() == ORDER_SAVED) {
+                    orders.put(record.aggregateId(), record.payload());
+                }
+            });
+        }
+
+        private void snapshot() {
+            synchronized (snapshotLock) {
+                long sequence;
+                List<byte[]> courierStates;
+                List<byte[]> orderStates;
+                lock.lock();
+                try {
+                    sequence = log.getLastSequence();
+                    if (sequence == snapshotSequence) {
+                        return;
+                    }
+                    courierStates = new ArrayList<>(couriers.values());
+                    orderStates = new ArrayList<>(orders.values());
+                } finally {
+                    lock.unlock();
+                }
+                log.flush();
+                snapshots.write(sequence, courierStates, orderStates);
+                snapshotSequence = sequence;
+            }
+        }
+    }
+
+    /**
+     * Encoded states of one aggregate type of a shard, with the ids of every status. Writes
+     * happen under the shard lock; reads may run concurrently and filter by the status of the
+     * state they find, since an id briefly shows up under both statuses while it changes.
+     */
+    private static final class AggregateStates {
+        private final Map<UUID, byte[]> states = new ConcurrentHashMap<>();
+        private final List<Set<UUID>> idsByStatus = new ArrayList<>();
+
+        private AggregateStates(int statusCount) {
+            for (int i = 0; i < statusCount; i++) {
+                idsByStatus.add(ConcurrentHashMap.newKeySet());
+            }
+        }
+
+        private void put(UUID id, byte[] payload) {
+            int status = AggregateCodec.statusOf(payload);
+            idsByStatus.get(status).add(id);
+            byte[] previous = states.put(id, payload);
+            if (previous != null && AggregateCodec.statusOf(previous) != status) {
+                idsByStatus.get(AggregateCodec.statusOf(previous)).remove(id);
+            }
+        }
+
+        private byte[] get(UUID id) {
+            return states.get(id);
+        }
+
+        private Collection<byte[]> values() {
+            return states.values();
+        }
+
+        private int size() {
+            return states.size();
+        }
+
+        private int count(int status) {
+            return idsByStatus.get(status).size();
+        }
+
+        private Stream<byte[]> withStatus(int status) {
+            return idsByStatus.get(status).stream()
+                    .map(states::get)
+                    .filter(payload -> payload != null && AggregateCodec.statusOf(payload) == status);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import java.time.Duration;
+
+/**
+ * What opening an {@link EventStore} took: aggregates loaded from snapshots and events replayed after them.
+ */
+public record Recovery(long snapshotAggregates, long replayedEvents, Duration duration) {
+}
@@ -0,0 +1,231 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only event log stored in fixed-size memory-mapped segment files, each named after
+ * the sequence of its first record. A record is
+ * {@code [int length][int crc][long sequence][long timestamp][byte type][long msb][long lsb][payload]},
+ * where length and crc cover everything after the crc. The length is written last and a
+ * zero length ends a segment, so a record cut short by a crash is ignored on open and
+ * overwritten by the next append. Appends survive a process crash once written; they
+ * survive a machine crash after {@link #flush()}.
+ */
+public class SegmentedEventLog implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    public static final int MIN_SEGMENT_SIZE = 1024;
+    private static final int HEADER_SIZE = 8;
+    private static final int FIXED_BODY_SIZE = 8 + 8 + 1 + 16;
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private final CRC32C crc = new CRC32C();
+    private FileChannel channel;
+    private MappedByteBuffer active;
+    private long activeBase;
+    private long nextSequence;
+
+    public SegmentedEventLog(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public SegmentedEventLog(Path directory, int segmentSize) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                        .forEach(path -> segments.put(baseOf(path), path));
+            }
+            if (segments.isEmpty()) {
+                openSegment(1);
+            } else {
+                openLastSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized long append(byte type, UUID aggregateId, long timestamp, byte[] payload) {
+        if (aggregateId == null) {
+            throw new IllegalArgumentException("Aggregate id cannot be null");
+        }
+        if (payload == null) {
+            throw new IllegalArgumentException("Payload cannot be null");
+        }
+        int length = FIXED_BODY_SIZE + payload.length;
+        if (HEADER_SIZE + length > segmentSize) {
+            throw new IllegalArgumentException("Event is larger than a segment");
+        }
+        if (active.remaining() < HEADER_SIZE + length) {
+            roll();
+        }
+
+        int position = active.position();
+        long sequence = nextSequence++;
+        active.position(position + HEADER_SIZE);
+        active.putLong(sequence)
+                .putLong(timestamp)
+                .put(type)
+                .putLong(aggregateId.getMostSignificantBits())
+                .putLong(aggregateId.getLeastSignificantBits())
+                .put(payload);
+        crc.reset();
+        crc.update(active.slice(position + HEADER_SIZE, length));
+        active.putInt(position + 4, (int) crc.getValue());
+        active.putInt(position, length);
+        return sequence;
+    }
+
+    /**
+     * Passes every record after {@code afterSequence} to the consumer in sequence order and
+     * returns how many were passed.
+     */
+    public synchronized long replay(long afterSequence, Consumer<EventRecord> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+
+        Long first = segments.floorKey(afterSequence + 1);
+        long replayed = 0;
+        for (Map.Entry<Long, Path> segment : segments.tailMap(first == null ? segments.firstKey() : first, true).entrySet()) {
+            long base = segment.getKey();
+            ByteBuffer buffer = base == activeBase ? active.duplicate() : mapReadOnly(segment.getValue());
+            int position = 0;
+            long expected = base;
+            for (int size; (size = recordSize(buffer, position, expected)) > 0; position += size, expected++) {
+                if (expected > afterSequence) {
+                    consumer.accept(read(buffer, position));
+                    replayed++;
+                }
+            }
+            Long next = segments.higherKey(base);
+            if (next != null && next != expected) {
+                throw new IllegalStateException("Event log segment " + segment.getValue() + " is corrupt");
+            }
+        }
+        return replayed;
+    }
+
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public synchronized void flush() {
+        active.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        active.force();
+        channel.close();
+    }
+
+    private void openLastSegment() throws IOException {
+        Map.Entry<Long, Path> last = segments.lastEntry();
+        map(last.getValue(), last.getKey());
+
+        int position = 0;
+        long expected = activeBase;
+        for (int size; (size = recordSize(active, position, expected)) > 0; position += size, expected++) {
+            // skip to the end of the valid records
+        }
+        if (position + 4 <= active.limit() && active.getInt(position) != 0) {
+            for (int i = position; i < active.limit(); i++) {
+                active.put(i, (byte) 0);
+            }
+        }
+        active.position(position);
+        nextSequence = expected;
+    }
+
+    private void roll() throws UncheckedIOException {
+        try {
+            active.force();
+            channel.close();
+            openSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSegment(long base) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", base, SUFFIX));
+        map(path, base);
+        segments.put(base, path);
+        nextSequence = base;
+    }
+
+    private void map(Path path, long base) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        activeBase = base;
+    }
+
+    private int recordSize(ByteBuffer buffer, int position, long expectedSequence) {
+        if (position + HEADER_SIZE > buffer.limit()) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length < FIXED_BODY_SIZE || length > buffer.limit() - position - HEADER_SIZE
+                || buffer.getLong(position + HEADER_SIZE) != expectedSequence) {
+            return -1;
+        }
+        crc.reset();
+        crc.update(buffer.slice(position + HEADER_SIZE, length));
+        return (int) crc.getValue() == buffer.getInt(position + 4) ? HEADER_SIZE + length : -1;
+    }
+
+    private static EventRecord read(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        ByteBuffer body = buffer.slice(position + HEADER_SIZE, length);
+        long sequence = body.getLong();
+        long timestamp = body.getLong();
+        byte type = body.get();
+        UUID aggregateId = new UUID(body.getLong(), body.getLong());
+        byte[] payload = new byte[body.remaining()];
+        body.get(payload);
+        return new EventRecord(sequence, timestamp, type, aggregateId, payload);
+    }
+
+    private static ByteBuffer mapReadOnly(Path path) {
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long baseOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,152 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot files of the courier and order state of one shard as of an event log sequence.
+ * A snapshot is written to a temporary file and moved into place, and ends with a checksum;
+ * a damaged latest snapshot is skipped in favour of the one before it. The two most recent
+ * snapshots are kept.
+ */
+public class SnapshotStore {
+    private static final int MAGIC = 0x44534e50;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+    private static final int RETAINED = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        this.directory = directory;
+    }
+
+    public void write(long sequence, Collection<byte[]> couriers, Collection<byte[]> orders) {
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream file = Files.newOutputStream(temporary)) {
+                CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file, BUFFER_SIZE), new CRC32C());
+                DataOutputStream output = new DataOutputStream(checked);
+                output.writeInt(MAGIC);
+                output.writeLong(sequence);
+                writePayloads(output, couriers);
+                writePayloads(output, orders);
+                output.flush();
+                output.writeLong(checked.getChecksum().getValue());
+                output.flush();
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            List<Path> snapshots = list();
+            for (int i = 0; i < snapshots.size() - RETAINED; i++) {
+                Files.deleteIfExists(snapshots.get(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads the latest intact snapshot and returns its sequence, or 0 when there is none.
+     */
+    public long load(Consumer<byte[]> couriers, Consumer<byte[]> orders) {
+        if (couriers == null || orders == null) {
+            throw new IllegalArgumentException("Consumers cannot be null");
+        }
+
+        List<Path> snapshots = list();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                return load(snapshots.get(i), couriers, orders);
+            } catch (IOException | RuntimeException e) {
+                // fall back to the previous snapshot
+            }
+        }
+        return 0;
+    }
+
+    private long load(Path path, Consumer<byte[]> couriers, Consumer<byte[]> orders) throws IOException {
+        List<byte[]> courierPayloads;
+        List<byte[]> orderPayloads;
+        long sequence;
+        try (InputStream file = Files.newInputStream(path)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, BUFFER_SIZE), new CRC32C());
+            DataInputStream input = new DataInputStream(checked);
+            if (input.readInt() != MAGIC) {
+                throw new IllegalStateException("Snapshot " + path + " is not a snapshot file");
+            }
+            sequence = input.readLong();
+            courierPayloads = readPayloads(input);
+            orderPayloads = readPayloads(input);
+            long checksum = checked.getChecksum().getValue();
+            if (input.readLong() != checksum) {
+                throw new IllegalStateException("Snapshot " + path + " is corrupt");
+            }
+        }
+        courierPayloads.forEach(couriers);
+        orderPayloads.forEach(orders);
+        return sequence;
+    }
+
+    private List<Path> list() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writePayloads(DataOutputStream output, Collection<byte[]> payloads) throws IOException {
+        output.writeInt(payloads.size());
+        for (byte[] payload : payloads) {
+            output.writeInt(payload.length);
+            output.write(payload);
+        }
+    }
+
+    private static List<byte[]> readPayloads(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        if (count < 0) {
+            throw new IllegalStateException("Snapshot is corrupt");
+        }
+        List<byte[]> payloads = new ArrayList<>(Math.min(count, 1 << 20));
+        for (int i = 0; i < count; i++) {
+            byte[] payload = new byte[input.readInt()];
+            input.readFully(payload);
+            payloads.add(payload);
+        }
+        return payloads;
+    }
+}
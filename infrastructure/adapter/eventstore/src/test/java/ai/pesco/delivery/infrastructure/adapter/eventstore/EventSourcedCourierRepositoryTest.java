@@ -0,0 +1,66 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSourcedCourierRepositoryTest {
+    @TempDir
+    Path directory;
+    private EventStore store;
+    private EventSourcedCourierRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = EventStore.open(directory, 2, 4096, 100);
+        repository = new EventSourcedCourierRepository(store);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void findById_SavedCourier_ReturnsDetachedCopy() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        repository.save(courier);
+
+        repository.findById(courier.getId()).orElseThrow().moveTo(Location.of(3, 1));
+
+        assertEquals(Location.of(1, 1), repository.findById(courier.getId()).orElseThrow().getLocation());
+    }
+
+    @Test
+    void findAllFree_MixedFleet_ReturnsFreeCouriersOnly() {
+        Courier free = new Courier("John", "Car", 2, Location.of(1, 1));
+        Courier busy = new Courier("Jane", "Car", 2, Location.of(1, 1));
+        busy.assignOrder(new Order(UUID.randomUUID(), Location.of(5, 5)));
+        repository.saveAll(List.of(free, busy));
+
+        assertEquals(List.of(free), repository.findAllFree());
+        assertEquals(1, repository.countByStatus(CourierStatus.BUSY));
+        assertEquals(List.of(busy), repository.findAllById(List.of(busy.getId(), UUID.randomUUID())));
+        try (Stream<Courier> stream = repository.streamAll()) {
+            assertEquals(2, stream.count());
+        }
+    }
+
+    @Test
+    void constructor_NullStore_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new EventSourcedCourierRepository(null));
+        assertEquals("Store cannot be null", exception.getMessage());
+    }
+}
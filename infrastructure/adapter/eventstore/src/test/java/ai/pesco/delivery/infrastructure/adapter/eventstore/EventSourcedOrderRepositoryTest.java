@@ -0,0 +1,51 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSourcedOrderRepositoryTest {
+    @TempDir
+    Path directory;
+    private EventStore store;
+    private EventSourcedOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = EventStore.open(directory, 2, 4096, 100);
+        repository = new EventSourcedOrderRepository(store);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void findAllCreated_MixedOrders_ReturnsCreatedOrdersOnly() {
+        Order created = new Order(UUID.randomUUID(), Location.of(2, 2));
+        Order assigned = new Order(UUID.randomUUID(), Location.of(3, 3));
+        assigned.assignToCourier(new Courier("John", "Car", 2, Location.of(1, 1)));
+        repository.saveAll(List.of(created, assigned));
+
+        assertEquals(List.of(created), repository.findAllCreated());
+        assertEquals(OrderStatus.ASSIGNED, repository.findById(assigned.getId()).orElseThrow().getStatus());
+        assertEquals(List.of(created, assigned), repository.findAllById(List.of(created.getId(), assigned.getId())));
+    }
+
+    @Test
+    void findById_UnknownOrder_ReturnsEmpty() {
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+}
@@ -0,0 +1,236 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierMovedDomainEvent;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderAssignedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderCreatedDomainEvent;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void saveCouriers_ThenReopen_RestoresLatestState() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        Order second = new Order(UUID.randomUUID(), Location.of(7, 7));
+        try (EventStore store = EventStore.open(directory, 4, 4096, 1000)) {
+            store.saveCouriers(List.of(courier));
+            courier.addToRoute(first, 0);
+            courier.addToRoute(second, 1);
+            courier.moveTo(Location.of(3, 2));
+            first.assignToCourier(courier);
+            store.saveCouriers(List.of(courier));
+            store.saveOrders(List.of(first, second));
+
+            assertFalse(courier.hasDomainEvents());
+            assertFalse(first.hasDomainEvents());
+        }
+
+        try (EventStore store = EventStore.open(directory, 4, 4096, 1000)) {
+            Courier restored = store.findCourier(courier.getId()).orElseThrow();
+            assertEquals(Location.of(3, 2), restored.getLocation());
+            assertEquals(List.of(first.getId(), second.getId()), restored.getRoute());
+            assertEquals(CourierStatus.BUSY, restored.getStatus());
+            assertEquals(OrderStatus.ASSIGNED, store.findOrder(first.getId()).orElseThrow().getStatus());
+            assertEquals(OrderStatus.CREATED, store.findOrder(second.getId()).orElseThrow().getStatus());
+            assertEquals(8, store.getRecovery().replayedEvents());
+        }
+    }
+
+    @Test
+    void open_AfterSnapshot_ReplaysOnlyTheTail() throws Exception {
+        List<Courier> couriers = new ArrayList<>();
+        try (EventStore store = EventStore.open(directory, 4, 1 << 16, 1_000_000)) {
+            for (int i = 0; i < 5000; i++) {
+                couriers.add(new Courier("Courier " + i, "Bike", 1, Location.of(1, 1)));
+            }
+            store.saveCouriers(couriers);
+            store.snapshot();
+            for (int i = 0; i < 100; i++) {
+                couriers.get(i).moveTo(Location.of(2, 1));
+            }
+            store.saveCouriers(couriers.subList(0, 100));
+        }
+
+        try (EventStore store = EventStore.open(directory, 4, 1 << 16, 1_000_000)) {
+            assertEquals(5000, store.getRecovery().snapshotAggregates());
+            assertEquals(200, store.getRecovery().replayedEvents());
+            assertEquals(5000, store.couriers().count());
+            assertEquals(Location.of(2, 1), store.findCourier(couriers.get(99).getId()).orElseThrow().getLocation());
+            assertEquals(Location.of(1, 1), store.findCourier(couriers.get(100).getId()).orElseThrow().getLocation());
+        }
+    }
+
+    @Test
+    void replayHistory_SeveralSaves_KeepsEveryState() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1)) {
+            store.saveCouriers(List.of(courier));
+            courier.moveTo(Location.of(4, 1));
+            store.saveCouriers(List.of(courier));
+            store.snapshot();
+
+            List<Location> history = new ArrayList<>();
+            store.replayHistory(record -> {
+                if (record.type() == EventStore.COURIER_SAVED) {
+                    history.add(AggregateCodec.decodeCourier(record.payload()).getLocation());
+                }
+            });
+
+            assertEquals(List.of(Location.of(1, 1), Location.of(4, 1)), history);
+        }
+    }
+
+    @Test
+    void replayEvents_SavedAggregates_ReturnsTheirDomainEventsInOrder() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        order.assignToCourier(courier);
+        courier.moveTo(Location.of(4, 1));
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1000)) {
+            store.saveOrders(List.of(order));
+            store.saveCouriers(List.of(courier));
+        }
+
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1000)) {
+            List<DomainEvent> events = new ArrayList<>();
+            store.replayEvents(events::add);
+
+            assertEquals(List.of(OrderCreatedDomainEvent.class, OrderAssignedDomainEvent.class, CourierMovedDomainEvent.class),
+                    events.stream().map(Object::getClass).toList());
+            assertEquals(courier.getId(), ((OrderAssignedDomainEvent) events.get(1)).courierId());
+            assertEquals(Location.of(4, 1), ((CourierMovedDomainEvent) events.get(2)).location());
+        }
+    }
+
+    @Test
+    void saveCouriers_StaleCopy_ThrowsAndSavesNothing() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Courier other = new Courier("Jane", "Car", 3, Location.of(1, 1));
+        try (EventStore store = EventStore.open(directory, 4, 4096, 1000)) {
+            store.saveCouriers(List.of(courier, other));
+            Courier first = store.findCourier(courier.getId()).orElseThrow();
+            Courier second = store.findCourier(courier.getId()).orElseThrow();
+            first.moveTo(Location.of(2, 1));
+            store.saveCouriers(List.of(first));
+            second.moveTo(Location.of(1, 2));
+            other.moveTo(Location.of(5, 5));
+
+            Exception exception = assertThrows(IllegalStateException.class,
+                    () -> store.saveCouriers(List.of(other, second)));
+
+            assertEquals("Aggregates were changed concurrently: [" + courier.getId() + "]", exception.getMessage());
+            assertEquals(Location.of(2, 1), store.findCourier(courier.getId()).orElseThrow().getLocation());
+            assertEquals(Location.of(1, 1), store.findCourier(other.getId()).orElseThrow().getLocation());
+            assertTrue(other.hasDomainEvents());
+            assertEquals(1, store.findCourier(courier.getId()).orElseThrow().getVersion());
+        }
+    }
+
+    @Test
+    void saveOrders_NewOrderWithStoredId_ThrowsIllegalStateException() throws Exception {
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1000)) {
+            store.saveOrders(List.of(order));
+
+            Order duplicate = new Order(order.getId(), Location.of(6, 6));
+
+            assertThrows(IllegalStateException.class, () -> store.saveOrders(List.of(duplicate)));
+            assertEquals(Location.of(5, 5), store.findOrder(order.getId()).orElseThrow().getLocation());
+        }
+    }
+
+    @Test
+    void couriers_StatusChangedAndReopened_IndexesLatestStatus() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        try (EventStore store = EventStore.open(directory, 2, 4096, 1000)) {
+            store.saveCouriers(List.of(courier, new Courier("Jane", "Car", 3, Location.of(1, 1))));
+            store.snapshot();
+            courier.assignOrder(order);
+            order.assignToCourier(courier);
+            store.saveCouriers(List.of(courier));
+            store.saveOrders(List.of(order));
+        }
+
+        try (EventStore store = EventStore.open(directory, 2, 4096, 1000)) {
+            assertEquals(1, store.countCouriers(CourierStatus.FREE));
+            assertEquals(List.of(courier), store.couriers(CourierStatus.BUSY).toList());
+            assertEquals(List.of(order), store.orders(OrderStatus.ASSIGNED).toList());
+            assertEquals(0, store.orders(OrderStatus.CREATED).count());
+        }
+    }
+
+    @Test
+    void start_DueShard_IsSnapshottedInBackground() throws Exception {
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1)) {
+            store.start(Duration.ofMillis(10));
+            store.saveCouriers(List.of(new Courier("John", "Car", 3, Location.of(1, 1))));
+            Thread.sleep(200);
+        }
+
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1)) {
+            assertEquals(1, store.getRecovery().snapshotAggregates());
+            assertEquals(0, store.getRecovery().replayedEvents());
+        }
+    }
+
+    @Test
+    void start_FailingSnapshot_CountsFailureAndKeepsMaintaining() throws Exception {
+        List<Path> blocked = new ArrayList<>();
+        for (int sequence = 1; sequence <= 20; sequence++) {
+            blocked.add(Files.createDirectories(directory.resolve("shard-0")
+                    .resolve(String.format("snapshot-%020d.bin.tmp", sequence))));
+        }
+
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1)) {
+            store.start(Duration.ofMillis(10));
+            store.saveCouriers(List.of(new Courier("John", "Car", 3, Location.of(1, 1))));
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (store.maintenanceFailures() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(store.maintenanceFailures() >= 2);
+
+            for (Path path : blocked) {
+                Files.delete(path);
+            }
+            Thread.sleep(200);
+        }
+
+        try (EventStore store = EventStore.open(directory, 1, 4096, 1)) {
+            assertEquals(1, store.getRecovery().snapshotAggregates());
+        }
+    }
+
+    @Test
+    void open_DifferentShardCount_ThrowsIllegalStateException() throws Exception {
+        EventStore.open(directory, 2, 4096, 10).close();
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> EventStore.open(directory, 3, 4096, 10));
+        assertEquals("Event store was created with 2 shards", exception.getMessage());
+    }
+
+    @Test
+    void open_InvalidSnapshotInterval_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> EventStore.open(directory, 1, 4096, 0));
+        assertEquals("Snapshot interval must be positive", exception.getMessage());
+    }
+}
@@ -0,0 +1,125 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedEventLogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_NewLog_AssignsSequencesFromOne() throws IOException {
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            assertEquals(1, log.append((byte) 1, UUID.randomUUID(), 10, new byte[]{1}));
+            assertEquals(2, log.append((byte) 1, UUID.randomUUID(), 11, new byte[]{2}));
+            assertEquals(2, log.getLastSequence());
+        }
+    }
+
+    @Test
+    void replay_AfterReopen_ReturnsEveryRecordInOrder() throws IOException {
+        UUID id = UUID.randomUUID();
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                log.append((byte) 2, id, i, new byte[]{(byte) i, 7});
+            }
+            assertTrue(log.getSegmentCount() > 1);
+        }
+
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            List<EventRecord> records = new ArrayList<>();
+            assertEquals(500, log.replay(0, records::add));
+            for (int i = 0; i < 500; i++) {
+                EventRecord record = records.get(i);
+                assertEquals(i + 1, record.sequence());
+                assertEquals(i, record.timestamp());
+                assertEquals(2, record.type());
+                assertEquals(id, record.aggregateId());
+                assertArrayEquals(new byte[]{(byte) i, 7}, record.payload());
+            }
+            assertEquals(501, log.append((byte) 2, id, 0, new byte[0]));
+        }
+    }
+
+    @Test
+    void replay_AfterSequence_SkipsEarlierRecords() throws IOException {
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            for (int i = 0; i < 300; i++) {
+                log.append((byte) 1, UUID.randomUUID(), i, new byte[8]);
+            }
+
+            List<Long> sequences = new ArrayList<>();
+            log.replay(250, record -> sequences.add(record.sequence()));
+
+            assertEquals(50, sequences.size());
+            assertEquals(251, sequences.getFirst());
+            assertEquals(300, sequences.getLast());
+        }
+    }
+
+    @Test
+    void open_TornLastRecord_DropsItAndAppendsInItsPlace() throws IOException {
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            log.append((byte) 1, UUID.randomUUID(), 1, new byte[]{1, 2, 3});
+            log.append((byte) 1, UUID.randomUUID(), 2, new byte[]{4, 5, 6});
+        }
+        corruptLastByteOf(2);
+
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            assertEquals(1, log.getLastSequence());
+            assertEquals(2, log.append((byte) 1, UUID.randomUUID(), 3, new byte[]{9}));
+        }
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 4096)) {
+            List<EventRecord> records = new ArrayList<>();
+            log.replay(0, records::add);
+            assertEquals(2, records.size());
+            assertArrayEquals(new byte[]{9}, records.getLast().payload());
+        }
+    }
+
+    @Test
+    void append_EventLargerThanSegment_ThrowsIllegalArgumentException() throws IOException {
+        try (SegmentedEventLog log = new SegmentedEventLog(directory, 1024)) {
+            Exception exception = assertThrows(IllegalArgumentException.class,
+                    () -> log.append((byte) 1, UUID.randomUUID(), 0, new byte[1024]));
+            assertEquals("Event is larger than a segment", exception.getMessage());
+        }
+    }
+
+    @Test
+    void constructor_TooSmallSegment_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new SegmentedEventLog(directory, 16));
+        assertEquals("Segment size must be at least 1024 bytes", exception.getMessage());
+    }
+
+    private void corruptLastByteOf(int records) throws IOException {
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int position = 0;
+            ByteBuffer length = ByteBuffer.allocate(4);
+            for (int i = 1; i < records; i++) {
+                channel.read(length.clear(), position);
+                position += 8 + length.flip().getInt();
+            }
+            channel.read(length.clear(), position);
+            int end = position + 8 + length.flip().getInt() - 1;
+            channel.write(ByteBuffer.wrap(new byte[]{42}), end);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ai.pesco.delivery.infrastructure.adapter.eventstore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void load_NoSnapshot_ReturnsZero() {
+        assertEquals(0, new SnapshotStore(directory).load(payload -> fail(), payload -> fail()));
+    }
+
+    @Test
+    void load_WrittenSnapshot_ReturnsPayloadsAndSequence() {
+        SnapshotStore store = new SnapshotStore(directory);
+        store.write(42, List.of(new byte[]{1}, new byte[]{2, 3}), List.of(new byte[]{4}));
+
+        List<byte[]> couriers = new ArrayList<>();
+        List<byte[]> orders = new ArrayList<>();
+        assertEquals(42, store.load(couriers::add, orders::add));
+
+        assertEquals(2, couriers.size());
+        assertArrayEquals(new byte[]{2, 3}, couriers.get(1));
+        assertArrayEquals(new byte[]{4}, orders.getFirst());
+    }
+
+    @Test
+    void load_CorruptLatestSnapshot_FallsBackToPrevious() throws IOException {
+        SnapshotStore store = new SnapshotStore(directory);
+        store.write(1, List.of(new byte[]{1}), List.of());
+        store.write(2, List.of(new byte[]{2}), List.of());
+        Path latest = snapshots().getLast();
+        byte[] bytes = Files.readAllBytes(latest);
+        bytes[bytes.length - 12] ^= 1;
+        Files.write(latest, bytes);
+
+        List<byte[]> couriers = new ArrayList<>();
+        assertEquals(1, store.load(couriers::add, payload -> {
+        }));
+        assertArrayEquals(new byte[]{1}, couriers.getFirst());
+    }
+
+    @Test
+    void write_ManySnapshots_KeepsTheLatestTwo() throws IOException {
+        SnapshotStore store = new SnapshotStore(directory);
+        for (int sequence = 1; sequence <= 5; sequence++) {
+            store.write(sequence, List.of(), List.of());
+        }
+
+        assertEquals(2, snapshots().size());
+        assertEquals(5, store.load(payload -> {
+        }, payload -> {
+        }));
+    }
+
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
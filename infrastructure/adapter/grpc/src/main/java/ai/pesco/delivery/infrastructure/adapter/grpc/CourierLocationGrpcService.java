@@ -0,0 +1,59 @@
+package ai.pesco.delivery.infrastructure.adapter.grpc;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.CourierLocationServiceGrpc;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.LocationAck;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.LocationUpdate;
+import io.grpc.stub.StreamObserver;
+
+import java.util.UUID;
+
+/**
+ * Receives location streams from courier devices and hands the updates to the
+ * {@link CourierLocationIngestor}. Updates outside the grid are counted as rejected
+ * instead of failing the stream.
+ */
+public class CourierLocationGrpcService extends CourierLocationServiceGrpc.CourierLocationServiceImplBase {
+    private final CourierLocationIngestor ingestor;
+
+    public CourierLocationGrpcService(CourierLocationIngestor ingestor) {
+        if (ingestor == null) {
+            throw new IllegalArgumentException("Ingestor cannot be null");
+        }
+        this.ingestor = ingestor;
+    }
+
+    @Override
+    public StreamObserver<LocationUpdate> streamLocations(StreamObserver<LocationAck> responses) {
+        LocationStream stream = ingestor.open(responses);
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(LocationUpdate update) {
+                if (isOnGrid(update.getX()) && isOnGrid(update.getY())) {
+                    ingestor.submit(new UUID(update.getCourierIdMsb(), update.getCourierIdLsb()),
+                            Location.of(update.getX(), update.getY()));
+                } else {
+                    stream.rejected();
+                }
+                stream.received(update.getSequence());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                ingestor.close(stream);
+                stream.cancel();
+            }
+
+            @Override
+            public void onCompleted() {
+                ingestor.close(stream);
+                stream.complete();
+            }
+        };
+    }
+
+    private static boolean isOnGrid(int coordinate) {
+        return coordinate >= Location.MIN_VALUE && coordinate <= Location.MAX_VALUE;
+    }
+}
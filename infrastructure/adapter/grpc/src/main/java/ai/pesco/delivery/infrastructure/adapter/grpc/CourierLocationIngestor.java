@@ -0,0 +1,156 @@
+package ai.pesco.delivery.infrastructure.adapter.grpc;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.LocationAck;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces location updates per courier and applies them in windows. Only the last
+ * location a courier reported within a window is kept, so memory is bounded by the
+ * fleet size, and a window costs one batched load and one batched save no matter how
+ * many pings arrived. Streams are acknowledged up to the last sequence they had sent
+ * before the window was drained, once the window is saved. A window that fails to save is
+ * logged, counted in {@link #failures()} and retried with the next one; its streams get no
+ * acknowledgement until then.
+ */
+@Slf4j
+public class CourierLocationIngestor implements AutoCloseable {
+    private final CourierRepository courierRepository;
+    private final Duration window;
+    private final Map<UUID, Location> pending = new ConcurrentHashMap<>();
+    private final Set<LocationStream> streams = ConcurrentHashMap.newKeySet();
+    private final LongAdder failures = new LongAdder();
+    private ScheduledExecutorService scheduler;
+
+    public CourierLocationIngestor(CourierRepository courierRepository, Duration window) {
+        if (courierRepository == null) {
+            throw new IllegalArgumentException("Courier repository cannot be null");
+        }
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+
+        this.courierRepository = courierRepository;
+        this.window = window;
+    }
+
+    public void submit(UUID courierId, Location location) {
+        if (courierId == null) {
+            throw new IllegalArgumentException("Courier id cannot be null");
+        }
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+        pending.put(courierId, location);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Moves every courier with a pending location and saves them in one batch. Returns the
+     * number of couriers that were found. On failure the drained locations are put back
+     * unless a newer one has arrived meanwhile.
+     */
+    public synchronized int flush() {
+        Map<LocationStream, Long> marks = new HashMap<>();
+        for (LocationStream stream : streams) {
+            marks.put(stream, stream.receivedSequence());
+        }
+
+        Map<UUID, Location> batch = new HashMap<>();
+        for (UUID courierId : pending.keySet()) {
+            Location location = pending.remove(courierId);
+            if (location != null) {
+                batch.put(courierId, location);
+            }
+        }
+
+        int moved = 0;
+        if (!batch.isEmpty()) {
+            try {
+                List<Courier> couriers = courierRepository.findAllById(batch.keySet());
+                for (Courier courier : couriers) {
+                    courier.moveTo(batch.get(courier.getId()));
+                }
+                courierRepository.saveAll(couriers);
+                moved = couriers.size();
+            } catch (RuntimeException e) {
+                batch.forEach(pending::putIfAbsent);
+                throw e;
+            }
+        }
+
+        marks.forEach(LocationStream::acknowledge);
+        return moved;
+    }
+
+    /**
+     * Number of background flushes that failed since the ingestor was created.
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Ingestor is already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("courier-location-flush").daemon().unstarted(runnable));
+        long period = window.toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and applies what is still pending.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current != null) {
+            current.shutdown();
+            current.awaitTermination(window.toMillis() + 10_000, TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+
+    LocationStream open(StreamObserver<LocationAck> responses) {
+        LocationStream stream = new LocationStream(responses);
+        streams.add(stream);
+        return stream;
+    }
+
+    void close(LocationStream stream) {
+        streams.remove(stream);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Courier location flush failed, retrying in {}", window, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ai.pesco.delivery.infrastructure.adapter.grpc;
+
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.LocationAck;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Acknowledgement state of one device stream. Updates are received on the gRPC thread
+ * and acknowledged from the flushing thread, so every access is synchronized.
+ */
+final class LocationStream {
+    private final StreamObserver<LocationAck> responses;
+    private long received = -1;
+    private long acknowledged = -1;
+    private long rejected;
+    private boolean closed;
+
+    LocationStream(StreamObserver<LocationAck> responses) {
+        this.responses = responses;
+    }
+
+    synchronized void received(long sequence) {
+        received = Math.max(received, sequence);
+    }
+
+    synchronized void rejected() {
+        rejected++;
+    }
+
+    synchronized long receivedSequence() {
+        return received;
+    }
+
+    synchronized void acknowledge(long sequence) {
+        if (closed || sequence <= acknowledged) {
+            return;
+        }
+        acknowledged = sequence;
+        responses.onNext(LocationAck.newBuilder().setSequence(sequence).setRejected(rejected).build());
+    }
+
+    synchronized void complete() {
+        if (!closed) {
+            closed = true;
+            responses.onCompleted();
+        }
+    }
+
+    synchronized void cancel() {
+        closed = true;
+    }
+}
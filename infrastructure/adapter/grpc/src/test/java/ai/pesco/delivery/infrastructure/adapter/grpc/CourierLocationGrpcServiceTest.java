@@ -0,0 +1,144 @@
+package ai.pesco.delivery.infrastructure.adapter.grpc;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.CourierLocationServiceGrpc;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.LocationAck;
+import ai.pesco.delivery.infrastructure.adapter.grpc.proto.LocationUpdate;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierLocationGrpcServiceTest {
+    private InMemoryCourierRepository repository;
+    private CourierLocationIngestor ingestor;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = new InMemoryCourierRepository();
+        ingestor = new CourierLocationIngestor(repository, Duration.ofSeconds(60));
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new CourierLocationGrpcService(ingestor))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void streamLocations_ManyPings_CoalescedAndAcknowledgedAfterFlush() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        repository.couriers.put(courier.getId(), courier);
+        Responses responses = new Responses();
+        StreamObserver<LocationUpdate> requests = CourierLocationServiceGrpc.newStub(channel).streamLocations(responses);
+
+        for (int i = 1; i <= 100; i++) {
+            requests.onNext(update(courier.getId(), i % 10 + 1, 2, i));
+        }
+        assertTrue(responses.acks.isEmpty());
+
+        assertEquals(1, ingestor.flush());
+        requests.onCompleted();
+        assertTrue(responses.completed.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of(100L), responses.acks.stream().map(LocationAck::getSequence).toList());
+        assertEquals(Location.of(1, 2), repository.couriers.get(courier.getId()).getLocation());
+        assertEquals(1, repository.saves.get());
+    }
+
+    @Test
+    void streamLocations_OffGridUpdate_RejectedWithoutClosingStream() throws Exception {
+        Courier courier = new Courier("John", "Car", 3, Location.of(1, 1));
+        repository.couriers.put(courier.getId(), courier);
+        Responses responses = new Responses();
+        StreamObserver<LocationUpdate> requests = CourierLocationServiceGrpc.newStub(channel).streamLocations(responses);
+
+        requests.onNext(update(courier.getId(), 0, 2, 1));
+        requests.onNext(update(courier.getId(), 3, 2, 2));
+        ingestor.flush();
+        requests.onCompleted();
+        assertTrue(responses.completed.await(5, TimeUnit.SECONDS));
+
+        LocationAck ack = responses.acks.getLast();
+        assertEquals(2, ack.getSequence());
+        assertEquals(1, ack.getRejected());
+        assertEquals(Location.of(3, 2), repository.couriers.get(courier.getId()).getLocation());
+    }
+
+    @Test
+    void streamLocations_SeveralDevices_EachStreamAcknowledged() throws Exception {
+        Courier first = new Courier("John", "Car", 3, Location.of(3, 3));
+        Courier second = new Courier("Jane", "Car", 3, Location.of(5, 5));
+        repository.couriers.put(first.getId(), first);
+        repository.couriers.put(second.getId(), second);
+        Responses firstResponses = new Responses();
+        Responses secondResponses = new Responses();
+        StreamObserver<LocationUpdate> firstRequests = CourierLocationServiceGrpc.newStub(channel).streamLocations(firstResponses);
+        StreamObserver<LocationUpdate> secondRequests = CourierLocationServiceGrpc.newStub(channel).streamLocations(secondResponses);
+
+        firstRequests.onNext(update(first.getId(), 4, 4, 7));
+        secondRequests.onNext(update(second.getId(), 6, 6, 3));
+        assertEquals(2, ingestor.flush());
+        firstRequests.onCompleted();
+        secondRequests.onCompleted();
+
+        assertTrue(firstResponses.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(secondResponses.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(7, firstResponses.acks.getLast().getSequence());
+        assertEquals(3, secondResponses.acks.getLast().getSequence());
+        assertEquals(1, repository.saves.get());
+    }
+
+    private static LocationUpdate update(UUID courierId, int x, int y, long sequence) {
+        return LocationUpdate.newBuilder()
+                .setCourierIdMsb(courierId.getMostSignificantBits())
+                .setCourierIdLsb(courierId.getLeastSignificantBits())
+                .setX(x)
+                .setY(y)
+                .setSequence(sequence)
+                .build();
+    }
+
+    private static final class Responses implements StreamObserver<LocationAck> {
+        private final List<LocationAck> acks = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onNext(LocationAck ack) {
+            acks.add(ack);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.countDown();
+        }
+    }
+}
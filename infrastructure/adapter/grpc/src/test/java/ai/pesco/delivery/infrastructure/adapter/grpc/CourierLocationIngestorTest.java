@@ -0,0 +1,130 @@
+package ai.pesco.delivery.infrastructure.adapter.grpc;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierLocationIngestorTest {
+    private InMemoryCourierRepository repository;
+    private CourierLocationIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryCourierRepository();
+        ingestor = new CourierLocationIngestor(repository, Duration.ofMillis(50));
+    }
+
+    @Test
+    void flush_ManyUpdatesPerCourier_AppliesLastOneInOneBatch() {
+        Courier first = add(new Courier("John", "Car", 3, Location.of(9, 2)));
+        Courier second = add(new Courier("Jane", "Car", 3, Location.of(9, 6)));
+
+        for (int x = 1; x <= 10; x++) {
+            ingestor.submit(first.getId(), Location.of(x, 3));
+            ingestor.submit(second.getId(), Location.of(x, 7));
+        }
+        int moved = ingestor.flush();
+
+        assertEquals(2, moved);
+        assertEquals(1, repository.loads.get());
+        assertEquals(1, repository.saves.get());
+        assertEquals(Location.of(10, 3), repository.couriers.get(first.getId()).getLocation());
+        assertEquals(Location.of(10, 7), repository.couriers.get(second.getId()).getLocation());
+        assertEquals(0, ingestor.pendingCount());
+    }
+
+    @Test
+    void flush_UpdateBeyondSpeed_MovesCourierOneStep() {
+        Courier courier = add(new Courier("John", "Bike", 1, Location.of(1, 1)));
+
+        ingestor.submit(courier.getId(), Location.of(5, 1));
+        ingestor.flush();
+
+        assertEquals(Location.of(2, 1), repository.couriers.get(courier.getId()).getLocation());
+    }
+
+    @Test
+    void flush_UnknownCourier_IsIgnored() {
+        ingestor.submit(UUID.randomUUID(), Location.of(5, 1));
+
+        assertEquals(0, ingestor.flush());
+        assertEquals(0, ingestor.pendingCount());
+    }
+
+    @Test
+    void flush_NothingPending_DoesNotTouchRepository() {
+        assertEquals(0, ingestor.flush());
+        assertEquals(0, repository.loads.get());
+    }
+
+    @Test
+    void flush_SaveFails_KeepsNewerLocation() {
+        Courier courier = add(new Courier("John", "Car", 3, Location.of(3, 3)));
+        Courier other = add(new Courier("Jane", "Car", 3, Location.of(8, 8)));
+        repository.saveFailure = new IllegalStateException("Database is down");
+        ingestor.submit(courier.getId(), Location.of(4, 4));
+        ingestor.submit(other.getId(), Location.of(6, 6));
+
+        assertThrows(IllegalStateException.class, () -> ingestor.flush());
+        ingestor.submit(other.getId(), Location.of(9, 9));
+        ingestor.flush();
+
+        assertEquals(Location.of(4, 4), repository.couriers.get(courier.getId()).getLocation());
+        assertEquals(Location.of(9, 9), repository.couriers.get(other.getId()).getLocation());
+    }
+
+    @Test
+    void start_PeriodicFlush_AppliesWithoutExplicitFlush() throws Exception {
+        Courier courier = add(new Courier("John", "Car", 3, Location.of(6, 7)));
+        ingestor.start();
+        ingestor.submit(courier.getId(), Location.of(8, 8));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!repository.couriers.get(courier.getId()).getLocation().equals(Location.of(8, 8))) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        ingestor.close();
+    }
+
+    @Test
+    void start_FailingFlush_CountsFailureAndRetries() throws Exception {
+        Courier courier = add(new Courier("John", "Car", 3, Location.of(6, 7)));
+        repository.saveFailure = new IllegalStateException("Database is down");
+        ingestor.submit(courier.getId(), Location.of(8, 8));
+        ingestor.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!repository.couriers.get(courier.getId()).getLocation().equals(Location.of(8, 8))) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        ingestor.close();
+
+        assertEquals(1, ingestor.failures());
+    }
+
+    @Test
+    void submit_NullLocation_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> ingestor.submit(UUID.randomUUID(), null));
+        assertEquals("Location cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void constructor_ZeroWindow_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new CourierLocationIngestor(repository, Duration.ZERO));
+        assertEquals("Window must be positive", exception.getMessage());
+    }
+
+    private Courier add(Courier courier) {
+        repository.couriers.put(courier.getId(), courier);
+        return courier;
+    }
+}
@@ -0,0 +1,71 @@
+package ai.pesco.delivery.infrastructure.adapter.grpc;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+final class InMemoryCourierRepository implements CourierRepository {
+    final Map<UUID, Courier> couriers = new ConcurrentHashMap<>();
+    final AtomicInteger loads = new AtomicInteger();
+    final AtomicInteger saves = new AtomicInteger();
+    volatile RuntimeException saveFailure;
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        return Optional.ofNullable(copy(couriers.get(id)));
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        loads.incrementAndGet();
+        List<Courier> result = new ArrayList<>();
+        for (UUID id : ids) {
+            Courier courier = couriers.get(id);
+            if (courier != null) {
+                result.add(copy(courier));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return couriers.values().stream().filter(courier -> courier.getStatus() == CourierStatus.FREE).toList();
+    }
+
+    @Override
+    public long countByStatus(CourierStatus status) {
+        return couriers.values().stream().filter(courier -> courier.getStatus() == status).count();
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return couriers.values().stream().map(InMemoryCourierRepository::copy);
+    }
+
+    @Override
+    public void saveAll(Collection<Courier> batch) {
+        saves.incrementAndGet();
+        if (saveFailure != null) {
+            RuntimeException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+        batch.forEach(courier -> couriers.put(courier.getId(), copy(courier)));
+    }
+
+    private static Courier copy(Courier courier) {
+        return courier == null ? null : Courier.restore(courier.getId(), courier.getName(), courier.getTransport(),
+                courier.getLocation(), courier.getStatus(), courier.getOrderId());
+    }
+}
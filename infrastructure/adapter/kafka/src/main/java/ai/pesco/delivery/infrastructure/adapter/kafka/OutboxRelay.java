@@ -0,0 +1,199 @@
+package ai.pesco.delivery.infrastructure.adapter.kafka;
+
+import ai.pesco.delivery.core.application.ports.OutboxMessage;
+import ai.pesco.delivery.core.application.ports.OutboxStore;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes outbox messages to Kafka. Each pass sends up to {@code batchSize} messages
+ * without flushing, waits for all acknowledgements once and only then deletes the rows,
+ * so delivery is at least once and consumers should deduplicate by the
+ * {@value #OUTBOX_ID_HEADER} header. Messages are keyed by aggregate id, which together
+ * with the idempotent producer keeps the events of one aggregate in order. A failed pass
+ * is logged, counted in {@link #failures()} and retried after {@code maxDelay}.
+ */
+@Slf4j
+public class OutboxRelay implements Runnable, AutoCloseable {
+    public static final String EVENT_TYPE_HEADER = "event-type";
+    public static final String OUTBOX_ID_HEADER = "outbox-id";
+
+    private final OutboxStore outboxStore;
+    private final Producer<String, byte[]> producer;
+    private final String topic;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration sendTimeout;
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxRelay(OutboxStore outboxStore, Producer<String, byte[]> producer, String topic,
+                       int batchSize, Duration maxDelay) {
+        if (outboxStore == null) {
+            throw new IllegalArgumentException("Outbox store cannot be null");
+        }
+        if (producer == null) {
+            throw new IllegalArgumentException("Producer cannot be null");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Topic cannot be null or empty");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxDelay == null || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Max delay cannot be null or negative");
+        }
+
+        this.outboxStore = outboxStore;
+        this.producer = producer;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.sendTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Producer settings for outbox publishing: idempotent, fully acknowledged, lz4
+     * compressed, and batched by size or by {@code linger}, whichever comes first.
+     */
+    public static Map<String, Object> producerConfig(String bootstrapServers, Duration linger) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        config.put(ProducerConfig.LINGER_MS_CONFIG, (int) linger.toMillis());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024);
+        return config;
+    }
+
+    public static Producer<String, byte[]> createProducer(String bootstrapServers, Duration linger) {
+        return new KafkaProducer<>(producerConfig(bootstrapServers, linger));
+    }
+
+    /**
+     * Publishes one batch and returns the number of relayed messages.
+     */
+    public int relay() {
+        List<OutboxMessage> messages = outboxStore.fetch(batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<RecordMetadata>> futures = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            futures.add(producer.send(toRecord(message)));
+        }
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (Future<RecordMetadata> future : futures) {
+            await(future, deadline);
+        }
+
+        List<Long> ids = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            ids.add(message.id());
+        }
+        outboxStore.delete(ids);
+        return messages.size();
+    }
+
+    /**
+     * Number of background passes that failed since the relay was created.
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * Relays until closed. A full batch is followed immediately by the next one; otherwise
+     * the relay waits {@code maxDelay} before polling the outbox again.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                if (relay() < batchSize) {
+                    Thread.sleep(maxDelay);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Outbox relay pass failed, retrying in {}", maxDelay, e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("Relay is already started");
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("outbox-relay").daemon().start(this);
+    }
+
+    @Override
+    public synchronized void close() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join();
+            thread = null;
+        }
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(OutboxMessage message) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(EVENT_TYPE_HEADER, message.type().getBytes(StandardCharsets.UTF_8));
+        headers.add(OUTBOX_ID_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(message.id()).array());
+        return new ProducerRecord<>(topic, null, message.occurredAt().toEpochMilli(),
+                message.aggregateId().toString(), message.payload(), headers);
+    }
+
+    private static void await(Future<RecordMetadata> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish outbox batch", e);
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(maxDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package ai.pesco.delivery.infrastructure.adapter.kafka;
+
+import ai.pesco.delivery.core.application.ports.OutboxMessage;
+import ai.pesco.delivery.core.application.ports.OutboxStore;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxRelayTest {
+    private static final String TOPIC = "delivery-events";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 2, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void relay_PendingMessages_PublishesInOrderAndDeletes() {
+        InMemoryOutboxStore store = new InMemoryOutboxStore();
+        UUID aggregateId = UUID.randomUUID();
+        for (int i = 0; i < 25; i++) {
+            store.add(aggregateId, "OrderRelocatedDomainEvent", "{\"n\":" + i + "}");
+        }
+
+        try (Producer<String, byte[]> producer = OutboxRelay.createProducer(broker.getBrokersAsString(), Duration.ofMillis(5))) {
+            OutboxRelay relay = new OutboxRelay(store, producer, TOPIC, 10, Duration.ofMillis(10));
+            assertEquals(10, relay.relay());
+            assertEquals(10, relay.relay());
+            assertEquals(5, relay.relay());
+            assertEquals(0, relay.relay());
+        }
+
+        assertTrue(store.messages.isEmpty());
+        List<ConsumerRecord<String, byte[]>> records = consume(25);
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            assertEquals(aggregateId.toString(), record.key());
+            assertEquals("{\"n\":" + i + "}", new String(record.value(), StandardCharsets.UTF_8));
+            assertEquals("OrderRelocatedDomainEvent",
+                    new String(record.headers().lastHeader(OutboxRelay.EVENT_TYPE_HEADER).value(), StandardCharsets.UTF_8));
+            assertEquals(i + 1, ByteBuffer.wrap(record.headers().lastHeader(OutboxRelay.OUTBOX_ID_HEADER).value()).getLong());
+        }
+    }
+
+    @Test
+    void relay_SendFails_KeepsMessages() {
+        InMemoryOutboxStore store = new InMemoryOutboxStore();
+        store.add(UUID.randomUUID(), "OrderCreatedDomainEvent", "{}");
+        MockProducer<String, byte[]> producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        OutboxRelay relay = new OutboxRelay(store, producer, TOPIC, 10, Duration.ofMillis(10));
+
+        Thread failer = Thread.ofVirtual().start(() -> {
+            while (!producer.errorNext(new IllegalStateException("broker down"))) {
+                Thread.onSpinWait();
+            }
+        });
+
+        Exception exception = assertThrows(IllegalStateException.class, relay::relay);
+        assertEquals("Failed to publish outbox batch", exception.getMessage());
+        assertEquals(1, store.messages.size());
+        failer.interrupt();
+    }
+
+    @Test
+    void start_BackgroundRelay_DrainsOutbox() throws Exception {
+        InMemoryOutboxStore store = new InMemoryOutboxStore();
+        for (int i = 0; i < 100; i++) {
+            store.add(UUID.randomUUID(), "CourierMovedDomainEvent", "{}");
+        }
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+
+        try (OutboxRelay relay = new OutboxRelay(store, producer, TOPIC, 32, Duration.ofMillis(5))) {
+            relay.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!store.messages.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        assertTrue(store.messages.isEmpty());
+        assertEquals(100, producer.history().size());
+    }
+
+    @Test
+    void start_FailingOutbox_CountsFailuresAndKeepsRelaying() throws Exception {
+        InMemoryOutboxStore store = new InMemoryOutboxStore() {
+            @Override
+            public List<OutboxMessage> fetch(int limit) {
+                throw new IllegalStateException("Database is down");
+            }
+        };
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+
+        try (OutboxRelay relay = new OutboxRelay(store, producer, TOPIC, 32, Duration.ofMillis(5))) {
+            relay.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (relay.failures() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertTrue(relay.failures() >= 3);
+        }
+    }
+
+    @Test
+    void constructor_InvalidBatchSize_ThrowsIllegalArgumentException() {
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new OutboxRelay(new InMemoryOutboxStore(), producer, TOPIC, 0, Duration.ZERO));
+        assertEquals("Batch size must be positive", exception.getMessage());
+    }
+
+    private static List<ConsumerRecord<String, byte[]>> consume(int count) {
+        Map<String, Object> config = Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ConsumerConfig.GROUP_ID_CONFIG, UUID.randomUUID().toString(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        try (KafkaConsumer<String, byte[]> consumer =
+                     new KafkaConsumer<>(config, new StringDeserializer(), new ByteArrayDeserializer())) {
+            consumer.subscribe(List.of(TOPIC));
+            long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (records.size() < count && System.nanoTime() < deadline) {
+                consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+            }
+        }
+        assertEquals(count, records.size());
+        return records;
+    }
+
+    private static class InMemoryOutboxStore implements OutboxStore {
+        private final ConcurrentSkipListMap<Long, OutboxMessage> messages = new ConcurrentSkipListMap<>();
+        private long nextId = 1;
+
+        void add(UUID aggregateId, String type, String payload) {
+            long id = nextId++;
+            messages.put(id, new OutboxMessage(id, aggregateId, type, payload.getBytes(StandardCharsets.UTF_8), Instant.now()));
+        }
+
+        @Override
+        public List<OutboxMessage> fetch(int limit) {
+            return messages.values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public void delete(Collection<Long> ids) {
+            ids.forEach(messages::remove);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ai.pesco.delivery.infrastructure.adapter.metrics;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * One {@code delivery.couriers} gauge per {@link CourierStatus}. The counts are read from the
+ * repository when the gauges are scraped, never on the dispatch path.
+ */
+@Component
+public class CourierStatusGauges implements MeterBinder {
+    private final CourierRepository courierRepository;
+
+    public CourierStatusGauges(CourierRepository courierRepository) {
+        if (courierRepository == null) {
+            throw new IllegalArgumentException("Courier repository cannot be null");
+        }
+        this.courierRepository = courierRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CourierStatus status : CourierStatus.values()) {
+            Gauge.builder("delivery.couriers", courierRepository, repository -> repository.countByStatus(status))
+                    .description("Couriers by status")
+                    .tag("status", status.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ai.pesco.delivery.infrastructure.adapter.metrics;
+
+import ai.pesco.delivery.core.application.ports.DispatchMetrics;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the dispatch path. Every meter is registered up front and looked
+ * up by ordinal, so recording is a plain update of a pre-built meter. Wait time, travel
+ * ticks and tick latency keep HdrHistogram-backed percentiles and publish histogram buckets.
+ */
+@Component
+public class MicrometerDispatchMetrics implements DispatchMetrics {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final Counter[] transitions;
+    private final Timer orderWait;
+    private final DistributionSummary travelTicks;
+    private final Timer dispatchTick;
+
+    public MicrometerDispatchMetrics(MeterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+
+        OrderStatus[] statuses = OrderStatus.values();
+        transitions = new Counter[statuses.length];
+        for (OrderStatus status : statuses) {
+            transitions[status.ordinal()] = Counter.builder("delivery.orders.transitions")
+                    .description("Orders that entered a status")
+                    .tag("status", status.name().toLowerCase())
+                    .register(registry);
+        }
+        orderWait = Timer.builder("delivery.orders.wait")
+                .description("Time an order waited between submission and assignment")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+        travelTicks = DistributionSummary.builder("delivery.couriers.travel.ticks")
+                .description("Ticks an assigned courier needs to reach its order")
+                .baseUnit("ticks")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+        dispatchTick = Timer.builder("delivery.dispatch.tick")
+                .description("Duration of a dispatch tick")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void orderTransitioned(OrderStatus status) {
+        transitions[status.ordinal()].increment();
+    }
+
+    @Override
+    public void orderWaited(long nanos) {
+        orderWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void courierTravelTicks(int ticks) {
+        travelTicks.record(ticks);
+    }
+
+    @Override
+    public void dispatchTick(long nanos) {
+        dispatchTick.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
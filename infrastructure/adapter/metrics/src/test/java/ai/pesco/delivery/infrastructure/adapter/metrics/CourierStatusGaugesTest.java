@@ -0,0 +1,72 @@
+package ai.pesco.delivery.infrastructure.adapter.metrics;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierStatusGaugesTest {
+
+    @Test
+    void bindTo_Registry_ReportsCurrentCountPerStatus() {
+        CountingRepository repository = new CountingRepository();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CourierStatusGauges(repository).bindTo(registry);
+
+        repository.counts.put(CourierStatus.FREE, 7L);
+        repository.counts.put(CourierStatus.BUSY, 3L);
+
+        assertEquals(7, registry.get("delivery.couriers").tag("status", "free").gauge().value());
+        assertEquals(3, registry.get("delivery.couriers").tag("status", "busy").gauge().value());
+    }
+
+    @Test
+    void constructor_NullRepository_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new CourierStatusGauges(null));
+        assertEquals("Courier repository cannot be null", exception.getMessage());
+    }
+
+    private static final class CountingRepository implements CourierRepository {
+        final Map<CourierStatus, Long> counts = new EnumMap<>(CourierStatus.class);
+
+        @Override
+        public long countByStatus(CourierStatus status) {
+            return counts.getOrDefault(status, 0L);
+        }
+
+        @Override
+        public Optional<Courier> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Courier> findAllById(Collection<UUID> ids) {
+            return List.of();
+        }
+
+        @Override
+        public List<Courier> findAllFree() {
+            return List.of();
+        }
+
+        @Override
+        public Stream<Courier> streamAll() {
+            return Stream.empty();
+        }
+
+        @Override
+        public void saveAll(Collection<Courier> couriers) {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ai.pesco.delivery.infrastructure.adapter.metrics;
+
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerDispatchMetricsTest {
+    private SimpleMeterRegistry registry;
+    private MicrometerDispatchMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerDispatchMetrics(registry);
+    }
+
+    @Test
+    void orderTransitioned_EachStatus_IncrementsItsCounter() {
+        metrics.orderTransitioned(OrderStatus.CREATED);
+        metrics.orderTransitioned(OrderStatus.CREATED);
+        metrics.orderTransitioned(OrderStatus.ASSIGNED);
+
+        assertEquals(2, registry.get("delivery.orders.transitions").tag("status", "created").counter().count());
+        assertEquals(1, registry.get("delivery.orders.transitions").tag("status", "assigned").counter().count());
+        assertEquals(0, registry.get("delivery.orders.transitions").tag("status", "completed").counter().count());
+    }
+
+    @Test
+    void orderWaited_RecordedDurations_PublishesPercentiles() {
+        for (int i = 1; i <= 100; i++) {
+            metrics.orderWaited(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        Timer timer = registry.get("delivery.orders.wait").timer();
+        assertEquals(100, timer.count());
+        ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+        assertEquals(3, percentiles.length);
+        assertEquals(99, percentiles[2].value(TimeUnit.MILLISECONDS), 2);
+    }
+
+    @Test
+    void courierTravelTicks_RecordedTicks_SummarisesTicks() {
+        metrics.courierTravelTicks(3);
+        metrics.courierTravelTicks(5);
+
+        assertEquals(2, registry.get("delivery.couriers.travel.ticks").summary().count());
+        assertEquals(8, registry.get("delivery.couriers.travel.ticks").summary().totalAmount());
+    }
+
+    @Test
+    void record_WarmedUp_DoesNotAllocatePerCall() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        record(10_000);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        record(100_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Less than a byte per recording rules out per-call garbage; the remainder is histogram rotation.
+        assertTrue(allocated < 4 * 100_000, "Allocated " + allocated + " bytes");
+        assertEquals(110_000, registry.get("delivery.dispatch.tick").timer().count());
+    }
+
+    @Test
+    void constructor_NullRegistry_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new MicrometerDispatchMetrics(null));
+        assertEquals("Registry cannot be null", exception.getMessage());
+    }
+
+    private void record(int count) {
+        for (int i = 0; i < count; i++) {
+            metrics.dispatchTick(1_000 + i);
+            metrics.orderWaited(1_000 + i);
+            metrics.courierTravelTicks(i & 15);
+            metrics.orderTransitioned(OrderStatus.ASSIGNED);
+        }
+    }
+}
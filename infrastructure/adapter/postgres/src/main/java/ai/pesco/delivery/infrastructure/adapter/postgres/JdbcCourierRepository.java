@@ -0,0 +1,140 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.application.ports.CourierRepository;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Transport;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public class JdbcCourierRepository extends VersionedJdbcRepository<Courier> implements CourierRepository {
+    private static final String COLUMNS =
+            "id, name, transport_id, transport_name, transport_speed, location_x, location_y, status, order_id, route, version";
+
+    private final RowMapper<Courier> rowMapper = (resultSet, rowNum) -> {
+        UUID id = resultSet.getObject("id", UUID.class);
+        Transport transport = Transport.restore(resultSet.getObject("transport_id", UUID.class),
+                resultSet.getString("transport_name"), resultSet.getInt("transport_speed"));
+        Location location = Location.of(resultSet.getInt("location_x"), resultSet.getInt("location_y"));
+        String route = resultSet.getString("route");
+        Courier courier = route == null
+                ? Courier.restore(id, resultSet.getString("name"), transport, location,
+                        CourierStatus.valueOf(resultSet.getString("status")), resultSet.getObject("order_id", UUID.class))
+                : Courier.restore(id, resultSet.getString("name"), transport, location, parseRoute(route));
+        return loaded(courier, resultSet.getLong("version"));
+    };
+
+    @Autowired
+    public JdbcCourierRepository(NamedParameterJdbcTemplate namedJdbcTemplate, TransactionTemplate transactionTemplate) {
+        this(namedJdbcTemplate, transactionTemplate, DEFAULT_BATCH_SIZE);
+    }
+
+    public JdbcCourierRepository(NamedParameterJdbcTemplate namedJdbcTemplate, TransactionTemplate transactionTemplate,
+                                 int batchSize) {
+        super(namedJdbcTemplate, transactionTemplate, batchSize);
+    }
+
+    @Override
+    public Optional<Courier> findById(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM couriers WHERE id = ?", rowMapper, id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Courier> findAllById(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+
+        return queryByIds("SELECT " + COLUMNS + " FROM couriers WHERE id IN (:ids)", ids, rowMapper);
+    }
+
+    @Override
+    public List<Courier> findAllFree() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM couriers WHERE status = ?",
+                rowMapper, CourierStatus.FREE.name());
+    }
+
+    @Override
+    public long countByStatus(CourierStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM couriers WHERE status = ?", Long.class, status.name());
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Stream<Courier> streamAll() {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT " + COLUMNS + " FROM couriers");
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, rowMapper);
+    }
+
+    @Override
+    protected UUID idOf(Courier courier) {
+        return courier.getId();
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO couriers (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    protected String updateSql() {
+        return "UPDATE couriers SET name = ?, transport_id = ?, transport_name = ?, transport_speed = ?, "
+                + "location_x = ?, location_y = ?, status = ?, order_id = ?, route = ?, version = ? WHERE id = ? AND version = ?";
+    }
+
+    @Override
+    protected int bindColumns(PreparedStatement statement, Courier courier, int index) throws SQLException {
+        statement.setString(index, courier.getName());
+        statement.setObject(index + 1, courier.getTransport().getId());
+        statement.setString(index + 2, courier.getTransport().getName());
+        statement.setInt(index + 3, courier.getTransport().getSpeed());
+        statement.setInt(index + 4, courier.getLocation().getX());
+        statement.setInt(index + 5, courier.getLocation().getY());
+        statement.setString(index + 6, courier.getStatus().name());
+        statement.setObject(index + 7, courier.getOrderId());
+        statement.setString(index + 8, formatRoute(courier.getRoute()));
+        return index + 9;
+    }
+
+    /**
+     * The route is stored as comma-separated order ids; {@code order_id} repeats its head.
+     */
+    private static String formatRoute(List<UUID> route) {
+        if (route.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        route.forEach(orderId -> joiner.add(orderId.toString()));
+        return joiner.toString();
+    }
+
+    private static List<UUID> parseRoute(String route) {
+        return Arrays.stream(route.split(",")).map(UUID::fromString).toList();
+    }
+}
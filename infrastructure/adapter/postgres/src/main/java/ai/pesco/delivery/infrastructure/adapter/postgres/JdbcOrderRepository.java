@@ -0,0 +1,103 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.application.ports.OrderRepository;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public class JdbcOrderRepository extends VersionedJdbcRepository<Order> implements OrderRepository {
+    private static final String COLUMNS = "id, location_x, location_y, status, courier_id, version";
+
+    private final RowMapper<Order> rowMapper = (resultSet, rowNum) -> {
+        Order order = Order.restore(resultSet.getObject("id", UUID.class),
+                Location.of(resultSet.getInt("location_x"), resultSet.getInt("location_y")),
+                OrderStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("courier_id", UUID.class));
+        return loaded(order, resultSet.getLong("version"));
+    };
+
+    @Autowired
+    public JdbcOrderRepository(NamedParameterJdbcTemplate namedJdbcTemplate, TransactionTemplate transactionTemplate) {
+        this(namedJdbcTemplate, transactionTemplate, DEFAULT_BATCH_SIZE);
+    }
+
+    public JdbcOrderRepository(NamedParameterJdbcTemplate namedJdbcTemplate, TransactionTemplate transactionTemplate,
+                               int batchSize) {
+        super(namedJdbcTemplate, transactionTemplate, batchSize);
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM orders WHERE id = ?", rowMapper, id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+
+        return queryByIds("SELECT " + COLUMNS + " FROM orders WHERE id IN (:ids)", ids, rowMapper);
+    }
+
+    @Override
+    public List<Order> findAllCreated() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM orders WHERE status = ?",
+                rowMapper, OrderStatus.CREATED.name());
+    }
+
+    @Override
+    public Stream<Order> streamActive() {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT " + COLUMNS + " FROM orders WHERE status <> ?");
+            statement.setString(1, OrderStatus.COMPLETED.name());
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, rowMapper);
+    }
+
+    @Override
+    protected UUID idOf(Order order) {
+        return order.getId();
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO orders (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    protected String updateSql() {
+        return "UPDATE orders SET location_x = ?, location_y = ?, status = ?, courier_id = ?, version = ? "
+                + "WHERE id = ? AND version = ?";
+    }
+
+    @Override
+    protected int bindColumns(PreparedStatement statement, Order order, int index) throws SQLException {
+        statement.setInt(index, order.getLocation().getX());
+        statement.setInt(index + 1, order.getLocation().getY());
+        statement.setString(index + 2, order.getStatus().name());
+        statement.setObject(index + 3, order.getCourierId());
+        return index + 4;
+    }
+}
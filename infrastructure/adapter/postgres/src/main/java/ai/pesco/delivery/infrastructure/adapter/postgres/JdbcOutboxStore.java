@@ -0,0 +1,67 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.application.ports.OutboxMessage;
+import ai.pesco.delivery.core.application.ports.OutboxStore;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads the outbox written by the aggregate repositories. Rows are returned in insertion
+ * order, so events of one aggregate keep the order in which they were raised.
+ */
+@Repository
+public class JdbcOutboxStore implements OutboxStore {
+    private static final int DELETE_CHUNK = 1000;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (resultSet, rowNum) -> new OutboxMessage(
+            resultSet.getLong("id"),
+            resultSet.getObject("aggregate_id", UUID.class),
+            resultSet.getString("event_type"),
+            resultSet.getBytes("payload"),
+            resultSet.getTimestamp("occurred_at").toInstant());
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public JdbcOutboxStore(NamedParameterJdbcTemplate namedJdbcTemplate) {
+        if (namedJdbcTemplate == null) {
+            throw new IllegalArgumentException("Jdbc template cannot be null");
+        }
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<OutboxMessage> fetch(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return namedJdbcTemplate.getJdbcTemplate().query(
+                "SELECT id, aggregate_id, event_type, payload, occurred_at FROM outbox ORDER BY id LIMIT ?",
+                ROW_MAPPER, limit);
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), DELETE_CHUNK));
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == DELETE_CHUNK) {
+                namedJdbcTemplate.update("DELETE FROM outbox WHERE id IN (:ids)", Map.of("ids", chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            namedJdbcTemplate.update("DELETE FROM outbox WHERE id IN (:ids)", Map.of("ids", chunk));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Aggregate;
+import ai.pesco.delivery.core.domain.model.sharedKernel.DomainEvent;
+import ai.pesco.delivery.infrastructure.adapter.codec.WireCodec;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends the pending events of aggregates to the outbox table. Must be called inside the
+ * transaction that saves the aggregates, so events are stored if and only if the state is.
+ * Payloads are in the {@link WireCodec} binary format.
+ */
+final class OutboxWriter {
+    static final String INSERT_SQL =
+            "INSERT INTO outbox (aggregate_id, event_type, payload, occurred_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    OutboxWriter(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    void write(Collection<? extends Aggregate> aggregates) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate.hasDomainEvents()) {
+                events.addAll(aggregate.getDomainEvents());
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, (statement, event) -> {
+            statement.setObject(1, event.aggregateId());
+            statement.setString(2, event.getClass().getSimpleName());
+            statement.setBytes(3, WireCodec.encode(event));
+            statement.setTimestamp(4, Timestamp.from(event.occurredAt()));
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.domain.model.sharedKernel.Aggregate;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batched persistence with optimistic locking. Every loaded or saved aggregate carries the
+ * version of its row: aggregates without a version are inserted, the others are updated only
+ * if the row still has the version of the instance, so a stale copy fails to save even through
+ * the repository that loaded the newer one. All rows of a call are sent
+ * as JDBC batches inside one transaction, so a tick costs a few round trips instead of
+ * one per aggregate. Pending domain events are appended to the outbox in the same
+ * transaction and cleared from the aggregates once it commits.
+ */
+abstract class VersionedJdbcRepository<T extends Aggregate> {
+    static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    protected final NamedParameterJdbcTemplate namedJdbcTemplate;
+    protected final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final OutboxWriter outboxWriter;
+
+    protected VersionedJdbcRepository(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                      TransactionTemplate transactionTemplate, int batchSize) {
+        if (namedJdbcTemplate == null) {
+            throw new IllegalArgumentException("Jdbc template cannot be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("Transaction template cannot be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.outboxWriter = new OutboxWriter(jdbcTemplate, batchSize);
+    }
+
+    protected abstract UUID idOf(T aggregate);
+
+    /**
+     * Insert statement whose first parameter is the id and whose last parameter is the initial version.
+     */
+    protected abstract String insertSql();
+
+    /**
+     * Update statement of every column but the id, whose last three parameters are the new version,
+     * the id and the expected version.
+     */
+    protected abstract String updateSql();
+
+    /**
+     * Binds every column but the id and the version starting at parameter {@code index} and returns the
+     * next free parameter index.
+     */
+    protected abstract int bindColumns(PreparedStatement statement, T aggregate, int index) throws SQLException;
+
+    protected T loaded(T aggregate, long version) {
+        aggregate.setVersion(version);
+        return aggregate;
+    }
+
+    protected List<T> queryByIds(String sql, Collection<UUID> ids, RowMapper<T> rowMapper) {
+        List<T> result = new ArrayList<>(ids.size());
+        List<UUID> chunk = new ArrayList<>(Math.min(ids.size(), batchSize));
+        for (UUID id : ids) {
+            chunk.add(id);
+            if (chunk.size() == batchSize) {
+                result.addAll(namedJdbcTemplate.query(sql, Map.of("ids", chunk), rowMapper));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(namedJdbcTemplate.query(sql, Map.of("ids", chunk), rowMapper));
+        }
+        return result;
+    }
+
+    public void saveAll(Collection<T> aggregates) {
+        if (aggregates == null) {
+            throw new IllegalArgumentException("Aggregates cannot be null");
+        }
+        if (aggregates.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, T> unique = new LinkedHashMap<>();
+        for (T aggregate : aggregates) {
+            unique.put(idOf(aggregate), aggregate);
+        }
+
+        List<T> inserts = new ArrayList<>();
+        List<T> updates = new ArrayList<>();
+        for (T aggregate : unique.values()) {
+            if (aggregate.isNew()) {
+                inserts.add(aggregate);
+            } else {
+                updates.add(aggregate);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(insertSql(), inserts, batchSize, (statement, aggregate) -> {
+                    statement.setObject(1, idOf(aggregate));
+                    int index = bindColumns(statement, aggregate, 2);
+                    statement.setLong(index, 0);
+                });
+            }
+            if (!updates.isEmpty()) {
+                int[][] counts = jdbcTemplate.batchUpdate(updateSql(), updates, batchSize, (statement, aggregate) -> {
+                    int index = bindColumns(statement, aggregate, 1);
+                    statement.setLong(index, aggregate.getVersion() + 1);
+                    statement.setObject(index + 1, idOf(aggregate));
+                    statement.setLong(index + 2, aggregate.getVersion());
+                });
+                checkConflicts(updates, counts);
+            }
+            outboxWriter.write(unique.values());
+        });
+
+        unique.values().forEach(Aggregate::clearDomainEvents);
+        inserts.forEach(aggregate -> aggregate.setVersion(0));
+        updates.forEach(aggregate -> aggregate.setVersion(aggregate.getVersion() + 1));
+    }
+
+    private void checkConflicts(List<T> updates, int[][] counts) {
+        List<UUID> conflicts = new ArrayList<>();
+        int position = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    conflicts.add(idOf(updates.get(position)));
+                }
+                position++;
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new OptimisticLockingFailureException("Aggregates were changed concurrently: " + conflicts);
+        }
+    }
+}
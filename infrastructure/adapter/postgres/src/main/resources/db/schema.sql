@@ -0,0 +1,37 @@
+CREATE TABLE IF NOT EXISTS couriers
+(
+    id              UUID PRIMARY KEY,
+    name            VARCHAR(255) NOT NULL,
+    transport_id    UUID         NOT NULL,
+    transport_name  VARCHAR(255) NOT NULL,
+    transport_speed INT          NOT NULL,
+    location_x      INT          NOT NULL,
+    location_y      INT          NOT NULL,
+    status          VARCHAR(16)  NOT NULL,
+    order_id        UUID,
+    route           VARCHAR(1024),
+    version         BIGINT       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS couriers_status_idx ON couriers (status);
+
+CREATE TABLE IF NOT EXISTS orders
+(
+    id         UUID PRIMARY KEY,
+    location_x INT         NOT NULL,
+    location_y INT         NOT NULL,
+    status     VARCHAR(16) NOT NULL,
+    courier_id UUID,
+    version    BIGINT      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS orders_status_idx ON orders (status);
+
+CREATE TABLE IF NOT EXISTS outbox
+(
+    id           BIGSERIAL PRIMARY KEY,
+    aggregate_id UUID                     NOT NULL,
+    event_type   VARCHAR(128)             NOT NULL,
+    payload      BYTEA                    NOT NULL,
+    occurred_at  TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,191 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.courierAggregate.CourierStatus;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcCourierRepositoryTest {
+    private TestDatabase database;
+    private JdbcCourierRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        repository = new JdbcCourierRepository(database.jdbcTemplate, database.transactionTemplate, 16);
+    }
+
+    @Test
+    void save_NewCourier_CanBeFoundById() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+
+        repository.save(courier);
+        Courier found = newRepository().findById(courier.getId()).orElseThrow();
+
+        assertEquals(courier, found);
+        assertEquals("John", found.getName());
+        assertEquals(courier.getTransport(), found.getTransport());
+        assertEquals(2, found.getTransport().getSpeed());
+        assertEquals(Location.of(3, 4), found.getLocation());
+        assertEquals(CourierStatus.FREE, found.getStatus());
+        assertNull(found.getOrderId());
+    }
+
+    @Test
+    void save_CourierWithRoute_RestoresRouteInOrder() {
+        Courier courier = new Courier("John", "Car", 3, Location.of(3, 4));
+        Order first = new Order(UUID.randomUUID(), Location.of(5, 5));
+        Order second = new Order(UUID.randomUUID(), Location.of(7, 7));
+        courier.addToRoute(first, 0);
+        courier.addToRoute(second, 0);
+
+        repository.save(courier);
+        Courier found = newRepository().findById(courier.getId()).orElseThrow();
+
+        assertEquals(List.of(second.getId(), first.getId()), found.getRoute());
+        assertEquals(second.getId(), found.getOrderId());
+        assertEquals(CourierStatus.BUSY, found.getStatus());
+    }
+
+    @Test
+    void findById_UnknownId_ReturnsEmpty() {
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void saveAll_ChangedCouriers_UpdatesRowsAndVersions() {
+        List<Courier> couriers = couriers(100);
+        repository.saveAll(couriers);
+
+        Order order = new Order(UUID.randomUUID(), Location.of(9, 9));
+        couriers.getFirst().assignOrder(order);
+        couriers.forEach(courier -> courier.moveTo(Location.of(5, 5)));
+        repository.saveAll(couriers);
+
+        Courier busy = newRepository().findById(couriers.getFirst().getId()).orElseThrow();
+        assertEquals(CourierStatus.BUSY, busy.getStatus());
+        assertEquals(order.getId(), busy.getOrderId());
+        assertEquals(99, newRepository().findAllFree().size());
+        assertEquals(100, database.jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT count(*) FROM couriers WHERE version = 1", Integer.class));
+    }
+
+    @Test
+    void countByStatus_MixedFleet_CountsEachStatus() {
+        List<Courier> couriers = couriers(10);
+        couriers.get(3).assignOrder(new Order(UUID.randomUUID(), Location.of(9, 9)));
+        repository.saveAll(couriers);
+
+        assertEquals(9, repository.countByStatus(CourierStatus.FREE));
+        assertEquals(1, repository.countByStatus(CourierStatus.BUSY));
+    }
+
+    @Test
+    void findAllById_MoreIdsThanBatch_ReturnsAllCouriers() {
+        List<Courier> couriers = couriers(50);
+        repository.saveAll(couriers);
+
+        List<Courier> found = newRepository().findAllById(couriers.stream().map(Courier::getId).toList());
+
+        assertEquals(50, found.size());
+        assertTrue(found.containsAll(couriers));
+    }
+
+    @Test
+    void streamAll_SavedCouriers_StreamsEveryCourier() {
+        List<Courier> couriers = couriers(50);
+        repository.saveAll(couriers);
+
+        List<Courier> streamed;
+        try (Stream<Courier> stream = newRepository().streamAll()) {
+            streamed = stream.toList();
+        }
+
+        assertEquals(50, streamed.size());
+        assertTrue(streamed.containsAll(couriers));
+    }
+
+    @Test
+    void saveAll_StaleVersion_ThrowsAndRollsBackWholeBatch() {
+        List<Courier> couriers = couriers(3);
+        repository.saveAll(couriers);
+
+        JdbcCourierRepository other = newRepository();
+        Courier concurrent = other.findById(couriers.get(1).getId()).orElseThrow();
+        concurrent.moveTo(Location.of(10, 10));
+        other.save(concurrent);
+
+        couriers.forEach(courier -> courier.moveTo(Location.of(1, 10)));
+        Exception exception = assertThrows(OptimisticLockingFailureException.class, () -> repository.saveAll(couriers));
+        assertTrue(exception.getMessage().contains(couriers.get(1).getId().toString()));
+
+        Courier untouched = newRepository().findById(couriers.getFirst().getId()).orElseThrow();
+        assertEquals(couriers.getFirst().getId(), untouched.getId());
+        assertNotEquals(Location.of(1, 10), untouched.getLocation());
+    }
+
+    @Test
+    void save_StaleCopyThroughSameRepository_ThrowsOptimisticLockingFailure() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+        repository.save(courier);
+        Courier stale = repository.findById(courier.getId()).orElseThrow();
+        Courier fresh = repository.findById(courier.getId()).orElseThrow();
+
+        fresh.rename("Jane");
+        repository.save(fresh);
+        stale.moveTo(Location.of(9, 9));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.save(stale));
+        Courier stored = newRepository().findById(courier.getId()).orElseThrow();
+        assertEquals("Jane", stored.getName());
+        assertEquals(Location.of(3, 4), stored.getLocation());
+        assertEquals(1, fresh.getVersion());
+        assertEquals(0, stale.getVersion());
+    }
+
+    @Test
+    void save_NewInstanceWithStoredId_ThrowsDuplicateKey() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+        repository.save(courier);
+        Courier copy = Courier.restore(courier.getId(), "Jane", courier.getTransport(), courier.getLocation(), List.of());
+
+        assertThrows(DuplicateKeyException.class, () -> repository.save(copy));
+        assertEquals("John", repository.findById(courier.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void save_AfterReload_UsesLoadedVersion() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(3, 4));
+        repository.save(courier);
+
+        JdbcCourierRepository other = newRepository();
+        Courier loaded = other.findById(courier.getId()).orElseThrow();
+        loaded.rename("Jane");
+        other.save(loaded);
+
+        assertEquals("Jane", newRepository().findById(courier.getId()).orElseThrow().getName());
+    }
+
+    private JdbcCourierRepository newRepository() {
+        return new JdbcCourierRepository(database.jdbcTemplate, database.transactionTemplate, 16);
+    }
+
+    private static List<Courier> couriers(int count) {
+        List<Courier> couriers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            couriers.add(new Courier("Courier " + i, "Transport", i % 3 + 1, Location.of(i % 10 + 1, 1)));
+        }
+        return couriers;
+    }
+}
@@ -0,0 +1,121 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderStatus;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcOrderRepositoryTest {
+    private TestDatabase database;
+    private JdbcOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        repository = new JdbcOrderRepository(database.jdbcTemplate, database.transactionTemplate, 16);
+    }
+
+    @Test
+    void save_NewOrder_CanBeFoundById() {
+        Order order = new Order(UUID.randomUUID(), Location.of(7, 2));
+
+        repository.save(order);
+        Order found = newRepository().findById(order.getId()).orElseThrow();
+
+        assertEquals(order, found);
+        assertEquals(Location.of(7, 2), found.getLocation());
+        assertEquals(OrderStatus.CREATED, found.getStatus());
+        assertNull(found.getCourierId());
+    }
+
+    @Test
+    void saveAll_AssignedOrders_NoLongerCreated() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            orders.add(new Order(UUID.randomUUID(), Location.of(i % 10 + 1, 3)));
+        }
+        repository.saveAll(orders);
+
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        orders.subList(0, 10).forEach(order -> order.assignToCourier(courier));
+        repository.saveAll(orders);
+
+        List<Order> created = newRepository().findAllCreated();
+        assertEquals(30, created.size());
+        Order assigned = newRepository().findById(orders.getFirst().getId()).orElseThrow();
+        assertEquals(OrderStatus.ASSIGNED, assigned.getStatus());
+        assertEquals(courier.getId(), assigned.getCourierId());
+    }
+
+    @Test
+    void streamActive_MixedStatuses_SkipsCompletedOrders() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order created = new Order(UUID.randomUUID(), Location.of(1, 2));
+        Order assigned = new Order(UUID.randomUUID(), Location.of(2, 2));
+        assigned.assignToCourier(courier);
+        Order completed = new Order(UUID.randomUUID(), Location.of(3, 2));
+        completed.assignToCourier(courier);
+        completed.complete();
+        repository.saveAll(List.of(created, assigned, completed));
+
+        try (Stream<Order> active = newRepository().streamActive()) {
+            assertEquals(Set.of(created.getId(), assigned.getId()), active.map(Order::getId).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void save_StaleVersion_ThrowsOptimisticLockingFailure() {
+        Order order = new Order(UUID.randomUUID(), Location.of(7, 2));
+        repository.save(order);
+
+        JdbcOrderRepository other = newRepository();
+        Order concurrent = other.findById(order.getId()).orElseThrow();
+        concurrent.relocate(Location.of(1, 1));
+        other.save(concurrent);
+
+        order.relocate(Location.of(2, 2));
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.save(order));
+        assertEquals(Location.of(1, 1), newRepository().findById(order.getId()).orElseThrow().getLocation());
+    }
+
+    @Test
+    void save_StaleCopyThroughSameRepository_ThrowsOptimisticLockingFailure() {
+        Order order = new Order(UUID.randomUUID(), Location.of(7, 2));
+        repository.save(order);
+        Order stale = repository.findById(order.getId()).orElseThrow();
+        Order fresh = repository.findById(order.getId()).orElseThrow();
+
+        fresh.assignToCourier(new Courier("John", "Car", 2, Location.of(1, 1)));
+        repository.save(fresh);
+        stale.relocate(Location.of(2, 2));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.save(stale));
+        Order stored = newRepository().findById(order.getId()).orElseThrow();
+        assertEquals(OrderStatus.ASSIGNED, stored.getStatus());
+        assertEquals(Location.of(7, 2), stored.getLocation());
+    }
+
+    @Test
+    void findAllById_UnknownIds_AreSkipped() {
+        Order order = new Order(UUID.randomUUID(), Location.of(7, 2));
+        repository.save(order);
+
+        assertEquals(List.of(order), repository.findAllById(List.of(order.getId(), UUID.randomUUID())));
+    }
+
+    private JdbcOrderRepository newRepository() {
+        return new JdbcOrderRepository(database.jdbcTemplate, database.transactionTemplate, 16);
+    }
+}
@@ -0,0 +1,91 @@
+package ai.pesco.delivery.infrastructure.adapter.postgres;
+
+import ai.pesco.delivery.core.application.ports.OutboxMessage;
+import ai.pesco.delivery.core.domain.model.courierAggregate.Courier;
+import ai.pesco.delivery.core.domain.model.orderAggregate.Order;
+import ai.pesco.delivery.core.domain.model.orderAggregate.OrderAssignedDomainEvent;
+import ai.pesco.delivery.core.domain.model.sharedKernel.Location;
+import ai.pesco.delivery.infrastructure.adapter.codec.WireCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcOutboxStoreTest {
+    private TestDatabase database;
+    private JdbcOrderRepository orders;
+    private JdbcCourierRepository couriers;
+    private JdbcOutboxStore outbox;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        orders = new JdbcOrderRepository(database.jdbcTemplate, database.transactionTemplate, 16);
+        couriers = new JdbcCourierRepository(database.jdbcTemplate, database.transactionTemplate, 16);
+        outbox = new JdbcOutboxStore(database.jdbcTemplate);
+    }
+
+    @Test
+    void saveAll_AggregatesWithEvents_AppendsEventsInOrder() {
+        Courier courier = new Courier("John", "Car", 2, Location.of(1, 1));
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        order.assignToCourier(courier);
+        courier.assignOrder(order);
+
+        orders.save(order);
+        couriers.save(courier);
+
+        List<OutboxMessage> messages = outbox.fetch(10);
+        assertEquals(List.of("OrderCreatedDomainEvent", "OrderAssignedDomainEvent"),
+                messages.stream().map(OutboxMessage::type).toList());
+        assertEquals(order.getId(), messages.getFirst().aggregateId());
+        OrderAssignedDomainEvent assigned =
+                (OrderAssignedDomainEvent) WireCodec.readEvent(ByteBuffer.wrap(messages.get(1).payload()));
+        assertEquals(courier.getId(), assigned.courierId());
+        assertFalse(order.hasDomainEvents());
+    }
+
+    @Test
+    void saveAll_Conflict_KeepsEventsAndWritesNothing() {
+        Order order = new Order(UUID.randomUUID(), Location.of(5, 5));
+        orders.save(order);
+        outbox.delete(outbox.fetch(10).stream().map(OutboxMessage::id).toList());
+
+        JdbcOrderRepository other = new JdbcOrderRepository(database.jdbcTemplate, database.transactionTemplate);
+        Order concurrent = other.findById(order.getId()).orElseThrow();
+        concurrent.relocate(Location.of(1, 1));
+        other.save(concurrent);
+        outbox.delete(outbox.fetch(10).stream().map(OutboxMessage::id).toList());
+
+        order.relocate(Location.of(2, 2));
+        assertThrows(OptimisticLockingFailureException.class, () -> orders.save(order));
+        assertTrue(outbox.fetch(10).isEmpty());
+        assertTrue(order.hasDomainEvents());
+    }
+
+    @Test
+    void fetch_MoreThanLimit_ReturnsOldestFirst() {
+        for (int i = 0; i < 5; i++) {
+            orders.save(new Order(UUID.randomUUID(), Location.of(i + 1, 1)));
+        }
+
+        List<OutboxMessage> first = outbox.fetch(3);
+        outbox.delete(first.stream().map(OutboxMessage::id).toList());
+        List<OutboxMessage> rest = outbox.fetch(10);
+
+        assertEquals(3, first.size());
+        assertEquals(2, rest.size());
+        assertTrue(first.getLast().id() < rest.getFirst().id());
+    }
+
+    @Test
+    void fetch_InvalidLimit_ThrowsIllegalArgumentException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> outbox.fetch(0));
+        assertEquals("Limit must be positive", exception.getMessage());
+    }
+}